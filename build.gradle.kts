@@ -40,6 +40,15 @@ repositories {
 	}
 	maven("https://pkgs.dev.azure.com/djtheredstoner/DevAuth/_packaging/public/maven/v1")
 	maven("https://repo.hypixel.net/repository/Hypixel/")
+	mavenCentral()
+}
+
+/**
+ * Benchmarks for the parsers and formatters, these only use plain Minecraft classes, so they run headless without launching the game
+ */
+val jmh: SourceSet by sourceSets.creating {
+	compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+	runtimeClasspath += sourceSets.main.get().output + sourceSets.main.get().runtimeClasspath
 }
 
 dependencies {
@@ -56,7 +65,8 @@ dependencies {
 	include(modImplementation("maven.modrinth:hypixel-mod-api:${property("modapi_fabric_version")}") as Any)
 	modRuntimeOnly("me.djtheredstoner:DevAuth-fabric:1.2.1") 
 
-
+	"jmhImplementation"("org.openjdk.jmh:jmh-core:${property("jmh_version")}")
+	"jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:${property("jmh_version")}")
 }
 tasks.processResources {
 	inputs.property("version", project.version)
@@ -171,6 +181,78 @@ tasks.register("validateJson") {
 	}
 }
 
+/**
+ * Runs the benchmarks in src/jmh, a subset can be selected with -Pjmh.include=<regex>, e.g. -Pjmh.include=ActionBar
+ * Results are written to build/reports/jmh/results.json
+ */
+tasks.register<JavaExec>("jmh") {
+	group = "sbt"
+	dependsOn(jmh.classesTaskName)
+	classpath = jmh.runtimeClasspath
+	mainClass.set("org.openjdk.jmh.Main")
+	val results = layout.buildDirectory.file("reports/jmh/results.json").get().asFile
+	doFirst { results.parentFile.mkdirs() }
+	args("-rf", "json", "-rff", results.absolutePath, "-jvmArgsAppend", "-Djava.awt.headless=true")
+	project.findProperty("jmh.include")?.let { args(it.toString()) }
+}
+
+/**
+ * Replays a recording made with /sbt debug record through the parsers headless, pass it with -Preplay.file=<path>
+ * and optionally repeat it with -Preplay.iterations=<n>
+ */
+tasks.register<JavaExec>("replay") {
+	group = "sbt"
+	dependsOn(jmh.classesTaskName)
+	classpath = jmh.runtimeClasspath
+	mainClass.set("wtf.cheeze.sbt.benchmark.Replayer")
+	jvmArgs("-Djava.awt.headless=true")
+	args(project.findProperty("replay.file")?.toString() ?: "", project.findProperty("replay.iterations")?.toString() ?: "1")
+}
+
+/**
+ * Prints the draw submissions one frame of the HUD layer costs on a fixture layout, with and without batching, as modeled for 1.21.5 and 1.21.6
+ */
+tasks.register<JavaExec>("hudDraws") {
+	group = "sbt"
+	dependsOn(jmh.classesTaskName)
+	classpath = jmh.runtimeClasspath
+	mainClass.set("wtf.cheeze.sbt.benchmark.HudBatchBenchmark")
+	jvmArgs("-Djava.awt.headless=true")
+}
+
+/**
+ * Prints the bytes one frame of the HUD pass allocates while no HUD's content has changed, which should be zero
+ */
+tasks.register<JavaExec>("hudAllocations") {
+	group = "sbt"
+	dependsOn(jmh.classesTaskName)
+	classpath = jmh.runtimeClasspath
+	mainClass.set("wtf.cheeze.sbt.benchmark.HudAllocationBenchmark")
+	jvmArgs("-Djava.awt.headless=true")
+}
+
+/**
+ * Checks that the formatting helpers print the same text as the String.format and StringBuilder versions they replaced, over a sweep of inputs
+ */
+tasks.register<JavaExec>("formatCheck") {
+	group = "sbt"
+	dependsOn(jmh.classesTaskName)
+	classpath = jmh.runtimeClasspath
+	mainClass.set("wtf.cheeze.sbt.benchmark.FormatBenchmark")
+	jvmArgs("-Djava.awt.headless=true")
+}
+
+/**
+ * Checks that patching changed tab list lines into the widgets gives the same result as grouping the whole tab list, over random edits to the recorded one
+ */
+tasks.register<JavaExec>("tabListCheck") {
+	group = "sbt"
+	dependsOn(jmh.classesTaskName)
+	classpath = jmh.runtimeClasspath
+	mainClass.set("wtf.cheeze.sbt.benchmark.TabListBenchmark")
+	jvmArgs("-Djava.awt.headless=true")
+}
+
 tasks.named("processResources") {
 	mustRunAfter("validateJson")
 }
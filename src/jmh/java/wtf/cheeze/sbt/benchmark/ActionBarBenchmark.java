@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2024 MisterCheezeCake
+ *
+ * This file is part of SkyblockTweaks.
+ *
+ * SkyblockTweaks is free software: you can redistribute it
+ * and/or modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SkyblockTweaks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SkyblockTweaks. If not, see <https://www.gnu.org/licenses/>.
+ */
+package wtf.cheeze.sbt.benchmark;
+
+import net.minecraft.text.Text;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import wtf.cheeze.sbt.utils.actionbar.ActionBarTransformer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Classification, data extraction and filtering of every action bar in the corpus, each segment is parsed fresh,
+ * so these measure the cost of an action bar which differs from the previous one
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ActionBarBenchmark {
+
+    private String[] bars;
+    private Text[] texts;
+    private ActionBarTransformer.Config showAll;
+    private ActionBarTransformer.Config hideAll;
+
+    @Setup
+    public void setup() {
+        bars = Corpus.actionBars();
+        texts = new Text[bars.length];
+        for (int i = 0; i < bars.length; i++) {
+            texts[i] = Text.literal(bars[i]);
+        }
+        showAll = new ActionBarTransformer.Config();
+        hideAll = new ActionBarTransformer.Config();
+        hideAll.hideHealth = true;
+        hideAll.hideDefense = true;
+        hideAll.hideMana = true;
+        hideAll.hideAbilityUse = true;
+        hideAll.hideSkill = true;
+        hideAll.hideDrill = true;
+        hideAll.hideSecrets = true;
+        hideAll.hideTickers = true;
+        hideAll.hideRiftTime = true;
+        hideAll.hideLocation = true;
+        hideAll.hidePressure = true;
+    }
+
+    @Benchmark
+    public void classify(Blackhole blackhole) {
+        for (String bar : bars) {
+            blackhole.consume(ActionBarTransformer.classify(bar));
+        }
+    }
+
+    @Benchmark
+    public void extractData(Blackhole blackhole) {
+        for (String bar : bars) {
+            // Each bar is parsed into its own data instance, so what it holds after each bar is consumed
+            blackhole.consume(ActionBarTransformer.extractData(bar).present);
+        }
+    }
+
+    @Benchmark
+    public void runTransformations(Blackhole blackhole) {
+        for (Text text : texts) {
+            blackhole.consume(ActionBarTransformer.runTransformations(text, showAll));
+        }
+    }
+
+    @Benchmark
+    public void runTransformationsFiltered(Blackhole blackhole) {
+        for (Text text : texts) {
+            blackhole.consume(ActionBarTransformer.runTransformations(text, hideAll));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2024 MisterCheezeCake
+ *
+ * This file is part of SkyblockTweaks.
+ *
+ * SkyblockTweaks is free software: you can redistribute it
+ * and/or modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SkyblockTweaks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SkyblockTweaks. If not, see <https://www.gnu.org/licenses/>.
+ */
+package wtf.cheeze.sbt.benchmark;
+
+import wtf.cheeze.sbt.utils.tablist.TabListParser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loads the recorded lines in src/jmh/resources/corpus
+ */
+public class Corpus {
+
+    public static String[] actionBars() {
+        return lines("actionbar.txt").toArray(String[]::new);
+    }
+
+    public static List<TabListParser.Line> tabList() {
+        var entries = new ArrayList<TabListParser.Line>();
+        for (String line : lines("tablist.txt")) {
+            int tab = line.indexOf('\t');
+            entries.add(new TabListParser.Line(line.substring(0, tab), line.substring(tab + 1)));
+        }
+        return entries;
+    }
+
+    private static List<String> lines(String name) {
+        try (InputStream stream = Corpus.class.getResourceAsStream("/corpus/" + name)) {
+            if (stream == null) throw new IllegalStateException("Missing corpus file " + name);
+            var reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+            var lines = new ArrayList<String>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                // Action bars can start with a space, so only comments and empty lines are skipped
+                if (line.isEmpty() || line.startsWith("#")) continue;
+                lines.add(line);
+            }
+            return lines;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (C) 2025 MisterCheezeCake
+ *
+ * This file is part of SkyblockTweaks.
+ *
+ * SkyblockTweaks is free software: you can redistribute it
+ * and/or modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SkyblockTweaks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SkyblockTweaks. If not, see <https://www.gnu.org/licenses/>.
+ */
+package wtf.cheeze.sbt.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import wtf.cheeze.sbt.utils.NumberUtils;
+import wtf.cheeze.sbt.utils.text.FormatBuffer;
+import wtf.cheeze.sbt.utils.timing.TimeUtils;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The formatting helpers against the String.format, StringBuilder and Double.toString implementations they replaced, which are kept here as the legacy methods,
+ * and a HUD style buffer which only makes a String when its contents change.
+ * <p>
+ * Running the main method checks that both produce the same text over a sweep of inputs, run it with the formatCheck task
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatBenchmark {
+
+    private static final int[] NUMBERS = {7, 188, 1_227, 20_056_461, 345_678, 2_345_678};
+    private static final double[] ROUNDED = {58.0912, 0.455, 1227.5, 12.0, 99.999, -73.25};
+    private static final int[] SECONDS = {0, 59, 754, 3_723, 43_200, 86_399};
+
+    private final FormatBuffer buffer = new FormatBuffer();
+
+    @Benchmark
+    public void formatNumberLegacy(Blackhole blackhole) {
+        for (int number : NUMBERS) {
+            blackhole.consume(legacyFormatNumber(number, ","));
+        }
+    }
+
+    @Benchmark
+    public void formatNumber(Blackhole blackhole) {
+        for (int number : NUMBERS) {
+            blackhole.consume(NumberUtils.formatNumber(number, ","));
+        }
+    }
+
+    @Benchmark
+    public void formattedRoundLegacy(Blackhole blackhole) {
+        for (double number : ROUNDED) {
+            blackhole.consume(legacyFormattedRound(number, 0));
+            blackhole.consume(legacyFormattedRound(number, 2));
+        }
+    }
+
+    @Benchmark
+    public void formattedRound(Blackhole blackhole) {
+        for (double number : ROUNDED) {
+            blackhole.consume(NumberUtils.formattedRound(number, 0));
+            blackhole.consume(NumberUtils.formattedRound(number, 2));
+        }
+    }
+
+    @Benchmark
+    public void toDurationLegacy(Blackhole blackhole) {
+        for (int seconds : SECONDS) {
+            blackhole.consume(legacyToDuration(seconds));
+        }
+    }
+
+    @Benchmark
+    public void toDuration(Blackhole blackhole) {
+        for (int seconds : SECONDS) {
+            blackhole.consume(TimeUtils.toDuration(seconds));
+        }
+    }
+
+    @Benchmark
+    public void formatTimeLegacy(Blackhole blackhole) {
+        for (int seconds : SECONDS) {
+            blackhole.consume(legacyFormatTime(seconds, true));
+        }
+    }
+
+    @Benchmark
+    public void formatTime(Blackhole blackhole) {
+        for (int seconds : SECONDS) {
+            blackhole.consume(TimeUtils.formatTime(seconds, true));
+        }
+    }
+
+    /**
+     * The coordinates HUD line while standing still, which the HUD formats every frame
+     */
+    @Benchmark
+    public String coordinatesLegacy() {
+        return String.format("X: %s Y: %s Z: %s", legacyFormattedRound(-73.25, 1), legacyFormattedRound(64.0, 1), legacyFormattedRound(1227.5, 1));
+    }
+
+    @Benchmark
+    public String coordinates() {
+        return buffer.clear().append("X: ").appendRounded(-73.25, 1).append(" Y: ").appendRounded(64.0, 1).append(" Z: ").appendRounded(1227.5, 1).string();
+    }
+
+    public static void main(String[] args) {
+        var random = new Random(20250601L);
+        int mismatches = 0;
+        int checked = 0;
+        for (int i = 0; i < 200_000; i++) {
+            long number = switch (i % 4) {
+                case 0 -> random.nextInt(2_000);
+                case 1 -> random.nextInt();
+                case 2 -> random.nextLong();
+                default -> -random.nextInt(100_000);
+            };
+            mismatches += check("formatNumber", number, legacyFormatNumber(Long.toString(number), ","), NumberUtils.formatNumber(number, ","));
+            mismatches += check("addKOrM", number, legacyAddKOrM((int) number, ","), NumberUtils.addKOrM((int) number, ","));
+            int seconds = (int) (number % 200_000);
+            mismatches += check("toDuration", seconds, legacyToDuration(seconds), TimeUtils.toDuration(seconds));
+            mismatches += check("formatTime", seconds, legacyFormatTime(seconds, true), TimeUtils.formatTime(seconds, true));
+            mismatches += check("formatTime", seconds, legacyFormatTime(seconds, false), TimeUtils.formatTime(seconds, false));
+
+            double value = switch (i % 5) {
+                case 0 -> random.nextDouble() * 1_000;
+                case 1 -> (random.nextDouble() - 0.5) * 60_000_000;
+                case 2 -> random.nextInt(10_000) / 100.0;
+                case 3 -> random.nextGaussian() * 1e-3;
+                default -> (random.nextDouble() - 0.5) * 2e7;
+            };
+            for (int places = 0; places <= 4; places++) {
+                mismatches += check("formattedRound " + places, value, legacyFormattedRound(value, places), NumberUtils.formattedRound(value, places));
+            }
+            float progress = random.nextFloat();
+            mismatches += check("formatPercent", progress, legacyFormattedRound(progress * 100, 2) + "%", NumberUtils.formatPercent(progress));
+            checked += 11;
+        }
+        for (double special : new double[]{0.0, -0.0, 0.5, -0.5, 1.005, 2.675, 1e7 - 0.5, 9_999_999.95, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY}) {
+            for (int places = 0; places <= 4; places++) {
+                mismatches += check("formattedRound " + places, special, legacyFormattedRound(special, places), NumberUtils.formattedRound(special, places));
+                checked++;
+            }
+        }
+        System.out.println(checked + " formatted values checked, " + mismatches + " differ from the legacy helpers");
+        if (mismatches > 0) System.exit(1);
+    }
+
+    private static int check(String helper, Object input, String expected, String actual) {
+        if (expected.equals(actual)) return 0;
+        System.out.println(helper + "(" + input + "): expected \"" + expected + "\" but got \"" + actual + "\"");
+        return 1;
+    }
+
+    private static String legacyFormatNumber(int number, String separator) {
+        return legacyFormatNumber(Integer.toString(number), separator);
+    }
+
+    private static String legacyFormatNumber(String numString, String separator) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < numString.length(); i++) {
+            sb.append(numString.charAt(i));
+            if ((numString.length() - i - 1) % 3 == 0 && i != numString.length() - 1) {
+                sb.append(separator);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String legacyAddKOrM(int number, String separator) {
+        if (number >= 1_000_000) {
+            return legacyFormatNumber(number / 1_000_000, separator) + "M";
+        } else if (number >= 1_000) {
+            return legacyFormatNumber(number / 1_000, separator) + "K";
+        } else {
+            return legacyFormatNumber(number, separator);
+        }
+    }
+
+    private static String legacyFormattedRound(double number, int decimalPlaces) {
+        double rounded = Math.round(number * Math.pow(10, decimalPlaces)) / Math.pow(10, decimalPlaces);
+        return decimalPlaces == 0 ? (rounded + "").split("\\.")[0] : rounded + "";
+    }
+
+    private static String legacyToDuration(int seconds) {
+        int hours = seconds / 3600;
+        int minutes = (seconds % 3600) / 60;
+        int secs = seconds % 60;
+        if (hours < 1) {
+            if (minutes < 1) {
+                return String.format("%ds", secs);
+            } else {
+                return String.format("%dm%ds", minutes, secs);
+            }
+        } else {
+            return String.format("%dh%dm%ds", hours, minutes, secs);
+        }
+    }
+
+    private static String legacyFormatTime(int seconds, boolean hours) {
+        int hoursInt = seconds / 3600;
+        int minutes = (seconds % 3600) / 60;
+        int secs = seconds % 60;
+        if (hours) {
+            return String.format("%02d:%02d:%02d", hoursInt, minutes, secs);
+        } else {
+            return String.format("%02d:%02d", minutes, secs);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2024 MisterCheezeCake
+ *
+ * This file is part of SkyblockTweaks.
+ *
+ * SkyblockTweaks is free software: you can redistribute it
+ * and/or modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SkyblockTweaks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SkyblockTweaks. If not, see <https://www.gnu.org/licenses/>.
+ */
+package wtf.cheeze.sbt.benchmark;
+
+import net.minecraft.text.Text;
+import net.minecraft.util.Identifier;
+import org.openjdk.jmh.annotations.*;
+import wtf.cheeze.sbt.hud.cache.CacheScheduler;
+import wtf.cheeze.sbt.hud.components.SingleHudLine;
+import wtf.cheeze.sbt.hud.utils.DrawMode;
+import wtf.cheeze.sbt.utils.AllocationCounter;
+import wtf.cheeze.sbt.utils.render.Colors;
+import wtf.cheeze.sbt.utils.render.HudBatcher;
+import wtf.cheeze.sbt.utils.skyblock.Stat;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures what the steady state of the HUD pass allocates per frame when no HUD's content has changed: a new frame is started,
+ * every HUD is asked for its content version, and what each drew last is replayed into the batch and planned, as {@link wtf.cheeze.sbt.hud.cache.HudRenderCache} does.
+ * Submitting the batch needs a game to draw to and is left out.
+ * <p>
+ * Run {@link #main(String[])} for the bytes per frame, which should be zero, the benchmark itself measures the time a frame takes
+ * and can be run with -prof gc to see the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HudAllocationBenchmark {
+
+    private static final int WARMUP_FRAMES = 20_000;
+    private static final int MEASURED_FRAMES = 10_000;
+
+    private static final Identifier ICON = Identifier.of("skyblocktweaks", "icons/skill.png");
+
+    /**
+     * Stands in for the config, with colors outside the range of cached boxed integers so boxing them would show up
+     */
+    static final class Settings {
+        int color = Colors.CYAN;
+        int outlineColor = Colors.BLACK;
+        DrawMode mode = DrawMode.OUTLINE;
+    }
+
+    private Fixture fixture;
+
+    @Setup
+    public void setup() {
+        fixture = new Fixture();
+    }
+
+    @Benchmark
+    public int unchangedFrame() {
+        return fixture.frame();
+    }
+
+    public static void main(String[] args) {
+        if (!AllocationCounter.isSupported()) {
+            System.out.println("This JVM does not report per-thread allocations");
+            return;
+        }
+        var fixture = new Fixture();
+        for (int i = 0; i < WARMUP_FRAMES; i++) {
+            fixture.frame();
+        }
+        var counter = new AllocationCounter(MEASURED_FRAMES);
+        for (int i = 0; i < MEASURED_FRAMES; i++) {
+            counter.begin();
+            fixture.frame();
+            counter.end();
+        }
+        System.out.printf("Unchanged frame: %d bytes on average, %d at most, over %d frames%n", counter.average(), counter.peak(), MEASURED_FRAMES);
+    }
+
+    static final class Fixture {
+        private static final Stat[] STATS = {Stat.HEALTH, Stat.MANA, Stat.DEFENSE, Stat.OVERFLOW_MANA, Stat.DRILL_FUEL, Stat.RIFT, Stat.PRESSURE, Stat.SECRETS};
+
+        private final Settings settings = new Settings();
+        private final HudBatcher batcher = new HudBatcher();
+        private final SingleHudLine[] lines = new SingleHudLine[STATS.length];
+        private final HudBatcher.Snapshot[] snapshots = new HudBatcher.Snapshot[STATS.length];
+
+        Fixture() {
+            batcher.begin();
+            for (int i = 0; i < STATS.length; i++) {
+                var stat = STATS[i];
+                lines[i] = new SingleHudLine(
+                        () -> settings.color,
+                        () -> settings.outlineColor,
+                        () -> settings.mode,
+                        () -> Text.literal(stat.name() + ": " + stat.version()),
+                        stat
+                );
+                lines[i].contentVersion();
+                snapshots[i] = new HudBatcher.Snapshot();
+                int mark = batcher.mark();
+                if (i % 2 == 0) batcher.record(HudBatcher.QUAD, ICON, 1.0f, 1.0f, 10, 10 + i * 10);
+                batcher.record(HudBatcher.OUTLINED_TEXT, lines[i].getText(), 1.0f, 1.0f, 20, 10 + i * 10);
+                batcher.capture(mark, snapshots[i]);
+            }
+        }
+
+        int frame() {
+            CacheScheduler.nextFrame();
+            batcher.begin();
+            long version = 0;
+            for (int i = 0; i < lines.length; i++) {
+                version += lines[i].contentVersion();
+                batcher.replay(snapshots[i]);
+            }
+            batcher.plan();
+            return batcher.size() + (int) version;
+        }
+    }
+}
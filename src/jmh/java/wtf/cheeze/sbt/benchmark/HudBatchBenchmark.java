@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2024 MisterCheezeCake
+ *
+ * This file is part of SkyblockTweaks.
+ *
+ * SkyblockTweaks is free software: you can redistribute it
+ * and/or modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SkyblockTweaks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SkyblockTweaks. If not, see <https://www.gnu.org/licenses/>.
+ */
+package wtf.cheeze.sbt.benchmark;
+
+import net.minecraft.util.Identifier;
+import org.openjdk.jmh.annotations.*;
+import wtf.cheeze.sbt.utils.render.HudBatcher;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the draw submissions one frame of the HUD layer costs, with and without {@link HudBatcher}, on a fixture layout with every HUD enabled,
+ * in the order {@link wtf.cheeze.sbt.hud.HudManager} renders them. Nothing is drawn, the submissions are counted from a model of each target:
+ * <ul>
+ *     <li>1.21.5: the immediate vertex consumers draw what they have buffered whenever the render layer changes, and every texture is its own layer,
+ *     as is the font atlas</li>
+ *     <li>1.21.6: the GUI render state keeps text apart from the quads of the same layer, so only a change of texture between quads starts a new draw,
+ *     and all text is one more</li>
+ * </ul>
+ * Run {@link #main(String[])} for the counts, the benchmark itself measures the cost of recording and planning a frame.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HudBatchBenchmark {
+
+    private static final Identifier BAR_UNFILLED = Identifier.of("skyblocktweaks", "bars/unfilled.png");
+    private static final Identifier BAR_FILLED = Identifier.of("skyblocktweaks", "bars/filled.png");
+    private static final Identifier TICKER_FULL = Identifier.of("skyblocktweaks", "tickers/full.png");
+    private static final Identifier TICKER_BLANK = Identifier.of("skyblocktweaks", "tickers/blank.png");
+    private static final Identifier SKILL_ICON = Identifier.of("skyblocktweaks", "icons/skill.png");
+    private static final Identifier CHEST_ICON = Identifier.of("skyblocktweaks", "icons/chest.png");
+
+    private static final Object TEXT_LAYER = new Object();
+
+    public enum Target {
+        V1_21_5,
+        V1_21_6
+    }
+
+    @Param({"V1_21_5", "V1_21_6"})
+    public Target target;
+
+    private final HudBatcher batcher = new HudBatcher();
+
+    @Benchmark
+    public int batchedFrame() {
+        recordFixture(batcher);
+        batcher.plan();
+        return submissions(batcher, true, target);
+    }
+
+    @Benchmark
+    public int unbatchedFrame() {
+        recordFixture(batcher);
+        return submissions(batcher, false, target);
+    }
+
+    public static void main(String[] args) {
+        var batcher = new HudBatcher();
+        recordFixture(batcher);
+        batcher.plan();
+        System.out.printf("Fixture: %d entries%n", batcher.size());
+        for (Target target : Target.values()) {
+            System.out.printf("%s (modeled): %d draw submissions per frame unbatched, %d batched%n", target, submissions(batcher, false, target), submissions(batcher, true, target));
+        }
+    }
+
+    /**
+     * Counts the submissions for the recorded frame, in recorded order or in the order planned by {@link HudBatcher#plan()}
+     */
+    static int submissions(HudBatcher batcher, boolean batched, Target target) {
+        int draws = 0;
+        boolean anyText = false;
+        Object layer = null;
+        for (int position = 0; position < batcher.size(); position++) {
+            int i = batched ? batcher.order(position) : position;
+            boolean quad = batcher.kind(i) == HudBatcher.QUAD;
+            anyText |= !quad;
+            if (target == Target.V1_21_6 && !quad) continue;
+            Object current = quad ? batcher.ref(i) : TEXT_LAYER;
+            if (!current.equals(layer)) {
+                draws++;
+                layer = current;
+            }
+        }
+        if (target == Target.V1_21_6 && anyText) draws++;
+        return draws;
+    }
+
+    /**
+     * One frame of every HUD, what each draws through {@link wtf.cheeze.sbt.utils.render.RenderUtils} in the order they are registered,
+     * the Fetchur HUD's item is left out
+     */
+    static void recordFixture(HudBatcher batcher) {
+        batcher.begin();
+        bar(batcher, 1.0f, 10, 200); // Skill bar
+        quad(batcher, SKILL_ICON, 1.0f, 10, 210); // Skill HUD
+        text(batcher, HudBatcher.SHADOWED_TEXT, "+12.5 (45.2%)", 1.0f, 20, 210);
+        text(batcher, HudBatcher.SHADOWED_TEXT, "Speed: 400%", 1.0f, 10, 20); // Speed
+        text(batcher, HudBatcher.SHADOWED_TEXT, "1,234❈", 1.0f, 10, 30); // Defense
+        text(batcher, HudBatcher.SHADOWED_TEXT, "12,345❤", 1.0f, 10, 40); // EHP
+        text(batcher, HudBatcher.SHADOWED_TEXT, "92.5%", 1.0f, 10, 50); // Damage reduction
+        bar(batcher, 1.0f, 10, 220); // Drill fuel bar
+        bar(batcher, 1.5f, 300, 220); // Health bar
+        bar(batcher, 1.5f, 300, 230); // Mana bar
+        text(batcher, HudBatcher.OUTLINED_TEXT, "2,345/2,345❤", 1.5f, 300, 200); // Health
+        text(batcher, HudBatcher.OUTLINED_TEXT, "1,000/1,000✎", 1.5f, 300, 240); // Mana
+        text(batcher, HudBatcher.SHADOWED_TEXT, "300ʬ", 1.0f, 300, 250); // Overflow mana
+        text(batcher, HudBatcher.SHADOWED_TEXT, "2,500/3K", 1.0f, 10, 230); // Drill fuel
+        text(batcher, HudBatcher.SHADOWED_TEXT, "X: 12 Y: 70 Z: -34", 1.0f, 10, 60); // Coordinates
+        text(batcher, HudBatcher.SHADOWED_TEXT, "12:34:56", 1.0f, 10, 70); // Real time
+        text(batcher, HudBatcher.SHADOWED_TEXT, "FPS: 144", 1.0f, 10, 80); // FPS
+        for (int i = 0; i < 5; i++) { // Tickers
+            quad(batcher, i < 3 ? TICKER_FULL : TICKER_BLANK, 1.0f, 300 + i * 11, 180);
+        }
+        text(batcher, HudBatcher.SHADOWED_TEXT, "1,024x", 1.0f, 20, 90); // Quiver
+        text(batcher, HudBatcher.SHADOWED_TEXT, "10ᝐ", 1.0f, 10, 100); // Armor stack
+        text(batcher, HudBatcher.SHADOWED_TEXT, "45m 12sф Left", 1.0f, 10, 110); // Rift time
+        for (int i = 0; i < 6; i++) { // Mining HUD
+            text(batcher, HudBatcher.SHADOWED_TEXT, "Commission " + i + ": 45%", 0.8f, 500, 20 + i * 9);
+        }
+        text(batcher, HudBatcher.SHADOWED_TEXT, "2 Drills: 5m 12s", 1.0f, 500, 100); // Event timer
+        text(batcher, HudBatcher.SHADOWED_TEXT, "Rain: 12m 30s", 1.0f, 500, 110); // Rainmaker
+        quad(batcher, CHEST_ICON, 1.0f, 500, 120); // Secrets
+        text(batcher, HudBatcher.SHADOWED_TEXT, "Secrets: 3/7", 1.0f, 510, 120);
+        text(batcher, HudBatcher.SHADOWED_TEXT, "Fetchur:", 1.0f, 500, 130); // Fetchur
+        text(batcher, HudBatcher.SHADOWED_TEXT, "Yellow Stained Glass", 1.0f, 560, 130);
+        text(batcher, HudBatcher.SHADOWED_TEXT, "Pressure: 45%", 1.0f, 500, 140); // Pressure
+    }
+
+    private static void bar(HudBatcher batcher, float scale, int x, int y) {
+        quad(batcher, BAR_UNFILLED, scale, x, y);
+        quad(batcher, BAR_FILLED, scale, x, y);
+    }
+
+    private static void quad(HudBatcher batcher, Identifier texture, float scale, int x, int y) {
+        batcher.record(HudBatcher.QUAD, texture, scale, scale, x, y);
+    }
+
+    private static void text(HudBatcher batcher, byte kind, String text, float scale, int x, int y) {
+        batcher.record(kind, text, scale, scale, x, y);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2024 MisterCheezeCake
+ *
+ * This file is part of SkyblockTweaks.
+ *
+ * SkyblockTweaks is free software: you can redistribute it
+ * and/or modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SkyblockTweaks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SkyblockTweaks. If not, see <https://www.gnu.org/licenses/>.
+ */
+package wtf.cheeze.sbt.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import wtf.cheeze.sbt.utils.NumberUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The number parsers and formatters, the inputs are taken from the action bar and tab list corpus
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberBenchmark {
+
+    private static final String[] INTEGERS = {"188", "1,227", "20,056,461", "3k", "-24", "1,234,567"};
+    private static final String[] DECIMALS = {"2,902", "10.8", "58.09", "49.6", "1.5M", "-24"};
+    private static final String[] PERCENTAGES = {"45.5%", "DONE", "10%", "72%", "58.09"};
+    private static final int[] NUMBERS = {7, 188, 1_227, 20_056_461, 345_678, 2_345_678};
+    private static final double[] ROUNDED = {58.0912, 0.455, 1227.5, 12.0, 99.999};
+
+    @Benchmark
+    public void parseIntWithKorM(Blackhole blackhole) {
+        for (String number : INTEGERS) {
+            blackhole.consume(NumberUtils.parseIntWithKorM(number));
+        }
+    }
+
+    @Benchmark
+    public void parseFloatWithKorM(Blackhole blackhole) {
+        for (String number : DECIMALS) {
+            blackhole.consume(NumberUtils.parseFloatWithKorM(number));
+        }
+    }
+
+    @Benchmark
+    public void parsePercentage(Blackhole blackhole) {
+        for (String number : PERCENTAGES) {
+            blackhole.consume(NumberUtils.parsePercentage(number));
+        }
+    }
+
+    @Benchmark
+    public void formatNumber(Blackhole blackhole) {
+        for (int number : NUMBERS) {
+            blackhole.consume(NumberUtils.formatNumber(number, ","));
+        }
+    }
+
+    @Benchmark
+    public void addKOrM(Blackhole blackhole) {
+        for (int number : NUMBERS) {
+            blackhole.consume(NumberUtils.addKOrM(number, ","));
+        }
+    }
+
+    @Benchmark
+    public void formattedRound(Blackhole blackhole) {
+        for (double number : ROUNDED) {
+            blackhole.consume(NumberUtils.formattedRound(number, 0));
+            blackhole.consume(NumberUtils.formattedRound(number, 2));
+        }
+    }
+
+    @Benchmark
+    public void formatPercent(Blackhole blackhole) {
+        for (double number : ROUNDED) {
+            blackhole.consume(NumberUtils.formatPercent((float) number, 100));
+        }
+    }
+}
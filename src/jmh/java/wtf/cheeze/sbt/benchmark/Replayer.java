@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) 2024 MisterCheezeCake
+ *
+ * This file is part of SkyblockTweaks.
+ *
+ * SkyblockTweaks is free software: you can redistribute it
+ * and/or modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SkyblockTweaks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SkyblockTweaks. If not, see <https://www.gnu.org/licenses/>.
+ */
+package wtf.cheeze.sbt.benchmark;
+
+import net.minecraft.text.Text;
+import wtf.cheeze.sbt.SkyblockTweaks;
+import wtf.cheeze.sbt.utils.actionbar.ActionBarTransformer;
+import wtf.cheeze.sbt.utils.replay.Recording;
+import wtf.cheeze.sbt.utils.skyblock.SkyblockData;
+import wtf.cheeze.sbt.utils.tablist.TabListParser;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Pushes a recording made with /sbt debug record through the parsers at full speed, without a client or server,
+ * and reports the throughput, the allocation per input and the final {@link SkyblockData} state.
+ * The tab list is parsed once per recorded tick while in SkyblockTweaks, patching in the lines which changed as the tick handler in {@link TabListParser} does.
+ * <p>
+ * Usage: Replayer &lt;recording&gt; [iterations], or ./gradlew replay -Preplay.file=&lt;recording&gt;
+ */
+public class Replayer {
+
+    private final List<Recording.Entry> entries = new ArrayList<>();
+    /**
+     * The decoded input of each entry, so that only the parsers are measured
+     */
+    private final List<Object> inputs = new ArrayList<>();
+
+    private List<TabListParser.Line> tabList = List.of();
+    private final TabListParser.Replay tabListReplay = new TabListParser.Replay();
+    private List<String> bossBars = List.of();
+    private long actionBars;
+    private long chatLines;
+    private long tabListParses;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args[0].isEmpty()) {
+            System.err.println("Usage: Replayer <recording> [iterations]");
+            System.exit(1);
+        }
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+        SkyblockData.registerWidgetListeners();
+        var replayer = new Replayer(Path.of(args[0]));
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 1; i <= iterations; i++) {
+            replayer.actionBars = 0;
+            replayer.chatLines = 0;
+            replayer.tabListParses = 0;
+            long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            replayer.replay();
+            long elapsed = System.nanoTime() - start;
+            long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+            long total = replayer.actionBars + replayer.chatLines + replayer.tabListParses;
+            System.out.printf("Iteration %d: %d inputs (%d action bars, %d chat lines, %d tab list parses) in %.2f ms, %.0f inputs/s, %d bytes/input%n",
+                    i, total, replayer.actionBars, replayer.chatLines, replayer.tabListParses,
+                    elapsed / 1e6, total / (elapsed / 1e9), total == 0 ? 0 : allocated / total);
+        }
+        printState();
+    }
+
+    public Replayer(Path path) throws IOException {
+        Recording.read(path, entry -> {
+            entries.add(entry);
+            inputs.add(switch (entry.kind()) {
+                case ACTION_BAR, CHAT -> Text.literal(entry.fields()[0]);
+                case TAB_LIST -> {
+                    var lines = new ArrayList<TabListParser.Line>(entry.fields().length / 2);
+                    for (int i = 0; i + 1 < entry.fields().length; i += 2) {
+                        lines.add(new TabListParser.Line(entry.fields()[i], entry.fields()[i + 1]));
+                    }
+                    yield lines;
+                }
+                case BOSS_BARS -> Arrays.asList(entry.fields());
+                case LOCATION -> entry.fields();
+            });
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    public void replay() {
+        if (entries.isEmpty()) return;
+        int tick = entries.getFirst().tick();
+        for (int i = 0; i < entries.size(); i++) {
+            var entry = entries.get(i);
+            while (tick < entry.tick()) {
+                endTick();
+                tick++;
+            }
+            var input = inputs.get(i);
+            switch (entry.kind()) {
+                case ACTION_BAR -> {
+                    ActionBarTransformer.parseActionBar((Text) input);
+                    actionBars++;
+                }
+                case CHAT -> {
+                    SkyblockData.onGameMessage((Text) input);
+                    chatLines++;
+                }
+                case TAB_LIST -> tabList = (List<TabListParser.Line>) input;
+                case BOSS_BARS -> bossBars = (List<String>) input;
+                case LOCATION -> {
+                    var fields = (String[]) input;
+                    SkyblockData.updateLocation(fields[0], Boolean.parseBoolean(fields[1]), fields[2]);
+                }
+            }
+        }
+        endTick();
+    }
+
+    private void endTick() {
+        if (!SkyblockData.inSB) return;
+        SkyblockData.update(tabListReplay.accept(tabList), bossBars);
+        tabListParses++;
+    }
+
+    private static void printState() {
+        System.out.println("Final state:");
+        for (Class<?> type : List.of(SkyblockData.class, SkyblockData.Stats.class, SkyblockData.Party.class)) {
+            for (Field field : type.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (!Modifier.isStatic(modifiers) || !Modifier.isPublic(modifiers) || Modifier.isFinal(modifiers)) continue;
+                try {
+                    Object value = field.get(null);
+                    if (value instanceof String || value instanceof Number || value instanceof Boolean || value instanceof Enum<?> || value == null) {
+                        System.out.printf("  %s.%s = %s%n", type.getSimpleName(), field.getName(), value);
+                    }
+                } catch (IllegalAccessException ignored) {
+                    // Only public fields are printed
+                }
+            }
+        }
+        System.out.println("  SkyblockData.tabData.activeWidgets = " + SkyblockData.tabData.activeWidgets);
+        System.out.println("  SkyblockData.miningData = " + SkyblockTweaks.GSON.toJson(SkyblockData.miningData));
+    }
+}
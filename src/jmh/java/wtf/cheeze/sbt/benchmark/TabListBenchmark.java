@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2024 MisterCheezeCake
+ *
+ * This file is part of SkyblockTweaks.
+ *
+ * SkyblockTweaks is free software: you can redistribute it
+ * and/or modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SkyblockTweaks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SkyblockTweaks. If not, see <https://www.gnu.org/licenses/>.
+ */
+package wtf.cheeze.sbt.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import wtf.cheeze.sbt.utils.CheezePair;
+import wtf.cheeze.sbt.utils.skyblock.MiningData;
+import wtf.cheeze.sbt.utils.tablist.TabListData;
+import wtf.cheeze.sbt.utils.tablist.TabListParser;
+import wtf.cheeze.sbt.utils.tablist.WidgetType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stage 1 grouping of the recorded tab list and the commission parsing done on its output.
+ * <p>
+ * Running the main method checks that patching in changed lines with {@link TabListParser.Replay} gives the same widgets as grouping the whole list,
+ * over random edits to the recorded tab list, run it with the tabListCheck task
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TabListBenchmark {
+
+    private List<TabListParser.Line> lines;
+    private List<String> commissions;
+
+    @Setup
+    public void setup() {
+        lines = Corpus.tabList();
+        commissions = TabListParser.groupLines(lines).widgetLines.get(WidgetType.COMMISSIONS);
+        if (commissions == null) throw new IllegalStateException("The tab list corpus has no commissions widget");
+    }
+
+    @Benchmark
+    public TabListData groupLines() {
+        return TabListParser.groupLines(lines);
+    }
+
+    @Benchmark
+    public CheezePair<String, Float>[] parseCommissions() {
+        return MiningData.parseCommissions(commissions);
+    }
+
+    /**
+     * Contents the edits pick from, covering headers, body lines, blank lines and the Info column header
+     */
+    private static final String[] EDITS = {" ", "", "Info", " Mithril Powder: 5", "Commissions:", "Area: Hub", " foo: 1", "Powders:", "Unknown:", ":y", "Area:", "Skill: Mining 50%", " bar"};
+
+    public static void main(String[] args) {
+        var recorded = Corpus.tabList();
+        var random = new Random(20250601L);
+        var replay = new TabListParser.Replay();
+        var lines = new ArrayList<>(recorded);
+        replay.accept(List.copyOf(lines));
+        int mismatches = 0;
+        int checked = 0;
+        for (int i = 0; i < 200_000; i++) {
+            int edits = 1 + random.nextInt(3);
+            for (int e = 0; e < edits; e++) {
+                int index = random.nextInt(lines.size());
+                var old = lines.get(index);
+                int kind = random.nextInt(10);
+                String content;
+                if (kind < 6 && old.content().startsWith(" ")) content = " " + old.content().trim() + random.nextInt(100);
+                else if (kind < 8) content = EDITS[random.nextInt(EDITS.length)];
+                else content = old.content();
+                lines.set(index, new TabListParser.Line(old.profileName(), content));
+            }
+            // Now and then the list is reset towards the recording, so the edits do not drift too far from a real tab list
+            if (random.nextInt(20) == 0) {
+                for (int j = 0; j < lines.size(); j++) {
+                    if (random.nextInt(5) == 0) lines.set(j, recorded.get(j));
+                }
+            }
+            var snapshot = List.copyOf(lines);
+            var expected = TabListParser.groupLines(snapshot).widgetLines;
+            var actual = replay.accept(snapshot).widgetLines;
+            checked++;
+            if (!expected.equals(actual)) {
+                mismatches++;
+                System.out.println("Edit " + i + ": expected " + expected + " but got " + actual);
+            }
+        }
+        System.out.println(checked + " edited tab lists checked, " + mismatches + " differ from grouping the whole list");
+        if (mismatches > 0) System.exit(1);
+    }
+}
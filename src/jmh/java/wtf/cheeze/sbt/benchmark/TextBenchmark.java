@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2024 MisterCheezeCake
+ *
+ * This file is part of SkyblockTweaks.
+ *
+ * SkyblockTweaks is free software: you can redistribute it
+ * and/or modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SkyblockTweaks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SkyblockTweaks. If not, see <https://www.gnu.org/licenses/>.
+ */
+package wtf.cheeze.sbt.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import wtf.cheeze.sbt.utils.tablist.TabListParser;
+import wtf.cheeze.sbt.utils.text.TextUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formatting code removal on the formatted action bars and the tab list, which has almost no codes left in it
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextBenchmark {
+
+    private String[] actionBars;
+    private String[] tabList;
+
+    @Setup
+    public void setup() {
+        actionBars = Corpus.actionBars();
+        tabList = Corpus.tabList().stream().map(TabListParser.Line::content).toArray(String[]::new);
+    }
+
+    @Benchmark
+    public void removeFormattingActionBar(Blackhole blackhole) {
+        for (String bar : actionBars) {
+            blackhole.consume(TextUtils.removeFormatting(bar));
+        }
+    }
+
+    @Benchmark
+    public void removeFormattingTabList(Blackhole blackhole) {
+        for (String line : tabList) {
+            blackhole.consume(TextUtils.removeFormatting(line));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2024 MisterCheezeCake
+ *
+ * This file is part of SkyblockTweaks.
+ *
+ * SkyblockTweaks is free software: you can redistribute it
+ * and/or modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SkyblockTweaks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SkyblockTweaks. If not, see <https://www.gnu.org/licenses/>.
+ */
+package wtf.cheeze.sbt.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import wtf.cheeze.sbt.utils.timing.TimeUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Duration parsing and the clock style formatting used by the timer HUDs
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimeBenchmark {
+
+    private static final String[] DURATIONS = {"59s", "45m", "1h2m3s", "12h", "3m7s"};
+    private static final int[] SECONDS = {0, 59, 754, 3_723, 43_200, 86_399};
+
+    @Benchmark
+    public void parseDuration(Blackhole blackhole) {
+        for (String duration : DURATIONS) {
+            blackhole.consume(TimeUtils.parseDuration(duration));
+        }
+    }
+
+    @Benchmark
+    public void toDuration(Blackhole blackhole) {
+        for (int seconds : SECONDS) {
+            blackhole.consume(TimeUtils.toDuration(seconds));
+        }
+    }
+
+    @Benchmark
+    public void formatTime(Blackhole blackhole) {
+        for (int seconds : SECONDS) {
+            blackhole.consume(TimeUtils.formatTime(seconds, true));
+            blackhole.consume(TimeUtils.formatTime(seconds, false));
+        }
+    }
+}
@@ -35,6 +35,8 @@ import wtf.cheeze.sbt.features.misc.MouseLock;
 import wtf.cheeze.sbt.features.overlay.ReforgeOverlay;
 import wtf.cheeze.sbt.hud.HudManager;
 import wtf.cheeze.sbt.utils.KillSwitch;
+import wtf.cheeze.sbt.utils.errors.ErrorHandler;
+import wtf.cheeze.sbt.utils.render.TextRun;
 import wtf.cheeze.sbt.utils.skyblock.SkyblockData;
 import wtf.cheeze.sbt.utils.text.NotificationHandler;
 import wtf.cheeze.sbt.utils.version.UpdateChecker;
@@ -44,6 +46,7 @@ import wtf.cheeze.sbt.utils.constants.loader.ConstantLoader;
 import wtf.cheeze.sbt.utils.skyblock.ModAPI;
 import wtf.cheeze.sbt.utils.skyblock.ProfileManager;
 import wtf.cheeze.sbt.utils.tablist.TabListParser;
+import wtf.cheeze.sbt.utils.replay.InputRecorder;
 import wtf.cheeze.sbt.features.chat.*;
 import wtf.cheeze.sbt.utils.version.VersionType;
 
@@ -62,8 +65,10 @@ public class SkyblockTweaks implements ModInitializer {
 		PersistentData.registerEvents();
 
 		KillSwitch.registerEvents();
+		ErrorHandler.registerEvents();
 		ConstantLoader.registerEvents();
 		HudManager.registerEvents();
+		TextRun.registerEvents();
 		SBTCommand.registerEvents();
 		ActionBarTransformer.registerEvents();
 		SkyblockData.registerEvents();
@@ -73,6 +78,7 @@ public class SkyblockTweaks implements ModInitializer {
 		ChatProtections.registerEvents();
 		ProfileManager.registerEvents();
 		TabListParser.registerEvents();
+		InputRecorder.registerEvents();
 		MouseLock.registerEvents();
 		MenuHighlights.registerEvents();
 		MinionExp.registerEvents();
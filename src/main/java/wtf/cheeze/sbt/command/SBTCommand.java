@@ -39,6 +39,8 @@ import wtf.cheeze.sbt.hud.screen.HudScreen;
 import wtf.cheeze.sbt.mixin.accessors.BossBarHudAccessor;
 import wtf.cheeze.sbt.utils.skyblock.ItemUtils;
 import wtf.cheeze.sbt.utils.text.MessageManager;
+import wtf.cheeze.sbt.utils.AllocationCounter;
+import wtf.cheeze.sbt.utils.FrameProfiler;
 import wtf.cheeze.sbt.utils.NumberUtils;
 import wtf.cheeze.sbt.utils.text.TextUtils;
 import wtf.cheeze.sbt.utils.timing.TimeUtils;
@@ -51,7 +53,10 @@ import wtf.cheeze.sbt.utils.errors.ErrorLevel;
 import wtf.cheeze.sbt.utils.render.Colors;
 import wtf.cheeze.sbt.utils.skyblock.SkyblockData;
 import wtf.cheeze.sbt.utils.skyblock.SkyblockData.Stats;
+import wtf.cheeze.sbt.utils.skyblock.Stat;
 import wtf.cheeze.sbt.utils.skyblock.SkyblockUtils;
+import wtf.cheeze.sbt.utils.actionbar.ActionBarTransformer;
+import wtf.cheeze.sbt.utils.replay.InputRecorder;
 import wtf.cheeze.sbt.utils.tablist.TabListParser;
 import wtf.cheeze.sbt.utils.version.UpdateChecker;
 import wtf.cheeze.sbt.utils.version.Version;
@@ -347,11 +352,15 @@ public class SBTCommand {
                                                                                 SkyblockData.Party.inParty = Boolean.parseBoolean(value);
                                                                         case "leader" ->
                                                                                 SkyblockData.Party.leader = Boolean.parseBoolean(value);
-                                                                        case "currentProfile" ->
-                                                                                SkyblockData.currentProfile = value;
+                                                                        case "currentProfile" -> {
+                                                                            SkyblockData.currentProfile = value;
+                                                                            Stat.SKILL.changed();
+                                                                        }
                                                                         case "mode" -> SkyblockData.mode = value;
-                                                                        case "riftSeconds" ->
-                                                                                Stats.riftSeconds = Integer.parseInt(value);
+                                                                        case "riftSeconds" -> {
+                                                                            Stats.riftSeconds = Integer.parseInt(value);
+                                                                            Stat.RIFT.changed();
+                                                                        }
                                                                         default -> {
                                                                             send(context, INVALID);
                                                                             return 0;
@@ -452,6 +461,16 @@ public class SBTCommand {
                                                     return 1;
                                                 }))
                                         )
+                                        .then(literal("copyError").then(argument("message", IntegerArgumentType.integer())
+                                                .executes(context -> {
+                                                    if (ErrorHandler.copyStackTrace(IntegerArgumentType.getInteger(context, "message"))) {
+                                                        send(context, TextUtils.withColor("Copied the stack trace", Colors.CYAN));
+                                                        return 1;
+                                                    }
+                                                    send(context, TextUtils.withColor("That error is no longer available", Colors.RED));
+                                                    return 0;
+                                                }))
+                                        )
                                         .then(literal("pickaxe").executes(context -> {
                                             if (ItemUtils.isPickaxe(context.getSource().getClient().player.getMainHandStack().getItem())) {
                                                 send(context, TextUtils.withColor("You are holding a pickaxe", Colors.LIME));
@@ -533,8 +552,76 @@ public class SBTCommand {
                                                     MessageManager.send("Tablist data dumped to logs", Colors.CYAN);
                                                     return 1;
                                                 })
-
-
+                                                .then(literal("watch").executes(context -> {
+                                                    TabListParser.logWidgetChanges = !TabListParser.logWidgetChanges;
+                                                    MessageManager.send(TabListParser.logWidgetChanges ? "Logging tab list widget changes" : "No longer logging tab list widget changes", Colors.CYAN);
+                                                    return 1;
+                                                }))
+                                        )
+                                        .then(literal("dumpActionBar").executes(context -> {
+                                                    SkyblockTweaks.LOGGER.info(ActionBarTransformer.getLastData().toJson());
+                                                    MessageManager.send("Action bar data dumped to logs", Colors.CYAN);
+                                                    return 1;
+                                                })
+                                        )
+                                        .then(literal("allocations").executes(context -> {
+                                                    if (!AllocationCounter.isSupported()) {
+                                                        send(context, TextUtils.withColor("This JVM does not report per-thread allocations", Colors.RED));
+                                                        return 0;
+                                                    }
+                                                    HudManager.showAllocations = !HudManager.showAllocations;
+                                                    HudManager.RENDER_ALLOCATIONS.reset();
+                                                    HudManager.SUBMIT_ALLOCATIONS.reset();
+                                                    send(context, TextUtils.withColor(HudManager.showAllocations ? "Showing HUD allocations per frame" : "No longer showing HUD allocations", Colors.CYAN));
+                                                    return 1;
+                                                })
+                                        )
+                                        .then(literal("perf").executes(context -> {
+                                                    FrameProfiler.enabled = !FrameProfiler.enabled;
+                                                    FrameProfiler.reset();
+                                                    send(context, TextUtils.withColor(FrameProfiler.enabled ? "Profiling HUD frame times, run /sbt debug perf dump to print them" : "No longer profiling HUD frame times", Colors.CYAN));
+                                                    return 1;
+                                                })
+                                                .then(literal("dump").executes(context -> {
+                                                    if (!FrameProfiler.enabled) {
+                                                        send(context, TextUtils.withColor("Profiling is off, run /sbt debug perf first", Colors.RED));
+                                                        return 0;
+                                                    }
+                                                    send(context, TextUtils.withColor("Frame Times", Colors.CYAN));
+                                                    for (var line : FrameProfiler.report(Integer.MAX_VALUE)) {
+                                                        context.getSource().sendFeedback(TextUtils.withColor(line.getString(), Colors.YELLOW));
+                                                        SkyblockTweaks.LOGGER.info(line.getString());
+                                                    }
+                                                    return 1;
+                                                }))
+                                        )
+                                        .then(literal("hudcache").executes(context -> {
+                                                    send(context, TextUtils.withColor("HUD Render Cache", Colors.CYAN));
+                                                    for (var hud : HudManager.HUDS) {
+                                                        var cache = hud.renderCache;
+                                                        if (!cache.isEnabled()) continue;
+                                                        context.getSource().sendFeedback(CommandUtils.getDebugText(hud.getClass().getSimpleName(),
+                                                                NumberUtils.formatPercent(cache.hitRate()) + " (" + cache.hits() + " hits, " + cache.misses() + " misses)"));
+                                                        cache.resetStats();
+                                                    }
+                                                    return 1;
+                                                })
+                                        )
+                                        .then(literal("record").executes(context -> {
+                                                    if (InputRecorder.isRecording()) {
+                                                        var path = InputRecorder.stop();
+                                                        send(context, TextUtils.withColor("Saved input recording to " + path.getFileName(), Colors.CYAN));
+                                                        return 1;
+                                                    }
+                                                    try {
+                                                        var path = InputRecorder.start();
+                                                        send(context, TextUtils.withColor("Recording inputs to " + path.getFileName() + ", run the command again to stop", Colors.LIME));
+                                                        return 1;
+                                                    } catch (Exception e) {
+                                                        ErrorHandler.handle(e, "Failed to start input recording", ErrorLevel.WARNING);
+                                                        return 0;
+                                                    }
+                                                })
                                         ).executes(context -> {
                                             var source = context.getSource();
 //                                            ModAPI.requestPartyInfo();
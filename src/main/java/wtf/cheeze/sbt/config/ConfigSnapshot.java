@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2025 MisterCheezeCake
+ *
+ * This file is part of SkyblockTweaks.
+ *
+ * SkyblockTweaks is free software: you can redistribute it
+ * and/or modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SkyblockTweaks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SkyblockTweaks. If not, see <https://www.gnu.org/licenses/>.
+ */
+package wtf.cheeze.sbt.config;
+
+import wtf.cheeze.sbt.hud.HUD;
+import wtf.cheeze.sbt.hud.HudManager;
+import wtf.cheeze.sbt.hud.utils.AnchorPoint;
+import wtf.cheeze.sbt.hud.utils.HudInformation;
+
+import java.util.List;
+
+/**
+ * An immutable copy of the config values read every frame, flattened into plain fields so the HUD pass and the vanilla HUD hooks
+ * read them without going through the config handler, the nested config objects or the {@link HudInformation} suppliers.
+ * <p>
+ * A new snapshot is built whenever the config is saved and whenever a HUD is moved or scaled in the HUD screen, and published through a single volatile field,
+ * so a reader always sees one complete snapshot
+ */
+public final class ConfigSnapshot {
+
+    private static volatile ConfigSnapshot current = null;
+
+    /**
+     * Where each HUD is drawn, indexed by the slot it was registered in, see {@link HudManager#register(HUD)}
+     */
+    private final Placement[] placements;
+
+    public final boolean noRenderBossBar;
+    public final boolean noRenderArmor;
+    public final boolean noRenderHearts;
+    public final boolean showHeartsInRift;
+    public final boolean noRenderHunger;
+    public final boolean noRenderPotionOverlay;
+    public final boolean noRenderMountHealth;
+    public final boolean noShadowActionBar;
+    public final boolean noRenderPotionHud;
+
+    private ConfigSnapshot(ConfigImpl config, List<HUD> huds) {
+        this.placements = new Placement[huds.size()];
+        for (int i = 0; i < placements.length; i++) {
+            placements[i] = Placement.of(huds.get(i).INFO);
+        }
+        var tweaks = config.hudTweaks;
+        this.noRenderBossBar = tweaks.noRenderBossBar;
+        this.noRenderArmor = tweaks.noRenderArmor;
+        this.noRenderHearts = tweaks.noRenderHearts;
+        this.showHeartsInRift = tweaks.showHearsInRift;
+        this.noRenderHunger = tweaks.noRenderHunger;
+        this.noRenderPotionOverlay = tweaks.noRenderPotionOverlay;
+        this.noRenderMountHealth = tweaks.noRenderMountHealth;
+        this.noShadowActionBar = tweaks.noShadowActionBar;
+        this.noRenderPotionHud = config.inventory.noRenderPotionHud;
+    }
+
+    public static void registerEvents() {
+        SBTConfig.CONFIG_SAVE.register(ConfigSnapshot::publish);
+    }
+
+    public static ConfigSnapshot get() {
+        var snapshot = current;
+        return snapshot != null ? snapshot : publish();
+    }
+
+    /**
+     * Builds a new snapshot from the live config and makes it the current one
+     */
+    public static ConfigSnapshot publish() {
+        var snapshot = new ConfigSnapshot(SBTConfig.get(), HudManager.HUDS);
+        current = snapshot;
+        return snapshot;
+    }
+
+    /**
+     * @param slot the slot the HUD was registered in
+     * @return where the HUD is drawn, building a new snapshot first if the HUD was registered after the current one was built
+     */
+    public static Placement placement(int slot) {
+        var snapshot = get();
+        if (slot >= snapshot.placements.length) snapshot = publish();
+        return snapshot.placements[slot];
+    }
+
+    public record Placement(float x, float y, float scale, AnchorPoint anchor) {
+        public static Placement of(HudInformation info) {
+            return new Placement(info.getX.get(), info.getY.get(), info.getScale.get(), info.getAnchorPoint.get());
+        }
+    }
+}
@@ -23,6 +23,7 @@ import dev.isxander.yacl3.config.v2.api.SerialEntry;
 import net.minecraft.text.Text;
 import wtf.cheeze.sbt.config.ConfigImpl;
 import wtf.cheeze.sbt.features.huds.*;
+import wtf.cheeze.sbt.hud.cache.HudRenderCache;
 
 public class Huds {
 
@@ -96,6 +97,9 @@ public class Huds {
     @SerialEntry
     public PressureHud.Config pressure = new PressureHud.Config();
 
+    @SerialEntry
+    public HudRenderCache.Config renderCache = new HudRenderCache.Config();
+
 
 
     public static ConfigCategory getCategory(ConfigImpl defaults, ConfigImpl config) {
@@ -125,6 +129,7 @@ public class Huds {
                 .group(RainmakerHud.Config.getGroup(defaults, config))
                 .group(SecretsHud.Config.getGroup(defaults, config))
                 .group(PressureHud.Config.getGroup(defaults, config))
+                .group(HudRenderCache.Config.getGroup(defaults, config))
                 .build();
     }
 }
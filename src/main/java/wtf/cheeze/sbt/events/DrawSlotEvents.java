@@ -23,13 +23,17 @@ import net.fabricmc.fabric.api.event.EventFactory;
 import net.minecraft.client.gui.DrawContext;
 import net.minecraft.screen.slot.Slot;
 import net.minecraft.text.Text;
+import wtf.cheeze.sbt.utils.FrameProfiler;
 
 public class DrawSlotEvents {
 
     public static Event<OnDrawSlot> BEFORE_ITEM = EventFactory.createArrayBacked(OnDrawSlot.class, listeners -> (screenTitle, context, slot) -> {
+        boolean timed = FrameProfiler.enabled;
+        long start = timed ? System.nanoTime() : 0;
         for (OnDrawSlot listener : listeners) {
             listener.onDrawSlot(screenTitle, context, slot);
         }
+        if (timed) FrameProfiler.SLOT_DRAW.record(System.nanoTime() - start);
     });
 
 
@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2025 MisterCheezeCake
+ *
+ * This file is part of SkyblockTweaks.
+ *
+ * SkyblockTweaks is free software: you can redistribute it
+ * and/or modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SkyblockTweaks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SkyblockTweaks. If not, see <https://www.gnu.org/licenses/>.
+ */
+package wtf.cheeze.sbt.events;
+
+import net.fabricmc.fabric.api.event.Event;
+import net.fabricmc.fabric.api.event.EventFactory;
+import wtf.cheeze.sbt.utils.tablist.WidgetType;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fired when the tab list data given to {@link wtf.cheeze.sbt.utils.skyblock.SkyblockData#update(wtf.cheeze.sbt.utils.tablist.TabListData)} changes,
+ * once for each widget whose lines are different from the last update. Consumers register for the widgets they read
+ * rather than looking at the whole tab list every tick
+ */
+public class TabListEvents {
+
+    private static final Map<WidgetType, Event<OnWidgetChange>> WIDGETS = new EnumMap<>(WidgetType.class);
+
+    static {
+        for (WidgetType type : WidgetType.values()) {
+            WIDGETS.put(type, create());
+        }
+    }
+
+    /**
+     * Fired for every widget which changes, after the event for that widget
+     */
+    public static final Event<OnWidgetChange> ANY_WIDGET = create();
+
+    /**
+     * @return the event fired when the given widget changes
+     */
+    public static Event<OnWidgetChange> widget(WidgetType type) {
+        return WIDGETS.get(type);
+    }
+
+    private static Event<OnWidgetChange> create() {
+        return EventFactory.createArrayBacked(OnWidgetChange.class, listeners -> (widget, oldLines, newLines) -> {
+            for (OnWidgetChange listener : listeners) {
+                listener.onWidgetChange(widget, oldLines, newLines);
+            }
+        });
+    }
+
+    @FunctionalInterface
+    public interface OnWidgetChange {
+        /**
+         * @param oldLines the widget's lines before the change, empty if it was not shown
+         * @param newLines the widget's lines now, empty if it is no longer shown
+         */
+        void onWidgetChange(WidgetType widget, List<String> oldLines, List<String> newLines);
+    }
+}
@@ -27,12 +27,13 @@ import wtf.cheeze.sbt.config.ConfigImpl;
 import wtf.cheeze.sbt.config.SBTConfig;
 import wtf.cheeze.sbt.utils.KillSwitch;
 import wtf.cheeze.sbt.utils.text.MessageManager;
-import wtf.cheeze.sbt.utils.timing.TimedValue;
+import wtf.cheeze.sbt.utils.timing.ExpiringMap;
 import wtf.cheeze.sbt.utils.render.Colors;
 
 import static wtf.cheeze.sbt.config.categories.Chat.key;
 import static wtf.cheeze.sbt.config.categories.Chat.keyD;
 
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 public class ChatProtections {
@@ -42,9 +43,10 @@ public class ChatProtections {
     private static final String GUILD_LEAVE_ID = "chat_protections_guild_leave";
 
 
-    private static TimedValue<String> lastMessageCoop = TimedValue.of(null);
-    private static TimedValue<String> lastMessageIp = TimedValue.of(null);
-    private static TimedValue<Boolean> lastMessageGuildLeave = TimedValue.of(null);
+    /**
+     * The message each protection is waiting to see again to confirm, keyed by the protection's id
+     */
+    private static final ExpiringMap<String, String> pendingConfirmations = new ExpiringMap<>(5, TimeUnit.SECONDS);
     //TODO: Switch this away from legacy formatting
     private static final String BASE_COOP_MESSAGE = "§cAre you sure you want to invite §e%s §cto your island? They will have complete access and you may not be able to remove them! Run the command again to add them.";
     private static final Pattern IP_PATTERN = Pattern.compile("(?:[0-9]{1,3}\\.){3}[0-9]{1,3}");
@@ -59,10 +61,10 @@ public class ChatProtections {
                     // If the killswitch is enabled, we don't want to act on the message
                     return true;
                 }
-                if (lastMessageCoop.getValue() != null && lastMessageCoop.getValue().equals(message)) {
+                if (message.equals(pendingConfirmations.get(COOP_ID))) {
                     return true;
                 }
-                lastMessageCoop = TimedValue.of(message, 5000);
+                pendingConfirmations.put(COOP_ID, message);
                 MessageManager.send(String.format(BASE_COOP_MESSAGE, message.split(" ")[1]));
                 return false;
             } else if ((trimmed.equals("g leave") || trimmed.equals("guild leave")) && SBTConfig.get().chatProtections.guildLeave) {
@@ -70,11 +72,10 @@ public class ChatProtections {
                     // If the killswitch is enabled, we don't want to act on the message
                     return true;
                 }
-                if (lastMessageGuildLeave.getValue() != null) {
-                    lastMessageGuildLeave = TimedValue.of(null);
+                if (pendingConfirmations.remove(GUILD_LEAVE_ID) != null) {
                     return true;
                 }
-                lastMessageGuildLeave = TimedValue.of(true, 5000);
+                pendingConfirmations.put(GUILD_LEAVE_ID, trimmed);
                 MessageManager.send("Are you sure you want to leave your guild? Run the command again to confirm.", Colors.RED);
                 return false;
             } else if (SBTConfig.get().chatProtections.ip) {
@@ -111,10 +112,10 @@ public class ChatProtections {
      * @param address Whether it's "ip" or an ip adress
      */
     private static boolean handleIpMessage(String message, boolean address) {
-        if (lastMessageIp.getValue() != null && lastMessageIp.getValue().equals(message)) {
+        if (message.equals(pendingConfirmations.get(IP_ID))) {
             return true;
         }
-        lastMessageIp = TimedValue.of(message, 5000);
+        pendingConfirmations.put(IP_ID, message);
         if (address) {
             MessageManager.send("Are you sure you want to send a message with an ip address? Hypixel may ban you for this! Send the message again to confirm.", Colors.RED);
         } else {
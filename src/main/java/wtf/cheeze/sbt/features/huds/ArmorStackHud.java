@@ -34,6 +34,7 @@ import wtf.cheeze.sbt.hud.bases.TextHud;
 import wtf.cheeze.sbt.hud.utils.HudName;
 import wtf.cheeze.sbt.utils.render.Colors;
 import wtf.cheeze.sbt.utils.skyblock.SkyblockData;
+import wtf.cheeze.sbt.utils.skyblock.Stat;
 
 import java.awt.Color;
 
@@ -56,20 +57,27 @@ public class ArmorStackHud extends TextHud {
                 () -> SBTConfig.huds().armorStack.color,
                 () -> SBTConfig.huds().armorStack.outlineColor,
                 () -> SBTConfig.huds().armorStack.mode,
-                () -> SkyblockData.Stats.stackString != null ? Text.literal(SkyblockData.Stats.armorStack + SkyblockData.Stats.stackString) : Text.literal("0ᝐ")
+                () -> SkyblockData.Stats.stackString != null ? Text.literal(SkyblockData.Stats.armorStack + SkyblockData.Stats.stackString) : Text.literal("0ᝐ"),
+                Stat.ARMOR_STACK
         );
     }
 
+    @Override
+    public boolean isActive() {
+        return SkyblockData.inSB && SBTConfig.huds().armorStack.enabled;
+    }
+
     @Override
     public boolean shouldRender(boolean fromHudScreen) {
         if (!super.shouldRender(fromHudScreen)) return false;
-        if (SkyblockData.Stats.stackString == null && !fromHudScreen) return false;
-        return (SkyblockData.inSB && SBTConfig.huds().armorStack.enabled) || fromHudScreen;
+        return fromHudScreen || SkyblockData.Stats.stackString != null;
     }
 
+    private static final HudName NAME = new HudName("Armor Stack HUD", "Stack HUD", Colors.ORANGE);
+
     @Override
     public @NotNull HudName getName() {
-        return new HudName("Armor Stack HUD", "Stack HUD", Colors.ORANGE);
+        return NAME;
     }
 
     public static class Config {
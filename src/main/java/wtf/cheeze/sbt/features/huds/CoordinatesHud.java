@@ -23,19 +23,18 @@ import dev.isxander.yacl3.api.OptionGroup;
 import dev.isxander.yacl3.api.controller.ColorControllerBuilder;
 import dev.isxander.yacl3.api.controller.IntegerSliderControllerBuilder;
 import dev.isxander.yacl3.config.v2.api.SerialEntry;
-import net.minecraft.text.Text;
 import org.jetbrains.annotations.NotNull;
 import wtf.cheeze.sbt.config.ConfigImpl;
 import wtf.cheeze.sbt.config.SBTConfig;
 import wtf.cheeze.sbt.hud.utils.AnchorPoint;
 import wtf.cheeze.sbt.hud.utils.HudName;
-import wtf.cheeze.sbt.utils.NumberUtils;
 import wtf.cheeze.sbt.hud.utils.DrawMode;
 import wtf.cheeze.sbt.hud.components.SingleHudLine;
 import wtf.cheeze.sbt.hud.utils.HudInformation;
 import wtf.cheeze.sbt.hud.bases.TextHud;
 import wtf.cheeze.sbt.utils.render.Colors;
 import wtf.cheeze.sbt.utils.skyblock.SkyblockData;
+import wtf.cheeze.sbt.utils.text.FormatBuffer;
 
 import java.awt.Color;
 
@@ -43,6 +42,8 @@ public class CoordinatesHud extends TextHud {
 
     public static final CoordinatesHud INSTANCE = new CoordinatesHud();
 
+    private final FormatBuffer buffer = new FormatBuffer();
+
     private CoordinatesHud() {
         INFO = new HudInformation(
                 () -> SBTConfig.huds().coordinates.x,
@@ -58,18 +59,28 @@ public class CoordinatesHud extends TextHud {
                 () -> SBTConfig.huds().coordinates.color,
                 () -> SBTConfig.huds().coordinates.outlineColor,
                 () -> SBTConfig.huds().coordinates.mode,
-                () -> Text.literal(String.format("X: %s Y: %s Z: %s" , NumberUtils.formattedRound(client.player.getX(), SBTConfig.huds().coordinates.decimalPlaces), NumberUtils.formattedRound(client.player.getY(), SBTConfig.huds().coordinates.decimalPlaces), NumberUtils.formattedRound(client.player.getZ(), SBTConfig.huds().coordinates.decimalPlaces)))
+                () -> {
+                    int decimalPlaces = SBTConfig.huds().coordinates.decimalPlaces;
+                    // A new Text is only made when the player has moved far enough to change what is shown
+                    return buffer.clear()
+                            .append("X: ").appendRounded(client.player.getX(), decimalPlaces)
+                            .append(" Y: ").appendRounded(client.player.getY(), decimalPlaces)
+                            .append(" Z: ").appendRounded(client.player.getZ(), decimalPlaces)
+                            .text();
+                }
         );
     }
     @Override
-    public boolean shouldRender(boolean fromHudScreen) {
-        if (!super.shouldRender(fromHudScreen)) return false;
-        return ((SkyblockData.inSB || SBTConfig.huds().coordinates.showOutside) && SBTConfig.huds().coordinates.enabled) || fromHudScreen;
+    public boolean isActive() {
+        return (SkyblockData.inSB || SBTConfig.huds().coordinates.showOutside) && SBTConfig.huds().coordinates.enabled;
     }
 
+
+    private static final HudName NAME = new HudName("Coordinates HUD", "Coords HUD", Colors.LIGHT_BLUE);
+
     @Override
     public @NotNull HudName getName() {
-        return new HudName("Coordinates HUD", "Coords HUD", Colors.LIGHT_BLUE);
+        return NAME;
     }
 
     public static class Config {
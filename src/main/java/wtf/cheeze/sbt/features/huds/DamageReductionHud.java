@@ -35,6 +35,7 @@ import wtf.cheeze.sbt.utils.NumberUtils;
 import wtf.cheeze.sbt.hud.utils.HudInformation;
 import wtf.cheeze.sbt.utils.render.Colors;
 import wtf.cheeze.sbt.utils.skyblock.SkyblockData;
+import wtf.cheeze.sbt.utils.skyblock.Stat;
 
 import java.awt.Color;
 
@@ -57,19 +58,22 @@ public class DamageReductionHud extends TextHud {
                 () -> SBTConfig.huds().dr.color,
                 () -> SBTConfig.huds().dr.outlineColor,
                 () -> SBTConfig.huds().dr.mode,
-                () -> Text.literal(NumberUtils.round(SkyblockData.Stats.damageReduction(), 1) + "%")
+                () -> Text.literal(NumberUtils.round(SkyblockData.Stats.damageReduction(), 1) + "%"),
+                Stat.DEFENSE
         );
 
     }
     @Override
-    public boolean shouldRender(boolean fromHudScreen) {
-        if (!super.shouldRender(fromHudScreen)) return false;
-        return (SkyblockData.inSB && SBTConfig.huds().dr.enabled) || fromHudScreen;
+    public boolean isActive() {
+        return SkyblockData.inSB && SBTConfig.huds().dr.enabled;
     }
 
+
+    private static final HudName NAME = new HudName("Damage Reduction Percentage HUD", "DR % HUD",Colors.LIME);
+
     @Override
     public @NotNull HudName getName() {
-        return new HudName("Damage Reduction Percentage HUD", "DR % HUD",Colors.LIME);
+        return NAME;
     }
 
 
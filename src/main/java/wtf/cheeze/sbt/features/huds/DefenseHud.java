@@ -36,6 +36,7 @@ import wtf.cheeze.sbt.hud.utils.HudInformation;
 import wtf.cheeze.sbt.hud.components.SingleHudLine;
 import wtf.cheeze.sbt.utils.render.Colors;
 import wtf.cheeze.sbt.utils.skyblock.SkyblockData;
+import wtf.cheeze.sbt.utils.skyblock.Stat;
 
 import java.awt.Color;
 
@@ -59,20 +60,23 @@ public class DefenseHud extends TextHud {
                 () -> SBTConfig.huds().defense.color,
                 () -> SBTConfig.huds().defense.outlineColor,
                 () -> SBTConfig.huds().defense.mode,
-                () -> Text.literal(NumberUtils.formatNumber(SkyblockData.Stats.defense, SBTConfig.huds().defense.separator) + (SBTConfig.huds().defense.icon ? "❈" : ""))
+                () -> Text.literal(NumberUtils.formatNumber(SkyblockData.Stats.defense, SBTConfig.huds().defense.separator) + (SBTConfig.huds().defense.icon ? "❈" : "")),
+                Stat.DEFENSE
         );
     }
     @Override
-    public boolean shouldRender(boolean fromHudScreen) {
-        if (!super.shouldRender(fromHudScreen)) return false;
-        return (SkyblockData.inSB && SBTConfig.huds().defense.enabled) || fromHudScreen;
+    public boolean isActive() {
+        return SkyblockData.inSB && SBTConfig.huds().defense.enabled;
     }
 
 
 
+
+    private static final HudName NAME = new HudName("Defense HUD", "Def HUD", Colors.LIME);
+
     @Override
     public @NotNull HudName getName() {
-        return new HudName("Defense HUD", "Def HUD", Colors.LIME);
+        return NAME;
     }
 
     public static class Config {
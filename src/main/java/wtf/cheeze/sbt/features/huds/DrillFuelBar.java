@@ -31,6 +31,7 @@ import wtf.cheeze.sbt.hud.bases.BarHud;
 import wtf.cheeze.sbt.hud.utils.HudInformation;
 import wtf.cheeze.sbt.utils.render.Colors;
 import wtf.cheeze.sbt.utils.skyblock.SkyblockData;
+import wtf.cheeze.sbt.utils.skyblock.Stat;
 import wtf.cheeze.sbt.utils.skyblock.SkyblockUtils;
 
 import java.awt.Color;
@@ -42,6 +43,7 @@ public class DrillFuelBar extends BarHud {
 
 
     private DrillFuelBar() {
+        super(Stat.DRILL_FUEL, Stat.MAX_DRILL_FUEL);
         INFO = new HudInformation(
                 () -> SBTConfig.huds().drillFuelBar.x,
                 () -> SBTConfig.huds().drillFuelBar.y,
@@ -65,17 +67,23 @@ public class DrillFuelBar extends BarHud {
         return SkyblockData.Stats.drillFuel / SkyblockData.Stats.maxDrillFuel;
     }
 
+    private static final HudName NAME = new HudName("Drill Fuel Bar", "Fuel Bar", Colors.GREEN);
+
     @Override
     public @NotNull HudName getName() {
-
-        return new HudName("Drill Fuel Bar", "Fuel Bar", Colors.GREEN);
+        return NAME;
     }
 
 
+    @Override
+    public boolean isActive() {
+        return SkyblockData.inSB && SBTConfig.huds().drillFuelBar.enabled;
+    }
+
     @Override
     public boolean shouldRender(boolean fromHudScreen) {
         if (!super.shouldRender(fromHudScreen)) return false;
-        return (SkyblockData.inSB && SBTConfig.huds().drillFuelBar.enabled) && SkyblockUtils.isThePlayerHoldingADrill() || fromHudScreen;
+        return fromHudScreen || SkyblockUtils.isThePlayerHoldingADrill();
     }
 
 
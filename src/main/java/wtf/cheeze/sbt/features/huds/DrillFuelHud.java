@@ -36,6 +36,7 @@ import wtf.cheeze.sbt.hud.bases.TextHud;
 import wtf.cheeze.sbt.hud.components.SingleHudLine;
 import wtf.cheeze.sbt.utils.render.Colors;
 import wtf.cheeze.sbt.utils.skyblock.SkyblockData;
+import wtf.cheeze.sbt.utils.skyblock.Stat;
 import wtf.cheeze.sbt.utils.skyblock.SkyblockUtils;
 
 import java.awt.Color;
@@ -62,20 +63,27 @@ public class DrillFuelHud extends TextHud {
                 () ->
                         Text.literal((NumberUtils.formatNumber((int) SkyblockData.Stats.drillFuel, SBTConfig.huds().drillFuel.separator))
                         + "/"
-                        + (SBTConfig.huds().drillFuel.abridgeSecondNumber ? NumberUtils.addKOrM((int) SkyblockData.Stats.maxDrillFuel, SBTConfig.huds().drillFuel.separator) : NumberUtils.formatNumber((int) SkyblockData.Stats.maxDrillFuel, SBTConfig.huds().drillFuel.separator)))
+                        + (SBTConfig.huds().drillFuel.abridgeSecondNumber ? NumberUtils.addKOrM((int) SkyblockData.Stats.maxDrillFuel, SBTConfig.huds().drillFuel.separator) : NumberUtils.formatNumber((int) SkyblockData.Stats.maxDrillFuel, SBTConfig.huds().drillFuel.separator))),
+                Stat.DRILL_FUEL, Stat.MAX_DRILL_FUEL
         );
     }
+    @Override
+    public boolean isActive() {
+        return SkyblockData.inSB && SBTConfig.huds().drillFuel.enabled;
+    }
+
     @Override
     public boolean shouldRender(boolean fromHudScreen) {
         if (!super.shouldRender(fromHudScreen)) return false;
-        return (SkyblockData.inSB && SBTConfig.huds().drillFuel.enabled) && SkyblockUtils.isThePlayerHoldingADrill() || fromHudScreen;
+        return fromHudScreen || SkyblockUtils.isThePlayerHoldingADrill();
     }
 
 
+    private static final HudName NAME = new HudName("Drill Fuel HUD", "Fuel HUD", Colors.GREEN);
+
     @Override
     public @NotNull HudName getName() {
-
-        return new HudName("Drill Fuel HUD", "Fuel HUD", Colors.GREEN);
+        return NAME;
     }
 
     public static class Config {
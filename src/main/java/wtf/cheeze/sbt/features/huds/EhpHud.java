@@ -36,6 +36,7 @@ import wtf.cheeze.sbt.hud.utils.HudInformation;
 import wtf.cheeze.sbt.hud.bases.TextHud;
 import wtf.cheeze.sbt.utils.render.Colors;
 import wtf.cheeze.sbt.utils.skyblock.SkyblockData;
+import wtf.cheeze.sbt.utils.skyblock.Stat;
 
 import java.awt.Color;
 
@@ -58,20 +59,22 @@ public class EhpHud extends TextHud {
                 () -> SBTConfig.huds().ehp.color,
                 () -> SBTConfig.huds().ehp.outlineColor,
                 () -> SBTConfig.huds().ehp.mode,
-                () -> Text.literal(NumberUtils.formatNumber((int) SkyblockData.Stats.effectiveHealth(), SBTConfig.huds().ehp.separator) + (SBTConfig.huds().ehp.icon ? "❤" : ""))
+                () -> Text.literal(NumberUtils.formatNumber((int) SkyblockData.Stats.effectiveHealth(), SBTConfig.huds().ehp.separator) + (SBTConfig.huds().ehp.icon ? "❤" : "")),
+                Stat.HEALTH, Stat.DEFENSE
         );
 
     }
     @Override
-    public boolean shouldRender(boolean fromHudScreen) {
-        if (!super.shouldRender(fromHudScreen)) return false;
-        return (SkyblockData.inSB && SBTConfig.huds().ehp.enabled) || fromHudScreen;
+    public boolean isActive() {
+        return SkyblockData.inSB && SBTConfig.huds().ehp.enabled;
     }
 
+
+    private static final HudName NAME = new HudName("Effective Health HUD", "EHP HUD", Colors.GREEN);
+
     @Override
     public @NotNull HudName getName() {
-
-        return new HudName("Effective Health HUD", "EHP HUD", Colors.GREEN);
+        return NAME;
     }
 
     public static class Config {
@@ -22,7 +22,6 @@ import dev.isxander.yacl3.api.Option;
 import dev.isxander.yacl3.api.OptionGroup;
 import dev.isxander.yacl3.api.controller.ColorControllerBuilder;
 import dev.isxander.yacl3.config.v2.api.SerialEntry;
-import net.minecraft.text.Text;
 import org.jetbrains.annotations.NotNull;
 import wtf.cheeze.sbt.config.ConfigImpl;
 import wtf.cheeze.sbt.config.SBTConfig;
@@ -34,6 +33,7 @@ import wtf.cheeze.sbt.hud.utils.HudInformation;
 import wtf.cheeze.sbt.hud.utils.HudName;
 import wtf.cheeze.sbt.utils.render.Colors;
 import wtf.cheeze.sbt.utils.skyblock.SkyblockData;
+import wtf.cheeze.sbt.utils.text.FormatBuffer;
 
 import java.awt.Color;
 
@@ -41,6 +41,8 @@ public class FpsHud extends TextHud {
 
     public static final FpsHud INSTANCE = new FpsHud();
 
+    private final FormatBuffer buffer = new FormatBuffer();
+
     private FpsHud() {
         INFO = new HudInformation(
                 () -> SBTConfig.huds().fps.x,
@@ -56,19 +58,26 @@ public class FpsHud extends TextHud {
                 () -> SBTConfig.huds().fps.color,
                 () -> SBTConfig.huds().fps.outlineColor,
                 () -> SBTConfig.huds().fps.mode,
-                () -> Text.literal(SBTConfig.huds().fps.reverse ?  "FPS: " + client.getCurrentFps() : client.getCurrentFps() + " FPS")
+                () -> {
+                    // The count changes about once a second, until then the same Text is handed back
+                    buffer.clear();
+                    if (SBTConfig.huds().fps.reverse) return buffer.append("FPS: ").append(client.getCurrentFps()).text();
+                    return buffer.append(client.getCurrentFps()).append(" FPS").text();
+                }
 
         );
     }
     @Override
-    public boolean shouldRender(boolean fromHudScreen) {
-        if (!super.shouldRender(fromHudScreen)) return false;
-        return ((SkyblockData.inSB || SBTConfig.huds().fps.showOutside) && SBTConfig.huds().fps.enabled) || fromHudScreen;
+    public boolean isActive() {
+        return (SkyblockData.inSB || SBTConfig.huds().fps.showOutside) && SBTConfig.huds().fps.enabled;
     }
 
+
+    private static final HudName NAME = new HudName("FPS HUD", Colors.LIGHT_BLUE);
+
     @Override
     public @NotNull HudName getName() {
-        return new HudName("FPS HUD", Colors.LIGHT_BLUE);
+        return NAME;
     }
 
 
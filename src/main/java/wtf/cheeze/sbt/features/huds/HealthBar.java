@@ -32,6 +32,7 @@ import wtf.cheeze.sbt.hud.utils.HudInformation;
 import wtf.cheeze.sbt.utils.enums.Location;
 import wtf.cheeze.sbt.utils.render.Colors;
 import wtf.cheeze.sbt.utils.skyblock.SkyblockData;
+import wtf.cheeze.sbt.utils.skyblock.Stat;
 
 import java.awt.Color;
 
@@ -40,6 +41,7 @@ public class HealthBar extends BarHud {
     public static final HealthBar INSTANCE = new HealthBar();
 
     private HealthBar() {
+        super(Stat.HEALTH, Stat.MAX_HEALTH);
         INFO = new HudInformation(
                 () -> SBTConfig.huds().healthBar.x,
                 () -> SBTConfig.huds().healthBar.y,
@@ -63,19 +65,21 @@ public class HealthBar extends BarHud {
         return SkyblockData.Stats.health / SkyblockData.Stats.maxHealth;
     }
 
+    private static final HudName NAME = new HudName("Health Bar", "HP Bar", Colors.RED);
+
     @Override
     public @NotNull HudName getName() {
-        return new HudName("Health Bar", "HP Bar", Colors.RED);
+        return NAME;
     }
 
 
     @Override
-    public boolean shouldRender(boolean fromHudScreen) {
-        if (!super.shouldRender(fromHudScreen)) return false;
-        return (SkyblockData.inSB && SBTConfig.huds().healthBar.enabled && (SkyblockData.location != Location.RIFT || !SBTConfig.huds().healthBar.hideInRift)) || fromHudScreen;
+    public boolean isActive() {
+        return SkyblockData.inSB && SBTConfig.huds().healthBar.enabled && (SkyblockData.location != Location.RIFT || !SBTConfig.huds().healthBar.hideInRift);
     }
 
 
+
     public static class Config {
         @SerialEntry
         public boolean enabled = false;
@@ -37,6 +37,7 @@ import wtf.cheeze.sbt.hud.bases.TextHud;
 import wtf.cheeze.sbt.utils.enums.Location;
 import wtf.cheeze.sbt.utils.render.Colors;
 import wtf.cheeze.sbt.utils.skyblock.SkyblockData;
+import wtf.cheeze.sbt.utils.skyblock.Stat;
 
 import java.awt.Color;
 
@@ -59,18 +60,21 @@ public class HealthHud extends TextHud {
                 () -> SkyblockData.Stats.health > SkyblockData.Stats.maxHealth ? SBTConfig.huds().health.colorAbsorption : SBTConfig.huds().health.color,
                 () -> SBTConfig.huds().health.outlineColor,
                 () -> SBTConfig.huds().health.mode,
-                () -> Text.literal(NumberUtils.formatNumber((int)SkyblockData.Stats.health, SBTConfig.huds().health.separator) + "/" + NumberUtils.formatNumber((int) SkyblockData.Stats.maxHealth, SBTConfig.huds().health.separator) + (SBTConfig.huds().health.icon ? "❤" : ""))
+                () -> Text.literal(NumberUtils.formatNumber((int)SkyblockData.Stats.health, SBTConfig.huds().health.separator) + "/" + NumberUtils.formatNumber((int) SkyblockData.Stats.maxHealth, SBTConfig.huds().health.separator) + (SBTConfig.huds().health.icon ? "❤" : "")),
+                Stat.HEALTH, Stat.MAX_HEALTH
         );
     }
     @Override
-    public boolean shouldRender(boolean fromHudScreen) {
-        if (!super.shouldRender(fromHudScreen)) return false;
-        return (SkyblockData.inSB && SBTConfig.huds().health.enabled && (SkyblockData.location != Location.RIFT || !SBTConfig.huds().health.hideInRift)) || fromHudScreen;
+    public boolean isActive() {
+        return SkyblockData.inSB && SBTConfig.huds().health.enabled && (SkyblockData.location != Location.RIFT || !SBTConfig.huds().health.hideInRift);
     }
 
+
+    private static final HudName NAME = new HudName("Health HUD", "HP HUD", Colors.RED);
+
     @Override
     public @NotNull HudName getName() {
-        return new HudName("Health HUD", "HP HUD", Colors.RED);
+        return NAME;
     }
     public static class Config {
         @SerialEntry
@@ -38,9 +38,11 @@ import java.util.List;
  * Not meant to be used in production.
  */
 public class IconTestHud extends MultilineTextHud {
+    private static final HudName NAME = new HudName("Icon Test HUD", "Icon HUD", Colors.WHITE);
+
     @Override
     public @NotNull HudName getName() {
-        return new HudName("Icon Test HUD", "Icon HUD", Colors.WHITE);
+        return NAME;
     }
 
     private float x = 0.5f;
@@ -31,6 +31,7 @@ import wtf.cheeze.sbt.hud.bases.BarHud;
 import wtf.cheeze.sbt.hud.utils.HudInformation;
 import wtf.cheeze.sbt.utils.render.Colors;
 import wtf.cheeze.sbt.utils.skyblock.SkyblockData;
+import wtf.cheeze.sbt.utils.skyblock.Stat;
 
 import java.awt.Color;
 
@@ -39,6 +40,7 @@ public class ManaBar extends BarHud {
     public static final ManaBar INSTANCE = new ManaBar();
 
     private ManaBar() {
+        super(Stat.MANA, Stat.MAX_MANA);
         INFO = new HudInformation(
                 () -> SBTConfig.huds().manaBar.x,
                 () -> SBTConfig.huds().manaBar.y,
@@ -61,18 +63,20 @@ public class ManaBar extends BarHud {
         return SkyblockData.Stats.mana / SkyblockData.Stats.maxMana;
     }
 
+    private static final HudName NAME = new HudName("Mana Bar", Colors.BLUE);
+
     @Override
     public @NotNull HudName getName() {
-        return new HudName("Mana Bar", Colors.BLUE);
+        return NAME;
     }
 
 
     @Override
-    public boolean shouldRender(boolean fromHudScreen) {
-        if (!super.shouldRender(fromHudScreen)) return false;
-        return (SkyblockData.inSB && SBTConfig.huds().manaBar.enabled) || fromHudScreen;
+    public boolean isActive() {
+        return SkyblockData.inSB && SBTConfig.huds().manaBar.enabled;
     }
 
+
     public static class Config {
         @SerialEntry
         public boolean enabled = false;
@@ -36,6 +36,7 @@ import wtf.cheeze.sbt.hud.utils.HudInformation;
 import wtf.cheeze.sbt.hud.bases.TextHud;
 import wtf.cheeze.sbt.utils.render.Colors;
 import wtf.cheeze.sbt.utils.skyblock.SkyblockData;
+import wtf.cheeze.sbt.utils.skyblock.Stat;
 
 import java.awt.*;
 
@@ -58,23 +59,30 @@ public class OverflowManaHud extends TextHud {
                 () -> SBTConfig.huds().overflowMana.color,
                 () -> SBTConfig.huds().overflowMana.outlineColor,
                 () -> SBTConfig.huds().overflowMana.mode,
-                () -> Text.literal(NumberUtils.formatNumber((int) SkyblockData.Stats.overflowMana, SBTConfig.huds().overflowMana.separator) + (SBTConfig.huds().overflowMana.icon ? "ʬ" : ""))
+                () -> Text.literal(NumberUtils.formatNumber((int) SkyblockData.Stats.overflowMana, SBTConfig.huds().overflowMana.separator) + (SBTConfig.huds().overflowMana.icon ? "ʬ" : "")),
+                Stat.OVERFLOW_MANA
         );
 
     }
+    @Override
+    public boolean isActive() {
+        return SkyblockData.inSB && SBTConfig.huds().overflowMana.enabled;
+    }
+
     @Override
     public boolean shouldRender(boolean fromHudScreen) {
         if (!super.shouldRender(fromHudScreen)) return false;
-        return (SkyblockData.inSB && SBTConfig.huds().overflowMana.enabled && (!SBTConfig.huds().overflowMana.hideWhenZero || SkyblockData.Stats.overflowMana != 0)) || fromHudScreen;
+        return fromHudScreen || !SBTConfig.huds().overflowMana.hideWhenZero || SkyblockData.Stats.overflowMana != 0;
     }
 
     @Override
 //    public String getName() {
 //        return TextUtils.SECTION +  "3Oveflow Mana HUD";
 //    }
-    public @NotNull HudName getName() {
+    private static final HudName NAME = new HudName("Overflow Mana HUD", "OF Mana HUD", Colors.CYAN);
 
-        return new HudName("Overflow Mana HUD", "OF Mana HUD", Colors.CYAN);
+    public @NotNull HudName getName() {
+        return NAME;
     }
 
     public static class Config {
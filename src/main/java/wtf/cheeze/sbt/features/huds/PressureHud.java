@@ -34,6 +34,7 @@ import wtf.cheeze.sbt.hud.utils.HudInformation;
 import wtf.cheeze.sbt.hud.utils.HudName;
 import wtf.cheeze.sbt.utils.render.Colors;
 import wtf.cheeze.sbt.utils.skyblock.SkyblockData;
+import wtf.cheeze.sbt.utils.skyblock.Stat;
 import wtf.cheeze.sbt.utils.text.Symbols;
 
 import java.awt.*;
@@ -62,7 +63,8 @@ public class PressureHud extends TextHud {
                 () -> SBTConfig.huds().pressure.color,
                 () -> SBTConfig.huds().pressure.outlineColor,
                 () -> SBTConfig.huds().pressure.mode,
-                () -> Text.literal(getFormatString().formatted(SkyblockData.Stats.pressure))
+                () -> Text.literal(getFormatString().formatted(SkyblockData.Stats.pressure)),
+                Stat.PRESSURE
         );
 
     }
@@ -80,15 +82,22 @@ public class PressureHud extends TextHud {
     }
 
 
+    private static final HudName NAME = new HudName("Pressure HUD", "Pressure", Colors.BLUE);
+
     @Override
     public @NotNull HudName getName() {
-        return new HudName("Pressure HUD", "Pressure", Colors.BLUE);
+        return NAME;
+    }
+
+    @Override
+    public boolean isActive() {
+        return SkyblockData.inSB && SBTConfig.huds().pressure.enabled;
     }
 
     @Override
     public boolean shouldRender(boolean fromHudScreen) {
         if (!super.shouldRender(fromHudScreen)) return false;
-        return (SkyblockData.inSB && SkyblockData.Stats.pressureActive && SBTConfig.huds().pressure.enabled) || fromHudScreen;
+        return fromHudScreen || SkyblockData.Stats.pressureActive;
     }
 
     public static class Config {
@@ -73,16 +73,22 @@ public class QuiverHud extends TextHud {
 
     }
 
+    private static final HudName NAME = new HudName("Quiver Hud", Colors.ORANGE);
+
     @Override
     public @NotNull HudName getName() {
+        return NAME;
+    }
 
-        return new HudName("Quiver Hud", Colors.ORANGE);
+    @Override
+    public boolean isActive() {
+        return SkyblockData.inSB && SBTConfig.huds().quiver.enabled;
     }
 
     @Override
     public boolean shouldRender(boolean fromHudScreen) {
         if (!super.shouldRender(fromHudScreen)) return false;
-        return (SkyblockData.inSB && SBTConfig.huds().quiver.enabled && SkyblockUtils.quiverActive()) || fromHudScreen;
+        return fromHudScreen || SkyblockUtils.quiverActive();
     }
 
 
@@ -18,14 +18,14 @@ import wtf.cheeze.sbt.hud.utils.AnchorPoint;
 import wtf.cheeze.sbt.hud.utils.DrawMode;
 import wtf.cheeze.sbt.hud.utils.HudInformation;
 import wtf.cheeze.sbt.hud.utils.HudName;
+import wtf.cheeze.sbt.utils.timing.ExpiringMap;
 import wtf.cheeze.sbt.utils.timing.TimeUtils;
 import wtf.cheeze.sbt.utils.enums.Location;
 import wtf.cheeze.sbt.utils.render.Colors;
 import wtf.cheeze.sbt.utils.skyblock.SkyblockData;
 
 import java.awt.*;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 public class RainmakerHud extends TextHud {
@@ -75,8 +75,7 @@ public class RainmakerHud extends TextHud {
                 if (matcher.find()) {
                     var minutes = Integer.parseInt(matcher.group(1));
                     var seconds = Integer.parseInt(matcher.group(2));
-                    var entry = new TimeEntry((minutes * 60L) + seconds, System.currentTimeMillis() / 1000);
-                    timeEntries.put(SkyblockData.currentServer, entry);
+                    rainTimes.put(SkyblockData.currentServer, Boolean.TRUE, minutes * 60L + seconds, TimeUnit.SECONDS);
                     break;
                 }
             }
@@ -84,31 +83,37 @@ public class RainmakerHud extends TextHud {
 
     }
 
-    private final Map<String, TimeEntry> timeEntries = new HashMap<>();
+    /**
+     * Keyed by server, each entry expires when the rain on that server ends
+     */
+    private final ExpiringMap<String, Boolean> rainTimes = new ExpiringMap<>(1, TimeUnit.HOURS);
 
 
 
     private int calcTime() {
-        var entry = timeEntries.get(SkyblockData.currentServer);
-        if (entry == null) {
-            return 0;
-        }
-        return (int) (entry.timeAtLastUpdate - (System.currentTimeMillis() / 1000 - entry.lastUpdateS));
+        long remaining = rainTimes.remaining(SkyblockData.currentServer, TimeUnit.MILLISECONDS);
+        // Rounded up so the timer shows the time that was read until a full second has passed
+        return (int) ((remaining + 999) / 1000);
     }
 
+    private static final HudName NAME = new HudName("Rainmaker Timer HUD", "Rainmaker HUD", Colors.LIGHT_BLUE);
+
     @Override
     public @NotNull HudName getName() {
-        return new HudName("Rainmaker Timer HUD", "Rainmaker HUD", Colors.LIGHT_BLUE);
+        return NAME;
+    }
+
+    @Override
+    public boolean isActive() {
+        return SkyblockData.location == Location.PARK && SBTConfig.huds().rainmaker.enabled;
     }
 
     @Override
     public boolean shouldRender(boolean fromHudScreen) {
         if (!super.shouldRender(fromHudScreen)) return false;
-        return SkyblockData.location == Location.PARK && ((SBTConfig.huds().rainmaker.enabled && calcTime() > 0) || fromHudScreen);
+        return fromHudScreen || calcTime() > 0;
     }
 
-    private record TimeEntry(long lastUpdateS, long timeAtLastUpdate) {}
-
     public static class Config {
         @SerialEntry
         public boolean enabled = false;
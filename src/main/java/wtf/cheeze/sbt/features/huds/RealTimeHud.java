@@ -22,11 +22,11 @@ import dev.isxander.yacl3.api.Option;
 import dev.isxander.yacl3.api.OptionGroup;
 import dev.isxander.yacl3.api.controller.ColorControllerBuilder;
 import dev.isxander.yacl3.config.v2.api.SerialEntry;
-import net.minecraft.text.Text;
 import org.jetbrains.annotations.NotNull;
 import wtf.cheeze.sbt.config.ConfigImpl;
 import wtf.cheeze.sbt.config.SBTConfig;
 import wtf.cheeze.sbt.hud.bases.TextHud;
+import wtf.cheeze.sbt.hud.cache.Cache;
 import wtf.cheeze.sbt.hud.utils.AnchorPoint;
 import wtf.cheeze.sbt.hud.utils.DrawMode;
 import wtf.cheeze.sbt.hud.components.SingleHudLine;
@@ -34,14 +34,20 @@ import wtf.cheeze.sbt.hud.utils.HudInformation;
 import wtf.cheeze.sbt.hud.utils.HudName;
 import wtf.cheeze.sbt.utils.render.Colors;
 import wtf.cheeze.sbt.utils.skyblock.SkyblockData;
+import wtf.cheeze.sbt.utils.text.FormatBuffer;
+import wtf.cheeze.sbt.utils.timing.TimeUtils;
 
 import java.awt.Color;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 public class RealTimeHud extends TextHud {
 
     public static final RealTimeHud INSTANCE = new RealTimeHud();
 
+    private final FormatBuffer buffer = new FormatBuffer();
+
     private RealTimeHud() {
         INFO = new HudInformation(
                 () -> SBTConfig.huds().time.x,
@@ -53,46 +59,51 @@ public class RealTimeHud extends TextHud {
                 scale -> SBTConfig.huds().time.scale = scale,
                 anchor -> SBTConfig.huds().time.anchor = anchor
         );
-        line = new SingleHudLine(
+        line = SingleHudLine.expiring(
                 () -> SBTConfig.huds().time.color,
                 () -> SBTConfig.huds().time.outlineColor,
                 () -> SBTConfig.huds().time.mode,
                 () ->  {
-                    var time = LocalDateTime.now();
+                    // One clock read for both the time shown and when it next changes, so a boundary between them cannot be missed
+                    var now = System.currentTimeMillis();
+                    var time = LocalDateTime.ofInstant(Instant.ofEpochMilli(now), ZoneId.systemDefault());
                     var hour = time.getHour();
                     var minute = time.getMinute();
                     var second = time.getSecond();
-                    var secondString = "";
-
-                    if (SBTConfig.huds().time.seconds) {
-                        secondString = String.format(":%02d", second);
-                    }
-                    if (SBTConfig.huds().time.twelveHour) {
+                    var config = SBTConfig.huds().time;
+                    buffer.clear();
+                    if (config.twelveHour) {
                         var amPM = "";
                         if (hour >= 12) {
-                            amPM = SBTConfig.huds().time.amPM ? "PM" : "";
+                            amPM = config.amPM ? "PM" : "";
                             if (hour > 12) hour -= 12;
                         } else {
-                            amPM = SBTConfig.huds().time.amPM ? "AM" : "";
+                            amPM = config.amPM ? "AM" : "";
                             if (hour == 0) hour = 12;
                         }
-                        return Text.literal(String.format("%d:%02d%s %s", hour, minute, secondString, amPM));
+                        buffer.append(hour).append(':').appendTwoDigits(minute);
+                        if (config.seconds) buffer.append(':').appendTwoDigits(second);
+                        buffer.append(' ').append(amPM);
                     } else {
-                        return Text.literal(String.format("%02d:%02d%s", hour, minute, secondString));
+                        buffer.appendTwoDigits(hour).append(':').appendTwoDigits(minute);
+                        if (config.seconds) buffer.append(':').appendTwoDigits(second);
                     }
+                    return new Cache.Expiring<>(buffer.text(), config.seconds ? TimeUtils.nextSecond(now) : TimeUtils.nextMinute(now));
                 }
         );
     }
     @Override
-    public boolean shouldRender(boolean fromHudScreen) {
-        if (!super.shouldRender(fromHudScreen)) return false;
-        return ((SkyblockData.inSB || SBTConfig.huds().time.showOutside) && SBTConfig.huds().time.enabled) || fromHudScreen;
+    public boolean isActive() {
+        return (SkyblockData.inSB || SBTConfig.huds().time.showOutside) && SBTConfig.huds().time.enabled;
     }
 
 
+
+    private static final HudName NAME = new HudName("Real Time HUD", "Time HUD", Colors.LIGHT_BLUE);
+
     @Override
     public @NotNull HudName getName() {
-        return new HudName("Real Time HUD", "Time HUD", Colors.LIGHT_BLUE);
+        return NAME;
     }
 
     public static class Config {
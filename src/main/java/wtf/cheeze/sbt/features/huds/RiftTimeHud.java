@@ -36,6 +36,7 @@ import wtf.cheeze.sbt.utils.timing.TimeUtils;
 import wtf.cheeze.sbt.utils.enums.Location;
 import wtf.cheeze.sbt.utils.render.Colors;
 import wtf.cheeze.sbt.utils.skyblock.SkyblockData;
+import wtf.cheeze.sbt.utils.skyblock.Stat;
 
 import java.awt.*;
 
@@ -58,24 +59,27 @@ public class RiftTimeHud extends TextHud {
                 () -> SkyblockData.Stats.riftTicking ? SBTConfig.huds().riftTime.color : SBTConfig.huds().riftTime.inactiveColor,
                 () -> SBTConfig.huds().riftTime.outlineColor,
                 () -> SBTConfig.huds().riftTime.mode,
-                () -> Text.literal(TimeUtils.toDuration(SkyblockData.Stats.riftSeconds) + (SBTConfig.huds().riftTime.icon ? "ф" : "") + (SBTConfig.huds().riftTime.showLeftText ? " Left" : ""))
+                () -> Text.literal(TimeUtils.toDuration(SkyblockData.Stats.riftSeconds) + (SBTConfig.huds().riftTime.icon ? "ф" : "") + (SBTConfig.huds().riftTime.showLeftText ? " Left" : "")),
+                Stat.RIFT
         );
 
     }
     @Override
-    public boolean shouldRender(boolean fromHudScreen) {
-        if (!super.shouldRender(fromHudScreen)) return false;
-        return SkyblockData.location == Location.RIFT && SBTConfig.huds().riftTime.enabled || fromHudScreen;
+    public boolean isActive() {
+        return SkyblockData.location == Location.RIFT && SBTConfig.huds().riftTime.enabled;
     }
 
+
 //    @Override
 //    public String getName() {
 //        return TextUtils.SECTION +  "3Rift Time HUD";
 //    }
 
+    private static final HudName NAME = new HudName("Rift Time HUD", "Rift HUD", Colors.LIME);
+
     @Override
     public @NotNull HudName getName() {
-        return new HudName("Rift Time HUD", "Rift HUD", Colors.LIME);
+        return NAME;
     }
 
 
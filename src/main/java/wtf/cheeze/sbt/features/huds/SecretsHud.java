@@ -19,6 +19,7 @@ import wtf.cheeze.sbt.utils.DataUtils;
 import wtf.cheeze.sbt.utils.enums.Location;
 import wtf.cheeze.sbt.utils.render.Colors;
 import wtf.cheeze.sbt.utils.skyblock.SkyblockData;
+import wtf.cheeze.sbt.utils.skyblock.Stat;
 import wtf.cheeze.sbt.utils.text.TextUtils;
 
 import java.awt.*;
@@ -51,7 +52,8 @@ public class SecretsHud extends TextHud {
 
                 },
                 () -> Icons.CHEST,
-                () -> SBTConfig.huds().secrets.icon
+                () -> SBTConfig.huds().secrets.icon,
+                Stat.SECRETS
         );
     }
 
@@ -61,15 +63,17 @@ public class SecretsHud extends TextHud {
 
 
     @Override
-    public boolean shouldRender(boolean fromHudScreen) {
-        if (!super.shouldRender(fromHudScreen)) return false;
-        return SkyblockData.location == Location.DUNGEON && (SBTConfig.huds().secrets.enabled|| fromHudScreen);
+    public boolean isActive() {
+        return SkyblockData.location == Location.DUNGEON && SBTConfig.huds().secrets.enabled;
     }
 
 
+
+    private static final HudName NAME = new HudName("Secret HUD", "Secrets", Colors.LIGHT_BLUE);
+
     @Override
     public @NotNull HudName getName() {
-        return new HudName("Secret HUD", "Secrets", Colors.LIGHT_BLUE);
+        return NAME;
     }
 
     public static class Config {
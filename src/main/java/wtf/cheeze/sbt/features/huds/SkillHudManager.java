@@ -45,6 +45,7 @@ import wtf.cheeze.sbt.utils.errors.ErrorLevel;
 import wtf.cheeze.sbt.utils.render.Colors;
 import wtf.cheeze.sbt.hud.icon.Icons;
 import wtf.cheeze.sbt.utils.skyblock.SkyblockData;
+import wtf.cheeze.sbt.utils.skyblock.Stat;
 import wtf.cheeze.sbt.utils.skyblock.SkyblockUtils;
 
 import java.awt.*;
@@ -60,6 +61,7 @@ public class SkillHudManager {
         ClientTickEvents.END_CLIENT_TICK.register(client -> {
             if (timeLeft > 0) {
                 timeLeft--;
+                if (timeLeft == 0) Stat.SKILL.changed();
             }
         });
     }
@@ -77,23 +79,24 @@ public class SkillHudManager {
     private float percent = -1;
 
     public void update(String skillP, float gainedP, float percentP) {
-        commonUpdate(skillP, gainedP);
-        percent = percentP;
-        total = 0;
-        progress = 0;
+        set(skillP, gainedP, 0, 0, percentP);
     }
 
     public void update(String skillP, float gainedP, float totalP, float progressP) {
-        commonUpdate(skillP, gainedP);
-        total = totalP;
-        progress = progressP;
-        percent = -1;
+        set(skillP, gainedP, totalP, progressP, -1);
     }
 
-    private void commonUpdate(String skillP, float gainedP) {
+    private void set(String skillP, float gainedP, float totalP, float progressP, float percentP) {
+        var skill = SkyblockUtils.strictCastStringToSkill(skillP);
+        if (timeLeft <= 0 || skill != currentSkill || gained != gainedP || total != totalP || progress != progressP || percent != percentP) {
+            Stat.SKILL.changed();
+        }
         timeLeft = PERSIST_TICKS;
-        currentSkill = SkyblockUtils.strictCastStringToSkill(skillP);
+        currentSkill = skill;
         gained = gainedP;
+        total = totalP;
+        progress = progressP;
+        percent = percentP;
     }
 
     public class SkillHud extends TextHud {
@@ -181,7 +184,8 @@ public class SkillHudManager {
                             return Icons.DEFAULT_ICON;
                         }
                     },
-                    () -> timeLeft > 0
+                    () -> timeLeft > 0,
+                    Stat.SKILL
             );
         }
 
@@ -206,15 +210,21 @@ public class SkillHudManager {
         }
 
 
+        private static final HudName NAME = new HudName("Skill Progress HUD", "Skill HUD", Colors.CYAN);
+
         public @NotNull HudName getName() {
-            return new HudName("Skill Progress HUD", "Skill HUD", Colors.CYAN);
+            return NAME;
+        }
+
+        @Override
+        public boolean isActive() {
+            return SkyblockData.inSB && SBTConfig.huds().skills.enabled;
         }
 
         @Override
         public boolean shouldRender(boolean fromHudScreen) {
             if (!super.shouldRender(fromHudScreen)) return false;
-            if (timeLeft <= 0 && !fromHudScreen) return false;
-            return (SkyblockData.inSB && SBTConfig.huds().skills.enabled) || fromHudScreen;
+            return fromHudScreen || timeLeft > 0;
         }
 
         public enum Mode implements NameableEnum {
@@ -376,6 +386,7 @@ public class SkillHudManager {
     }
     public class SkillBar extends BarHud {
         public SkillBar() {
+            super(Stat.SKILL);
             INFO = new HudInformation(
                     () -> SBTConfig.huds().skillBar.x,
                     () -> SBTConfig.huds().skillBar.y,
@@ -406,9 +417,16 @@ public class SkillHudManager {
             }
         }
 
+        private static final HudName NAME = new HudName("Skill Progress Bar", "Skill Bar", Colors.CYAN);
+
         @Override
         public @NotNull HudName getName() {
-            return new HudName("Skill Progress Bar", "Skill Bar", Colors.CYAN);
+            return NAME;
+        }
+
+        @Override
+        public boolean isActive() {
+            return SkyblockData.inSB && SBTConfig.huds().skillBar.enabled;
         }
 
         @Override
@@ -417,8 +435,7 @@ public class SkillHudManager {
             if (fromHudScreen) return true;
             if (timeLeft <= 0) return false;
             // Don't display at max level
-            if  (percent == -1 && total == 0 ) return false;
-            return (SkyblockData.inSB && SBTConfig.huds().skillBar.enabled);
+            return percent != -1 || total != 0;
         }
 
         public static class Config {
@@ -22,7 +22,6 @@ import dev.isxander.yacl3.api.Option;
 import dev.isxander.yacl3.api.OptionGroup;
 import dev.isxander.yacl3.api.controller.ColorControllerBuilder;
 import dev.isxander.yacl3.config.v2.api.SerialEntry;
-import net.minecraft.text.Text;
 import org.jetbrains.annotations.NotNull;
 import wtf.cheeze.sbt.config.ConfigImpl;
 import wtf.cheeze.sbt.config.SBTConfig;
@@ -35,6 +34,7 @@ import wtf.cheeze.sbt.hud.utils.HudName;
 import wtf.cheeze.sbt.utils.render.Colors;
 import wtf.cheeze.sbt.utils.skyblock.SkyblockData;
 import wtf.cheeze.sbt.utils.skyblock.SkyblockUtils;
+import wtf.cheeze.sbt.utils.text.FormatBuffer;
 
 import java.awt.Color;
 
@@ -42,6 +42,8 @@ public class SpeedHud extends TextHud {
 
     public static final SpeedHud INSTANCE = new SpeedHud();
 
+    private final FormatBuffer buffer = new FormatBuffer();
+
     private SpeedHud() {
         INFO = new HudInformation(
                 () -> SBTConfig.huds().speed.x,
@@ -57,23 +59,25 @@ public class SpeedHud extends TextHud {
                 () -> SBTConfig.huds().speed.color,
                 () -> SBTConfig.huds().speed.outlineColor,
                 () -> SBTConfig.huds().speed.mode,
-                () -> Text.literal((SkyblockUtils.getSpeed()+"").split("\\.")[0] + "%")
+                () -> buffer.clear().appendRounded(SkyblockUtils.getSpeed(), 0).append('%').text()
         );
     }
 
+    private static final HudName NAME = new HudName("Speed HUD", Colors.WHITE);
+
     @Override
     public @NotNull HudName getName() {
-        return new HudName("Speed HUD", Colors.WHITE);
+        return NAME;
     }
 
     @Override
-    public boolean shouldRender(boolean fromHudScreen) {
-        if (!super.shouldRender(fromHudScreen)) return false;
-        return (SkyblockData.inSB && SBTConfig.huds().speed.enabled) || fromHudScreen;
+    public boolean isActive() {
+        return SkyblockData.inSB && SBTConfig.huds().speed.enabled;
     }
 
 
 
+
     public static class Config {
         @SerialEntry
         public boolean enabled = false;
@@ -49,15 +49,22 @@ public class TickerHud extends AbstractTickerHud {
     }
 
 
+    private static final HudName NAME = new HudName("Ticker/Charges HUD", "Ticker HUD", Colors.YELLOW);
+
     @Override
     public @NotNull HudName getName() {
-        return new HudName("Ticker/Charges HUD", "Ticker HUD", Colors.YELLOW);
+        return NAME;
+    }
+
+    @Override
+    public boolean isActive() {
+        return SkyblockData.inSB && SBTConfig.huds().ticker.enabled;
     }
 
     @Override
     public boolean shouldRender(boolean fromHudScreen) {
         if (!super.shouldRender(fromHudScreen)) return false;
-        return (SkyblockData.inSB && SBTConfig.huds().ticker.enabled && SkyblockData.Stats.tickerActive) || fromHudScreen;
+        return fromHudScreen || SkyblockData.Stats.tickerActive;
     }
 
 
@@ -38,6 +38,7 @@ import wtf.cheeze.sbt.utils.render.Colors;
 import wtf.cheeze.sbt.utils.skyblock.MiningData;
 import wtf.cheeze.sbt.utils.skyblock.SkyblockData;
 import wtf.cheeze.sbt.utils.skyblock.SkyblockUtils;
+import wtf.cheeze.sbt.utils.skyblock.Stat;
 
 import java.awt.*;
 
@@ -72,20 +73,22 @@ public class EventTimerHud extends TextHud {
                     );
                 },
                 () -> MiningData.getEventIcon(SkyblockData.miningData.eventName),
-                () -> (SBTConfig.mining().eventTimer.icons && MiningData.getEventIcon(SkyblockData.miningData.eventName) != null)
+                () -> (SBTConfig.mining().eventTimer.icons && MiningData.getEventIcon(SkyblockData.miningData.eventName) != null),
+                Stat.MINING_EVENT
         );
 
     }
 
+    private static final HudName NAME = new HudName("Event Timer HUD", "Event HUD", Colors.LIGHT_BLUE);
+
     @Override
     public @NotNull HudName getName() {
-        return new HudName("Event Timer HUD", "Event HUD", Colors.LIGHT_BLUE);
+        return NAME;
     }
 
     @Override
-    public boolean shouldRender(boolean fromHudScreen) {
-        if (!super.shouldRender(fromHudScreen)) return false;
-        return (SkyblockUtils.inMiningIsland()) && (SBTConfig.mining().eventTimer.enabled || fromHudScreen);
+    public boolean isActive() {
+        return SkyblockUtils.inMiningIsland() && SBTConfig.mining().eventTimer.enabled;
     }
 
     public static class Config {
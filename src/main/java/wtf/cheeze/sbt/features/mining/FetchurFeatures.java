@@ -35,6 +35,8 @@ import wtf.cheeze.sbt.config.categories.Mining;
 import wtf.cheeze.sbt.config.persistent.PersistentData;
 import wtf.cheeze.sbt.events.ChatEvents;
 import wtf.cheeze.sbt.hud.bases.SingleLineHybridHud;
+import wtf.cheeze.sbt.hud.cache.Cache;
+import wtf.cheeze.sbt.hud.cache.CacheScheduler;
 import wtf.cheeze.sbt.hud.cache.UpdateTiming;
 import wtf.cheeze.sbt.hud.components.GapComponent;
 import wtf.cheeze.sbt.hud.components.HudComponent;
@@ -58,6 +60,7 @@ import java.awt.*;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
 public class FetchurFeatures {
@@ -133,18 +136,23 @@ public class FetchurFeatures {
             this.components = getComponents();
         }
 
+        @Override
+        public boolean isActive() {
+            return SkyblockData.inSB && SBTConfig.mining().fetchur.fetchurHud && (SkyblockData.location == Location.DWARVEN_MINES || SBTConfig.mining().fetchur.showHudOutsideMines);
+        }
+
         @Override
         public boolean shouldRender(boolean fromHudScreen) {
             if (!super.shouldRender(fromHudScreen)) return false;
-            return SkyblockData.inSB && (fromHudScreen ?
-                    (SkyblockData.location == Location.DWARVEN_MINES || SBTConfig.mining().fetchur.showHudOutsideMines)
-                    : SBTConfig.mining().fetchur.fetchurHud && (SkyblockData.location == Location.DWARVEN_MINES || SBTConfig.mining().fetchur.showHudOutsideMines) && (SBTConfig.mining().fetchur.showHudWhenAlreadyDone || !hasFetchuredToday()));
+            return fromHudScreen || SBTConfig.mining().fetchur.showHudWhenAlreadyDone || !hasFetchuredToday();
         }
 
         private static final int TEXT_DOWNWARD_OFFSET = 4;
+        private static final HudName NAME = new HudName("Fetchur HUD", "Fetchur", Colors.LIME);
+
         @Override
         public @NotNull HudName getName() {
-            return new HudName("Fetchur HUD", "Fetchur", Colors.LIME);
+            return NAME;
         }
 
         private CheezePair<HudComponent, Integer>[] getComponents() {
@@ -154,18 +162,26 @@ public class FetchurFeatures {
                 list.add(CheezePair.of(new SingleHudLine(UpdateTiming.MEMOIZED, DataUtils.ALWAYS_WHITE, () -> SBTConfig.mining().fetchur.outlineColor, () -> SBTConfig.mining().fetchur.mode, () -> TextUtils.withColor("Fetchur:" + (SBTConfig.mining().fetchur.showIcon ? "" : " "), SBTConfig.mining().fetchur.color), null, DataUtils.ALWAYS_FALSE), offsetToUse));
             }
             if (SBTConfig.mining().fetchur.showIcon) {
-                list.add(CheezePair.of(new ItemStackComponent(UpdateTiming.SECOND, () -> FetchurItem.forToday().stack), 0));
+                list.add(CheezePair.of(ItemStackComponent.expiring(() -> untilTomorrow(item -> item.stack)), 0));
                 if (SBTConfig.mining().fetchur.showName) {
                     list.add(CheezePair.of(new GapComponent(4), 0));
                 }
             }
             if (SBTConfig.mining().fetchur.showName) {
-                list.add(CheezePair.of(new SingleHudLine(UpdateTiming.SECOND, DataUtils.ALWAYS_WHITE, () -> SBTConfig.mining().fetchur.outlineColor, () -> SBTConfig.mining().fetchur.mode, () -> FetchurItem.forToday().display), offsetToUse));
+                list.add(CheezePair.of(SingleHudLine.expiring(DataUtils.ALWAYS_WHITE, () -> SBTConfig.mining().fetchur.outlineColor, () -> SBTConfig.mining().fetchur.mode, () -> untilTomorrow(item -> item.display)), offsetToUse));
             }
 
             return list.toArray(CheezePair[]::new);
 
         }
+
+        /**
+         * Fetchur's item only changes at midnight US-East, so that is when it is next looked up
+         */
+        private static <T> Cache.Expiring<T> untilTomorrow(Function<FetchurItem, T> property) {
+            var now = CacheScheduler.now();
+            return new Cache.Expiring<>(property.apply(FetchurItem.forDay(now)), TimeUtils.nextMidnightET(now));
+        }
     }
 
 
@@ -221,7 +237,11 @@ public class FetchurFeatures {
         }
 
         public static FetchurItem forToday() {
-            return values()[(TimeUtils.dayOfMonthET(System.currentTimeMillis()) - 1) % values().length];
+            return forDay(System.currentTimeMillis());
+        }
+
+        public static FetchurItem forDay(long epoch) {
+            return values()[(TimeUtils.dayOfMonthET(epoch) - 1) % values().length];
         }
 
         static {
@@ -30,7 +30,6 @@ import wtf.cheeze.sbt.config.categories.Mining;
 import wtf.cheeze.sbt.hud.bases.MultilineTextHud;
 import wtf.cheeze.sbt.hud.icon.HudIcon;
 import wtf.cheeze.sbt.hud.cache.Cache;
-import wtf.cheeze.sbt.hud.cache.UpdateTiming;
 import wtf.cheeze.sbt.hud.components.FlexibleHudLine;
 import wtf.cheeze.sbt.hud.components.HudComponent;
 import wtf.cheeze.sbt.hud.components.SingleHudLine;
@@ -39,7 +38,6 @@ import wtf.cheeze.sbt.hud.utils.CompositionEntry;
 import wtf.cheeze.sbt.hud.utils.DrawMode;
 import wtf.cheeze.sbt.hud.utils.HudInformation;
 import wtf.cheeze.sbt.hud.utils.HudName;
-import wtf.cheeze.sbt.utils.CheezePair;
 import wtf.cheeze.sbt.utils.DataUtils;
 import wtf.cheeze.sbt.utils.NumberUtils;
 import wtf.cheeze.sbt.utils.render.ColorUtils;
@@ -49,9 +47,11 @@ import wtf.cheeze.sbt.hud.icon.Icons;
 import wtf.cheeze.sbt.utils.skyblock.MiningData;
 import wtf.cheeze.sbt.utils.skyblock.SkyblockData;
 import wtf.cheeze.sbt.utils.skyblock.SkyblockUtils;
+import wtf.cheeze.sbt.utils.skyblock.Stat;
 
 import java.awt.*;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Supplier;
 
@@ -75,16 +75,23 @@ public class MiningHud extends MultilineTextHud {
 
 
     private static final String COOLDOWN_FORMAT = "%ds";
+
+    private static final HudName NAME = new HudName("Mining HUD", Colors.CYAN);
+
     @Override
     public @NotNull HudName getName() {
+        return NAME;
+    }
 
-        return new HudName("Mining HUD", Colors.CYAN);
+    @Override
+    public boolean isActive() {
+        return SkyblockUtils.inMiningIsland() && SBTConfig.mining().hud.enabled;
     }
 
     @Override
     public boolean shouldRender(boolean fromHudScreen) {
         if (!super.shouldRender(fromHudScreen)) return false;
-        return (SkyblockUtils.inMiningIsland() && this.lines.length > 0) && (SBTConfig.mining().hud.enabled || fromHudScreen);
+        return fromHudScreen || this.lines.length > 0;
     }
 
     private final Supplier<Boolean> useIconSupplier = () -> SBTConfig.mining().hud.icons;
@@ -99,8 +106,8 @@ public class MiningHud extends MultilineTextHud {
         List<HudComponent> lines = new ArrayList<>();
         for (Entry entry : SBTConfig.mining().hud.composition) {
             switch (entry) {
-                // For the commissions widget, we cache the parts for a second, since there's no need to update it more frequently
-                case COMMISSIONS -> lines.add(new FlexibleHudLine(this::getComParts, UpdateTiming.SECOND));
+                // The commission parts come from a pool and are only looked up again when the commissions change
+                case COMMISSIONS -> lines.add(new FlexibleHudLine(this::getComParts, Stat.COMMISSIONS));
                 case MITHRIL_POWDER -> lines.add(new SingleHudLine(
                         DataUtils.ALWAYS_WHITE,
                         () -> SBTConfig.mining().hud.outlineColor,
@@ -111,7 +118,8 @@ public class MiningHud extends MultilineTextHud {
                                 TextUtils.withColor(SBTConfig.mining().hud.abbreviatePowder ? NumberUtils.addKOrM(SkyblockData.miningData.mithPowder, ",") : NumberUtils.formatNumber(SkyblockData.miningData.mithPowder, ","), Colors.GREEN)
                         ),
                         () -> Icons.MINING_ICONS.get("MITHRIL_POWDER"),
-                        useIconSupplier
+                        useIconSupplier,
+                        Stat.POWDER
                 ));
                 case GEMSTONE_POWDER -> lines.add(new SingleHudLine(
                         DataUtils.ALWAYS_WHITE,
@@ -123,7 +131,8 @@ public class MiningHud extends MultilineTextHud {
                                 TextUtils.withColor(SBTConfig.mining().hud.abbreviatePowder ? NumberUtils.addKOrM(SkyblockData.miningData.gemPowder, ",") : NumberUtils.formatNumber(SkyblockData.miningData.gemPowder, ","), Colors.PINK)
                         ),
                         () -> Icons.MINING_ICONS.get("GEMSTONE_POWDER"),
-                        useIconSupplier
+                        useIconSupplier,
+                        Stat.POWDER
                 ));
                 case GLACITE_POWER -> lines.add(new SingleHudLine(
                         DataUtils.ALWAYS_WHITE,
@@ -135,7 +144,8 @@ public class MiningHud extends MultilineTextHud {
                                 TextUtils.withColor(SBTConfig.mining().hud.abbreviatePowder ? NumberUtils.addKOrM(SkyblockData.miningData.glacPowder, ",") : NumberUtils.formatNumber(SkyblockData.miningData.glacPowder, ","), Colors.LIGHT_BLUE)
                         ),
                         () -> Icons.MINING_ICONS.get("GLACITE_POWDER"),
-                        useIconSupplier
+                        useIconSupplier,
+                        Stat.POWDER
                 ));
                 case COOLDOWN -> lines.add(new SingleHudLine(
                         DataUtils.ALWAYS_WHITE,
@@ -166,44 +176,62 @@ public class MiningHud extends MultilineTextHud {
     }
 
 
-    private final ArrayList<Cache<Text>> comCache = new ArrayList<>();
+    /**
+     * Enough commission slots for every commission perk, the pool only grows if more commissions are ever shown
+     */
+    private static final int COMMISSION_SLOTS = 4;
+
+    /**
+     * One part per commission position, built once and reused for whichever commission is in that position
+     */
+    private FlexibleHudLine.Part[] comSlots = new FlexibleHudLine.Part[0];
+
+    /**
+     * The first n slots for each commission count n, so the commission line gets the same array back until the count changes
+     */
+    private FlexibleHudLine.Part[][] comParts = new FlexibleHudLine.Part[0][];
 
     private FlexibleHudLine.Part[] getComParts() {
-            var arr = new FlexibleHudLine.Part[SkyblockData.miningData.comNo];
-            for (int i = 0; i < SkyblockData.miningData.comNo; i++) {
-
-                var suppliers = genComSuppliers(i);
-                if (comCache.toArray().length <= i || comCache.get(i) == null) {
-                    comCache.add(new Cache<>(UpdateTiming.TICK, suppliers.key(), HudComponent.ERROR));
-                }
-                arr[i] = new FlexibleHudLine.Part(
-                        suppliers.key(),
-                        () -> SBTConfig.mining().hud.mode,
-                        DataUtils.ALWAYS_WHITE,
-                        () -> SBTConfig.mining().hud.outlineColor,
-                        suppliers.val(),
-                        () -> suppliers.val().get() != null && useIconSupplier.get(),
-                        comCache.get(i)
-                );
-            }
-            return arr;
+        int count = SkyblockData.miningData.comNo;
+        if (count >= comParts.length) {
+            growComSlots(Math.max(count, COMMISSION_SLOTS));
+        }
+        return comParts[count];
     }
 
-    private CheezePair<Supplier<Text>, Supplier<HudIcon>> genComSuppliers(int i) {
-
-        return new CheezePair<>(
-                () -> {
-                    var com = SkyblockData.miningData.coms[i];
-                    var max = MiningData.getComMax(com.key());
-                    var num = com.val();
-                    return TextUtils.join(
-                            TextUtils.withColor(com.key() + ":", SBTConfig.mining().hud.color),
-                            TextUtils.SPACE,
-                            num == 1 ? TextUtils.withColor("DONE", Colors.LIME) : TextUtils.withColor(((max == -1 || !SBTConfig.mining().hud.useNumbers) ? NumberUtils.formatPercent(num) : Math.round(num * max) + "/" + max), ColorUtils.fromFloatProgress(num))
-                    );
-                },
-                () -> MiningData.getComIcon(SkyblockData.miningData.coms[i].key()));
+    private void growComSlots(int size) {
+        var slots = Arrays.copyOf(comSlots, size);
+        for (int i = comSlots.length; i < size; i++) {
+            slots[i] = createComPart(i);
+        }
+        comSlots = slots;
+        comParts = new FlexibleHudLine.Part[size + 1][];
+        for (int count = 0; count <= size; count++) {
+            comParts[count] = Arrays.copyOf(slots, count);
+        }
+    }
 
+    private FlexibleHudLine.Part createComPart(int i) {
+        Supplier<Text> text = () -> {
+            var com = SkyblockData.miningData.coms[i];
+            var max = MiningData.getComMax(com.key());
+            var num = com.val();
+            return TextUtils.join(
+                    TextUtils.withColor(com.key() + ":", SBTConfig.mining().hud.color),
+                    TextUtils.SPACE,
+                    num == 1 ? TextUtils.withColor("DONE", Colors.LIME) : TextUtils.withColor(((max == -1 || !SBTConfig.mining().hud.useNumbers) ? NumberUtils.formatPercent(num) : Math.round(num * max) + "/" + max), ColorUtils.fromFloatProgress(num))
+            );
+        };
+        Supplier<HudIcon> icon = () -> MiningData.getComIcon(SkyblockData.miningData.coms[i].key());
+        return new FlexibleHudLine.Part(
+                text,
+                () -> SBTConfig.mining().hud.mode,
+                DataUtils.ALWAYS_WHITE,
+                () -> SBTConfig.mining().hud.outlineColor,
+                icon,
+                () -> icon.get() != null && useIconSupplier.get(),
+                new Cache<>(text, HudComponent.ERROR, Stat.COMMISSIONS)
+        );
     }
 
 
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2024 MisterCheezeCake
+ *
+ * This file is part of SkyblockTweaks.
+ *
+ * SkyblockTweaks is free software: you can redistribute it
+ * and/or modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SkyblockTweaks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SkyblockTweaks. If not, see <https://www.gnu.org/licenses/>.
+ */
+package wtf.cheeze.sbt.hud;
+
+import net.minecraft.client.MinecraftClient;
+import wtf.cheeze.sbt.hud.cache.CacheScheduler;
+import wtf.cheeze.sbt.utils.enums.Location;
+import wtf.cheeze.sbt.utils.render.RenderUtils;
+import wtf.cheeze.sbt.utils.skyblock.SkyblockData;
+
+import java.util.Arrays;
+
+/**
+ * The HUDs the HUD pass walks each frame, those which are {@link HUD#isActive() active} and not placed entirely off the screen.
+ * <p>
+ * The index is only rebuilt when something it was built from changes: the config being saved (which is also how moved HUDs are stored),
+ * the location, joining or leaving SkyBlock, or the window being resized. Checking for that is a handful of field comparisons per frame,
+ * instead of every registered HUD evaluating its config and location conditions every frame
+ */
+public final class ActiveHuds {
+
+    private static HUD[] active = new HUD[0];
+    private static int builtSize = -1;
+
+    private static int configGeneration = -1;
+    private static boolean inSB = false;
+    private static Location location = null;
+    private static int windowWidth = -1;
+    private static int windowHeight = -1;
+
+    private ActiveHuds() {}
+
+    /**
+     * @return the active HUDs, in the order they were registered in {@link HudManager#HUDS}, rebuilt first if anything they depend on changed
+     */
+    public static HUD[] get() {
+        var window = MinecraftClient.getInstance().getWindow();
+        int width = window.getScaledWidth();
+        int height = window.getScaledHeight();
+        if (builtSize != HudManager.HUDS.size() || configGeneration != CacheScheduler.configGeneration() || inSB != SkyblockData.inSB
+                || location != SkyblockData.location || windowWidth != width || windowHeight != height) {
+            rebuild(width, height);
+        }
+        return active;
+    }
+
+    private static void rebuild(int width, int height) {
+        builtSize = HudManager.HUDS.size();
+        configGeneration = CacheScheduler.configGeneration();
+        inSB = SkyblockData.inSB;
+        location = SkyblockData.location;
+        windowWidth = width;
+        windowHeight = height;
+
+        var huds = new HUD[builtSize];
+        int count = 0;
+        for (HUD hud : HudManager.HUDS) {
+            if (!hud.isActive()) continue;
+            if (RenderUtils.isOffscreen(hud.getCurrentBounds(), hud.INFO.getAnchorPoint.get(), width, height)) continue;
+            huds[count++] = hud;
+        }
+        active = count == huds.length ? huds : Arrays.copyOf(huds, count);
+    }
+}
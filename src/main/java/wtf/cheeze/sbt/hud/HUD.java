@@ -23,11 +23,17 @@ import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.DrawContext;
 import net.minecraft.text.Text;
 import org.jetbrains.annotations.NotNull;
+import wtf.cheeze.sbt.config.ConfigSnapshot;
 import wtf.cheeze.sbt.hud.bounds.Bounds;
 import wtf.cheeze.sbt.hud.bounds.BoundsRelative;
+import wtf.cheeze.sbt.hud.cache.HudRenderCache;
+import wtf.cheeze.sbt.hud.components.HudComponent;
 import wtf.cheeze.sbt.hud.screen.HudScreen;
+import wtf.cheeze.sbt.hud.utils.AnchorPoint;
 import wtf.cheeze.sbt.hud.utils.HudInformation;
 import wtf.cheeze.sbt.hud.utils.HudName;
+import wtf.cheeze.sbt.utils.FrameProfiler;
+import wtf.cheeze.sbt.utils.TimingStats;
 
 /**
  * Represents any sort of HUD that can be drawn to the screen, and handles logic that is that same no matter how the HUD renders
@@ -44,6 +50,23 @@ public abstract class HUD {
      */
     public boolean supportsNonLeftAnchors = true;
 
+    /**
+     * Whether the HUD reports content versions, and so can be offered the {@link HudRenderCache}
+     */
+    public boolean supportsRenderCache = false;
+
+    public final HudRenderCache renderCache = new HudRenderCache(this);
+
+    /**
+     * The HUD's slot in {@link HudManager#HUDS} and the {@link ConfigSnapshot}, -1 until it is registered
+     */
+    int slot = -1;
+
+    /**
+     * How long the HUD takes to draw each frame, recorded while the {@link FrameProfiler} is enabled
+     */
+    public final TimingStats renderTime = new TimingStats(FrameProfiler.WINDOW);
+
     /**
      * @return the name of the HUD that will be shown in the HUD screen
      */
@@ -54,6 +77,19 @@ public abstract class HUD {
     public abstract @NotNull BoundsRelative getCurrentBoundsRelative();
 
 
+    /**
+     * Whether the HUD is enabled and belongs in the current location, only checked when the config is saved, the location changes
+     * or the player joins or leaves SkyBlock, see {@link ActiveHuds}. Conditions which can change between those, such as holding a drill,
+     * belong in {@link #shouldRender(boolean)} instead
+     */
+    public boolean isActive() {
+        return true;
+    }
+
+    /**
+     * Checked every frame, but in game only for the HUDs {@link ActiveHuds} holds, so overrides only add the conditions which can change
+     * between rebuilds of the index and never repeat {@link #isActive()}. The HUD screen shows every HUD, so overrides return true when fromHudScreen is set
+     */
     public boolean shouldRender(boolean fromHudScreen) {
         // We let the HUD screen handle rendering when it is open
         if (!fromHudScreen && MinecraftClient.getInstance().currentScreen instanceof HudScreen) return false;
@@ -68,6 +104,14 @@ public abstract class HUD {
      */
     public abstract void render(DrawContext context, boolean fromHudScreen, boolean hovered);
 
+    /**
+     * Refreshes the HUD's content if it is due and reports its version, see {@link HudComponent#contentVersion()}
+     * @return the version, or {@link HudComponent#UNCACHEABLE} if the HUD cannot tell when what it draws changes
+     */
+    public long getContentVersion() {
+        return HudComponent.UNCACHEABLE;
+    }
+
     /**
      * Calls the render method with hovered set to false
      */
@@ -76,26 +120,33 @@ public abstract class HUD {
     }
 
 
+    /**
+     * Where the HUD is drawn, read from the {@link ConfigSnapshot} once the HUD is registered with {@link HudManager}
+     */
+    protected ConfigSnapshot.Placement placement() {
+        return slot >= 0 ? ConfigSnapshot.placement(slot) : ConfigSnapshot.Placement.of(INFO);
+    }
+
     /**
      * Updates the position of the HUD
      */
     public void updatePosition(float x, float y) {
         INFO.setX.accept(x);
         INFO.setY.accept(y);
+        ConfigSnapshot.publish();
     }
 
     /**
      * Updates the scale of the HUD, clamping it to the min and max scale
      */
     public void updateScale(float scale) {
-        if (scale <= MIN_SCALE) {
-            INFO.setScale.accept(MIN_SCALE);
-            return;
-        } else if (scale >= MAX_SCALE) {
-            INFO.setScale.accept(MAX_SCALE);
-            return;
-        }
-        INFO.setScale.accept(scale);
+        INFO.setScale.accept(Math.clamp(scale, MIN_SCALE, MAX_SCALE));
+        ConfigSnapshot.publish();
+    }
+
+    public void updateAnchorPoint(AnchorPoint anchorPoint) {
+        INFO.setAnchorPoint.accept(anchorPoint);
+        ConfigSnapshot.publish();
     }
 
     public void drawBackground(DrawContext context, int color, boolean hasOutline) {
@@ -18,47 +18,123 @@
  */
 package wtf.cheeze.sbt.hud;
 
+import net.minecraft.client.gui.DrawContext;
+import net.minecraft.text.Text;
+import wtf.cheeze.sbt.config.ConfigSnapshot;
 import wtf.cheeze.sbt.events.HudRenderEvents;
 import wtf.cheeze.sbt.features.huds.*;
 import wtf.cheeze.sbt.features.mining.EventTimerHud;
 import wtf.cheeze.sbt.features.mining.FetchurFeatures;
 import wtf.cheeze.sbt.features.mining.MiningHud;
+import wtf.cheeze.sbt.hud.cache.Cache;
+import wtf.cheeze.sbt.hud.cache.CacheScheduler;
+import wtf.cheeze.sbt.hud.cache.UpdateTiming;
+import wtf.cheeze.sbt.hud.components.HudComponent;
+import wtf.cheeze.sbt.utils.AllocationCounter;
+import wtf.cheeze.sbt.utils.FrameProfiler;
+import wtf.cheeze.sbt.utils.render.Colors;
+import wtf.cheeze.sbt.utils.render.HudBatcher;
+import wtf.cheeze.sbt.utils.render.RenderUtils;
 
 import java.util.ArrayList;
+import java.util.List;
 
 public class HudManager {
     public static final ArrayList<HUD> HUDS = new ArrayList<>();
 
+    /**
+     * What the HUD pass allocates per frame, split into rendering the HUDs into the batch, which should allocate nothing while their content is unchanged,
+     * and submitting the batch to the game, measured while {@link #showAllocations} is set with /sbt debug allocations
+     */
+    public static final AllocationCounter RENDER_ALLOCATIONS = new AllocationCounter(120);
+    public static final AllocationCounter SUBMIT_ALLOCATIONS = new AllocationCounter(120);
+    public static boolean showAllocations = false;
+
+    private static final Cache<Text> ALLOCATION_READOUT = new Cache<>(UpdateTiming.SECOND, () -> Text.literal(
+            "HUD allocations per frame: render " + RENDER_ALLOCATIONS.average() + " B (peak " + RENDER_ALLOCATIONS.peak() + " B), submit " + SUBMIT_ALLOCATIONS.average() + " B"
+    ), HudComponent.ERROR);
+
+    private static final Cache<List<Text>> PROFILER_READOUT = new Cache<>(UpdateTiming.SECOND, () -> FrameProfiler.report(8), List.of());
+
     public static void registerEvents() {
-        HUDS.add(SkillHudManager.INSTANCE.SKILL_BAR);
-        HUDS.add(SkillHudManager.INSTANCE.SKILL_HUD);
-        HUDS.add(SpeedHud.INSTANCE);
-        HUDS.add(DefenseHud.INSTANCE);
-        HUDS.add(EhpHud.INSTANCE);
-        HUDS.add(DamageReductionHud.INSTANCE);
-        HUDS.add(DrillFuelBar.INSTANCE);
-        HUDS.add(HealthBar.INSTANCE);
-        HUDS.add(ManaBar.INSTANCE);
-        HUDS.add(HealthHud.INSTANCE);
-        HUDS.add(ManaHud.INSTANCE);
-        HUDS.add(OverflowManaHud.INSTANCE);
-        HUDS.add(DrillFuelHud.INSTANCE);
-        HUDS.add(CoordinatesHud.INSTANCE);
-        HUDS.add(RealTimeHud.INSTANCE);
-        HUDS.add(FpsHud.INSTANCE);
-        HUDS.add(TickerHud.INSTANCE);
-        HUDS.add(QuiverHud.INSTANCE);
-        HUDS.add(ArmorStackHud.INSTANCE);
-        HUDS.add(RiftTimeHud.INSTANCE);
-        HUDS.add(MiningHud.INSTANCE);
-        HUDS.add(EventTimerHud.INSTANCE);
-        HUDS.add(RainmakerHud.INSTANCE);
-        HUDS.add(SecretsHud.INSTANCE);
-        HUDS.add(FetchurFeatures.FetchurHud.INSTANCE);
-        HUDS.add(PressureHud.INSTANCE);
+        CacheScheduler.registerEvents();
+        ConfigSnapshot.registerEvents();
+        register(SkillHudManager.INSTANCE.SKILL_BAR);
+        register(SkillHudManager.INSTANCE.SKILL_HUD);
+        register(SpeedHud.INSTANCE);
+        register(DefenseHud.INSTANCE);
+        register(EhpHud.INSTANCE);
+        register(DamageReductionHud.INSTANCE);
+        register(DrillFuelBar.INSTANCE);
+        register(HealthBar.INSTANCE);
+        register(ManaBar.INSTANCE);
+        register(HealthHud.INSTANCE);
+        register(ManaHud.INSTANCE);
+        register(OverflowManaHud.INSTANCE);
+        register(DrillFuelHud.INSTANCE);
+        register(CoordinatesHud.INSTANCE);
+        register(RealTimeHud.INSTANCE);
+        register(FpsHud.INSTANCE);
+        register(TickerHud.INSTANCE);
+        register(QuiverHud.INSTANCE);
+        register(ArmorStackHud.INSTANCE);
+        register(RiftTimeHud.INSTANCE);
+        register(MiningHud.INSTANCE);
+        register(EventTimerHud.INSTANCE);
+        register(RainmakerHud.INSTANCE);
+        register(SecretsHud.INSTANCE);
+        register(FetchurFeatures.FetchurHud.INSTANCE);
+        register(PressureHud.INSTANCE);
 
         RainmakerHud.INSTANCE.registerEvents();
 
-        HudRenderEvents.AFTER_MAIN_HUD.register((context, tickCounter) -> HUDS.forEach(hud -> hud.render(context, false)));
+        HudRenderEvents.AFTER_MAIN_HUD.register((context, tickCounter) -> {
+            boolean measure = showAllocations;
+            if (measure) RENDER_ALLOCATIONS.begin();
+            CacheScheduler.nextFrame();
+            HudBatcher.INSTANCE.begin();
+            try {
+                boolean timed = FrameProfiler.enabled;
+                for (HUD hud : ActiveHuds.get()) {
+                    long start = timed ? System.nanoTime() : 0;
+                    hud.renderCache.render(context);
+                    if (timed) hud.renderTime.record(System.nanoTime() - start);
+                }
+            } finally {
+                if (measure) {
+                    RENDER_ALLOCATIONS.end();
+                    SUBMIT_ALLOCATIONS.begin();
+                }
+                HudBatcher.INSTANCE.flush(context);
+                if (measure) SUBMIT_ALLOCATIONS.end();
+            }
+            if (measure) drawAllocations(context);
+            if (FrameProfiler.enabled) drawProfiler(context, measure ? 12 : 2);
+        });
+    }
+
+    /**
+     * Adds the HUD to {@link #HUDS}, giving it the slot its placement is kept in by the {@link ConfigSnapshot}
+     */
+    public static void register(HUD hud) {
+        hud.slot = HUDS.size();
+        HUDS.add(hud);
+    }
+
+    private static void drawAllocations(DrawContext context) {
+        if (ALLOCATION_READOUT.isDueForUpdate()) {
+            ALLOCATION_READOUT.update();
+        }
+        RenderUtils.drawText(context, ALLOCATION_READOUT.get(), 2, 2, Colors.YELLOW, true);
+    }
+
+    private static void drawProfiler(DrawContext context, int y) {
+        if (PROFILER_READOUT.isDueForUpdate()) {
+            PROFILER_READOUT.update();
+        }
+        for (var line : PROFILER_READOUT.get()) {
+            RenderUtils.drawText(context, line, 2, y, Colors.YELLOW, true);
+            y += 10;
+        }
     }
 }
@@ -24,6 +24,7 @@ import org.jetbrains.annotations.NotNull;
 import wtf.cheeze.sbt.features.huds.TickerHud;
 import wtf.cheeze.sbt.hud.bounds.Bounds;
 import wtf.cheeze.sbt.hud.bounds.BoundsRelative;
+import wtf.cheeze.sbt.hud.bounds.Layout;
 import wtf.cheeze.sbt.hud.HUD;
 import wtf.cheeze.sbt.utils.render.RenderUtils;
 
@@ -40,6 +41,8 @@ public abstract class AbstractTickerHud extends HUD {
      */
     protected boolean fhs = false;
 
+    private final Layout layout = new Layout();
+
     public abstract int getMax(boolean fromHudScreen);
     public abstract int getUsable(boolean fromHudScreen);
 
@@ -83,20 +86,11 @@ public abstract class AbstractTickerHud extends HUD {
 
     @Override
     public @NotNull Bounds getCurrentBounds() {
-        var scale = (float) INFO.getScale.get();
-        switch (INFO.getAnchorPoint.get()) {
-            case LEFT -> {
-                return new Bounds(getActualX(INFO.getX.get()), getActualY(INFO.getY.get()), getWidth() * scale, DIMENSION * scale, scale);
-            }
-            case RIGHT -> {
-                return new Bounds((int) (getActualX(INFO.getX.get()) - getWidth() * scale), getActualY(INFO.getY.get()), getWidth() * scale, DIMENSION * scale, scale);
-            }
-            case CENTER -> {
-                return new Bounds((int) (getActualX(INFO.getX.get()) - getWidth() * scale / 2), getActualY(INFO.getY.get()), getWidth() * scale, DIMENSION * scale, scale);
-            }
-            default -> throw new IllegalStateException("Unexpected value: " + INFO.getAnchorPoint.get());
-        }
+        var placement = placement();
+        layout.update(placement.x(), placement.y(), placement.scale(), placement.anchor(), getWidth(), DIMENSION);
+        return layout.bounds();
     }
+
     @Override
     public @NotNull BoundsRelative getCurrentBoundsRelative() {
         var scale = (float) INFO.getScale.get();
@@ -26,8 +26,13 @@ import net.minecraft.util.Identifier;
 import org.jetbrains.annotations.NotNull;
 import wtf.cheeze.sbt.hud.bounds.Bounds;
 import wtf.cheeze.sbt.hud.bounds.BoundsRelative;
+import wtf.cheeze.sbt.hud.bounds.Layout;
 import wtf.cheeze.sbt.hud.HUD;
+import wtf.cheeze.sbt.hud.cache.Cache;
+import wtf.cheeze.sbt.hud.cache.UpdateTiming;
+import wtf.cheeze.sbt.utils.render.Colors;
 import wtf.cheeze.sbt.utils.render.RenderUtils;
+import wtf.cheeze.sbt.utils.skyblock.Stat;
 
 /**
  * A HUD that displays a bar, code liberally inspired by SBA, but way simpler thanks to modern mc, bar textures taken directly from SBA
@@ -42,6 +47,25 @@ public abstract class BarHud extends HUD {
     public static final int BAR_WIDTH = 71;
     public static final int BAR_HEIGHT = 5;
 
+    private final Cache<Integer> colorCache;
+    private final Cache<Integer> fillCache;
+
+    private final Layout layout = new Layout();
+
+    /**
+     * @param inputs the stats the color and fill are computed from, they are then only recomputed when one of these changes or the config is saved,
+     *               with no stats they are recomputed every frame
+     */
+    protected BarHud(Stat... inputs) {
+        if (inputs.length == 0) {
+            colorCache = new Cache<>(UpdateTiming.FRAME, this::getColor, Colors.WHITE);
+            fillCache = new Cache<>(UpdateTiming.FRAME, () -> calculateFill(getFill()), 0);
+        } else {
+            colorCache = new Cache<>(this::getColor, Colors.WHITE, inputs);
+            fillCache = new Cache<>(() -> calculateFill(getFill()), 0, inputs);
+        }
+    }
+
     @Override
     public void render(DrawContext context, boolean fromHudScreen, boolean hovered) {
         if (!shouldRender(fromHudScreen)) return;
@@ -50,34 +74,26 @@ public abstract class BarHud extends HUD {
             drawBackground(context, hovered ? BACKGROUND_HOVERED : BACKGROUND_NOT_HOVERED);
         }
 
-        var color = getColor();
+        int color = current(colorCache);
+        int fill = current(fillCache);
         if (bounds.scale == 1.0f) {
             RenderUtils.drawBar(context, UNFILLED, bounds.x, bounds.y, BAR_WIDTH, color);
-            RenderUtils.drawBar(context, FILLED, bounds.x, bounds.y, calculateFill(getFill()), color);
+            RenderUtils.drawBar(context, FILLED, bounds.x, bounds.y, fill, color);
         } else {
             RenderUtils.beginScale(context, bounds.scale);
             RenderUtils.drawBar(context, UNFILLED, (int) (bounds.x / bounds.scale), (int) (bounds.y / bounds.scale), BAR_WIDTH, color);
-            RenderUtils.drawBar(context, FILLED, (int) (bounds.x / bounds.scale), (int) (bounds.y / bounds.scale), calculateFill(getFill()), color);
+            RenderUtils.drawBar(context, FILLED, (int) (bounds.x / bounds.scale), (int) (bounds.y / bounds.scale), fill, color);
             RenderUtils.popMatrix(context);
         }
     }
 
     @Override
     public @NotNull Bounds getCurrentBounds() {
-        var scale = (float) INFO.getScale.get();
-        switch (INFO.getAnchorPoint.get()) {
-            case LEFT -> {
-                return new Bounds(getActualX(INFO.getX.get()), getActualY(INFO.getY.get()), BAR_WIDTH * scale, BAR_HEIGHT * scale, scale);
-            }
-            case RIGHT -> {
-                return new Bounds((int) (getActualX(INFO.getX.get()) - BAR_WIDTH * scale), getActualY(INFO.getY.get()), BAR_WIDTH * scale, BAR_HEIGHT * scale, scale);
-            }
-            case CENTER -> {
-                return new Bounds((int) (getActualX(INFO.getX.get()) - BAR_WIDTH * scale / 2), getActualY(INFO.getY.get()), BAR_WIDTH * scale, BAR_HEIGHT * scale, scale);
-            }
-            default -> throw new IllegalStateException("Unexpected value: " + INFO.getAnchorPoint.get());
-        }
+        var placement = placement();
+        layout.update(placement.x(), placement.y(), placement.scale(), placement.anchor(), BAR_WIDTH, BAR_HEIGHT);
+        return layout.bounds();
     }
+
     @Override
     public @NotNull BoundsRelative getCurrentBoundsRelative() {
         var scale = (float) INFO.getScale.get();
@@ -95,6 +111,13 @@ public abstract class BarHud extends HUD {
 
         }
     }
+    private static int current(Cache<Integer> cache) {
+        if (cache.isDueForUpdate()) {
+            cache.update();
+        }
+        return cache.get();
+    }
+
     private static int calculateFill(float percent) {
         if (percent >= 1.0f) return BAR_WIDTH;
         var i = (int) (percent * BAR_WIDTH);
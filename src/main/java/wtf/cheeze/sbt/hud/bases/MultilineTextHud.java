@@ -5,8 +5,11 @@ import net.minecraft.client.gui.DrawContext;
 import org.jetbrains.annotations.NotNull;
 import wtf.cheeze.sbt.hud.bounds.Bounds;
 import wtf.cheeze.sbt.hud.bounds.BoundsRelative;
+import wtf.cheeze.sbt.hud.bounds.Layout;
+import wtf.cheeze.sbt.hud.cache.ContentVersion;
 import wtf.cheeze.sbt.hud.HUD;
 import wtf.cheeze.sbt.hud.components.HudComponent;
+import wtf.cheeze.sbt.hud.utils.AnchorPoint;
 import wtf.cheeze.sbt.utils.render.RenderUtils;
 
 public abstract class MultilineTextHud extends HUD {
@@ -15,9 +18,33 @@ public abstract class MultilineTextHud extends HUD {
 
     protected MultilineTextHud() {
         this.supportsNonLeftAnchors = false;
+        this.supportsRenderCache = true;
     }
     public HudComponent[] lines;
 
+    private final Layout layout = new Layout();
+
+    /**
+     * The lines last versioned, so a new composition gets a new version even if its lines have been seen before
+     */
+    private HudComponent[] versionedLines = null;
+    private long linesVersion = 0;
+
+    @Override
+    public long getContentVersion() {
+        if (lines != versionedLines) {
+            versionedLines = lines;
+            linesVersion = ContentVersion.next();
+        }
+        long version = linesVersion;
+        for (var line : lines) {
+            long lineVersion = line.contentVersion();
+            if (lineVersion == HudComponent.UNCACHEABLE) return HudComponent.UNCACHEABLE;
+            version = Math.max(version, lineVersion);
+        }
+        return version;
+    }
+
     public int getLongestLineWidth(boolean relative){
         int longest = 0;
         for(var line : lines){
@@ -37,12 +64,14 @@ public abstract class MultilineTextHud extends HUD {
         return i;
     }
 
+    /**
+     * Lays the HUD out again if anything it depends on changed, the line widths are those measured when the lines last rendered
+     */
     @Override
     public @NotNull Bounds getCurrentBounds() {
-        var scale = (float) INFO.getScale.get();
-        var w = getLongestLineWidth();
-        var h = getLineNo();
-        return new Bounds(getActualX(INFO.getX.get()), getActualY(INFO.getY.get()), w * scale, h * client.textRenderer.fontHeight * scale, scale);
+        var placement = placement();
+        layout.update(placement.x(), placement.y(), placement.scale(), AnchorPoint.LEFT, getLongestLineWidth(), getLineNo() * client.textRenderer.fontHeight);
+        return layout.bounds();
     }
     @Override
     public @NotNull BoundsRelative getCurrentBoundsRelative() {
@@ -23,6 +23,8 @@ import org.jetbrains.annotations.NotNull;
 import wtf.cheeze.sbt.hud.HUD;
 import wtf.cheeze.sbt.hud.bounds.Bounds;
 import wtf.cheeze.sbt.hud.bounds.BoundsRelative;
+import wtf.cheeze.sbt.hud.bounds.Layout;
+import wtf.cheeze.sbt.hud.cache.ContentVersion;
 import wtf.cheeze.sbt.hud.components.HudComponent;
 import wtf.cheeze.sbt.utils.CheezePair;
 import wtf.cheeze.sbt.utils.render.RenderUtils;
@@ -32,6 +34,33 @@ public abstract class SingleLineHybridHud extends HUD {
     private int width = 0;
     protected CheezePair<HudComponent, Integer>[] components;
 
+    private final Layout layout = new Layout();
+
+    /**
+     * The components last versioned, so a new composition gets a new version even if its components have been seen before
+     */
+    private CheezePair<HudComponent, Integer>[] versionedComponents = null;
+    private long componentsVersion = 0;
+
+    protected SingleLineHybridHud() {
+        this.supportsRenderCache = true;
+    }
+
+    @Override
+    public long getContentVersion() {
+        if (components != versionedComponents) {
+            versionedComponents = components;
+            componentsVersion = ContentVersion.next();
+        }
+        long version = componentsVersion;
+        for (var pair : components) {
+            long componentVersion = pair.key().contentVersion();
+            if (componentVersion == HudComponent.UNCACHEABLE) return HudComponent.UNCACHEABLE;
+            version = Math.max(version, componentVersion);
+        }
+        return version;
+    }
+
 
     //TODO: Scale is not perfect here
     @Override
@@ -57,22 +86,16 @@ public abstract class SingleLineHybridHud extends HUD {
         this.width = renderX - bounds.x;
     }
 
+    /**
+     * Lays the HUD out again if anything it depends on changed, the width and height are those measured when the HUD last rendered
+     */
     @Override
     public @NotNull Bounds getCurrentBounds() {
-        var scale = (float) INFO.getScale.get();
-        switch (INFO.getAnchorPoint.get()) {
-            case LEFT -> {
-                return new Bounds(getActualX(INFO.getX.get()), getActualY(INFO.getY.get()), width, height , scale);
-            }
-            case RIGHT -> {
-                return new Bounds((int) (getActualX(INFO.getX.get()) - width ), getActualY(INFO.getY.get()), width , height , scale);
-            }
-            case CENTER -> {
-                return new Bounds((int) (getActualX(INFO.getX.get()) - width  / 2), getActualY(INFO.getY.get()), width , height , scale);
-            }
-            default -> throw new IllegalStateException("Unexpected value: " + INFO.getAnchorPoint.get());
-        }
+        var placement = placement();
+        layout.updateScaled(placement.x(), placement.y(), placement.scale(), placement.anchor(), width, height);
+        return layout.bounds();
     }
+
     @Override
     public @NotNull BoundsRelative getCurrentBoundsRelative() {
         var scale = (float) INFO.getScale.get();
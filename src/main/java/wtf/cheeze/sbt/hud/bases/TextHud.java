@@ -23,6 +23,7 @@ import org.jetbrains.annotations.NotNull;
 import wtf.cheeze.sbt.hud.utils.DrawMode;
 import wtf.cheeze.sbt.hud.bounds.Bounds;
 import wtf.cheeze.sbt.hud.bounds.BoundsRelative;
+import wtf.cheeze.sbt.hud.bounds.Layout;
 import wtf.cheeze.sbt.hud.HUD;
 import wtf.cheeze.sbt.hud.components.SingleHudLine;
 import wtf.cheeze.sbt.utils.render.RenderUtils;
@@ -32,7 +33,17 @@ public abstract class TextHud extends HUD {
 
 
     public SingleHudLine line;
-    
+
+    private final Layout layout = new Layout();
+
+    protected TextHud() {
+        this.supportsRenderCache = true;
+    }
+
+    @Override
+    public long getContentVersion() {
+        return line.contentVersion();
+    }
 
     @Override
     public void render(DrawContext context, boolean fromHudScreen, boolean hovered) {
@@ -46,48 +57,27 @@ public abstract class TextHud extends HUD {
         RenderUtils.popMatrix(context);
     }
 
+    /**
+     * Refreshes the line's text and lays the HUD out again if anything it depends on changed, the text is measured only when it changes
+     */
     public @NotNull Bounds getCurrentBounds() {
-        var scale = (float) INFO.getScale.get();
-        switch (INFO.getAnchorPoint.get()) {
-            case LEFT -> {
-                return new Bounds(
-                        getActualX(INFO.getX.get()),
-                        getActualY(INFO.getY.get()),
-                        (RenderUtils.getStringWidth(line.text.get()) + (line.useIcon.get() ? 10: 0)) * scale,
-                        client.textRenderer.fontHeight * scale,
-                        scale);
-            }
-            case RIGHT -> {
-                return new Bounds(
-                        (int) (getActualX(INFO.getX.get()) - (RenderUtils.getStringWidth(line.text.get()) + (line.useIcon.get() ? 10: 0)) * scale),
-                        getActualY(INFO.getY.get()),
-                        (RenderUtils.getStringWidth(line.text.get()) + (line.useIcon.get() ? 10: 0)) * scale,
-                        client.textRenderer.fontHeight * scale,
-                        scale);
-            }
-            case CENTER -> {
-                return new Bounds(
-                        (int) (getActualX(INFO.getX.get()) - (RenderUtils.getStringWidth(line.text.get()) + (line.useIcon.get() ? 10: 0)) * scale / 2),
-                        getActualY(INFO.getY.get()),
-                        (RenderUtils.getStringWidth(line.text.get()) + (line.useIcon.get() ? 10: 0)) * scale,
-                        client.textRenderer.fontHeight * scale,
-                        scale);
-            }
-            default -> throw new IllegalStateException("Unexpected value: " + INFO.getAnchorPoint.get());
-        }
+        line.refresh();
+        var placement = placement();
+        layout.update(placement.x(), placement.y(), placement.scale(), placement.anchor(), line.getWidth(), client.textRenderer.fontHeight);
+        return layout.bounds();
     }
 
     public @NotNull BoundsRelative getCurrentBoundsRelative() {
         var scale = (float) INFO.getScale.get();
         switch (INFO.getAnchorPoint.get()) {
             case LEFT -> {
-                return new BoundsRelative(INFO.getX.get(), INFO.getY.get(), RenderUtils.getStringWidth(line.text.get()) * scale, client.textRenderer.fontHeight * scale, scale);
+                return new BoundsRelative(INFO.getX.get(), INFO.getY.get(), line.getTextWidth() * scale, client.textRenderer.fontHeight * scale, scale);
             }
             case RIGHT -> {
-                return new BoundsRelative(INFO.getX.get() - RenderUtils.getRelativeStringWidth(line.text.get()) * scale, INFO.getY.get(), RenderUtils.getStringWidth(line.text.get()) * scale, client.textRenderer.fontHeight * scale, scale);
+                return new BoundsRelative(INFO.getX.get() - RenderUtils.getRelativeStringWidth(line.getText()) * scale, INFO.getY.get(), line.getTextWidth() * scale, client.textRenderer.fontHeight * scale, scale);
             }
             case CENTER -> {
-                return new BoundsRelative(INFO.getX.get() - RenderUtils.getRelativeStringWidth(line.text.get()) * scale / 2, INFO.getY.get(), RenderUtils.getStringWidth(line.text.get()) * scale, client.textRenderer.fontHeight * scale, scale);
+                return new BoundsRelative(INFO.getX.get() - RenderUtils.getRelativeStringWidth(line.getText()) * scale / 2, INFO.getY.get(), line.getTextWidth() * scale, client.textRenderer.fontHeight * scale, scale);
             }
             default -> throw new IllegalStateException("Unexpected value: " + INFO.getAnchorPoint.get());
         }
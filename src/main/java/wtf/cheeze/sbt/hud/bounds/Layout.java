@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2024 MisterCheezeCake
+ *
+ * This file is part of SkyblockTweaks.
+ *
+ * SkyblockTweaks is free software: you can redistribute it
+ * and/or modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SkyblockTweaks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SkyblockTweaks. If not, see <https://www.gnu.org/licenses/>.
+ */
+package wtf.cheeze.sbt.hud.bounds;
+
+import net.minecraft.client.MinecraftClient;
+import wtf.cheeze.sbt.hud.utils.AnchorPoint;
+
+/**
+ * The absolute geometry of a HUD, kept in primitive fields and only recomputed when the measured content,
+ * position, scale, anchor or window size changes, so rendering and hit testing in the HUD screen read the same precomputed numbers.
+ * The {@link Bounds} handed out is reused until the geometry changes.
+ */
+public final class Layout {
+
+    private float relativeX = Float.NaN;
+    private float relativeY = Float.NaN;
+    private float scale = Float.NaN;
+    private AnchorPoint anchor = null;
+    private int contentWidth = -1;
+    private int contentHeight = -1;
+    private int windowWidth = -1;
+    private int windowHeight = -1;
+
+    public int x;
+    public int y;
+    public float width;
+    public float height;
+
+    private Bounds bounds = null;
+
+    /**
+     * Lays the HUD out again if any of the inputs changed since the last call
+     * @param contentWidth the unscaled width of the content
+     * @param contentHeight the unscaled height of the content
+     * @return whether the geometry changed
+     */
+    public boolean update(float relativeX, float relativeY, float scale, AnchorPoint anchor, int contentWidth, int contentHeight) {
+        return update(relativeX, relativeY, scale, anchor, contentWidth, contentHeight, false);
+    }
+
+    /**
+     * Like {@link #update(float, float, float, AnchorPoint, int, int)}, for HUDs which measure their content with the scale already applied
+     */
+    public boolean updateScaled(float relativeX, float relativeY, float scale, AnchorPoint anchor, int scaledWidth, int scaledHeight) {
+        return update(relativeX, relativeY, scale, anchor, scaledWidth, scaledHeight, true);
+    }
+
+    private boolean update(float relativeX, float relativeY, float scale, AnchorPoint anchor, int contentWidth, int contentHeight, boolean scaled) {
+        var window = MinecraftClient.getInstance().getWindow();
+        int windowWidth = window.getScaledWidth();
+        int windowHeight = window.getScaledHeight();
+        if (relativeX == this.relativeX && relativeY == this.relativeY && scale == this.scale && anchor == this.anchor
+                && contentWidth == this.contentWidth && contentHeight == this.contentHeight
+                && windowWidth == this.windowWidth && windowHeight == this.windowHeight) {
+            return false;
+        }
+        this.relativeX = relativeX;
+        this.relativeY = relativeY;
+        this.scale = scale;
+        this.anchor = anchor;
+        this.contentWidth = contentWidth;
+        this.contentHeight = contentHeight;
+        this.windowWidth = windowWidth;
+        this.windowHeight = windowHeight;
+
+        int anchorX = (int) (relativeX * windowWidth);
+        if (scaled) {
+            width = contentWidth;
+            height = contentHeight;
+            x = switch (anchor) {
+                case LEFT -> anchorX;
+                case RIGHT -> anchorX - contentWidth;
+                case CENTER -> anchorX - contentWidth / 2;
+            };
+        } else {
+            width = contentWidth * scale;
+            height = contentHeight * scale;
+            x = switch (anchor) {
+                case LEFT -> anchorX;
+                case RIGHT -> (int) (anchorX - width);
+                case CENTER -> (int) (anchorX - width / 2);
+            };
+        }
+        y = (int) (relativeY * windowHeight);
+        bounds = null;
+        return true;
+    }
+
+    public float scale() {
+        return scale;
+    }
+
+    public Bounds bounds() {
+        if (bounds == null) bounds = new Bounds(x, y, width, height, scale);
+        return bounds;
+    }
+}
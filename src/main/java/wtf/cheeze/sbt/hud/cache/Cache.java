@@ -18,9 +18,11 @@
  */
 package wtf.cheeze.sbt.hud.cache;
 
+import org.jetbrains.annotations.Nullable;
+import wtf.cheeze.sbt.utils.FrameProfiler;
 import wtf.cheeze.sbt.utils.errors.ErrorHandler;
 import wtf.cheeze.sbt.utils.errors.ErrorLevel;
-import wtf.cheeze.sbt.events.CacheUpdateEvents;
+import wtf.cheeze.sbt.utils.skyblock.Stat;
 
 import java.util.function.Supplier;
 
@@ -31,23 +33,74 @@ public class Cache<T>{
     private T value;
     private final T errorValue;
 
-    private boolean dueForUpdate = true;
+    @Nullable
     private final Supplier<T> supplier;
 
+    /**
+     * The supplier of an {@link UpdateTiming#DEADLINE} cache and the time its value expires, null and unused for other timings
+     */
+    @Nullable
+    private final Supplier<Expiring<T>> expiringSupplier;
+    private long expiresAt;
+
     public final UpdateTiming timing;
 
+    /**
+     * Null for timings which are never invalidated
+     */
+    @Nullable
+    private final CacheScheduler.Bucket bucket;
+    private boolean updated = false;
+    private int generation;
+
+    /**
+     * The stats an {@link UpdateTiming#ON_CHANGE} cache is computed from and their versions as of the last update, null for other timings
+     */
+    @Nullable
+    private final Stat[] inputs;
+    @Nullable
+    private final int[] inputVersions;
+
     public T get() {
         return value;
     }
 
     public boolean isDueForUpdate() {
-        return dueForUpdate;
+        if (!updated) return true;
+        if (inputs != null) return inputsChanged();
+        if (expiringSupplier != null) return CacheScheduler.now() - expiresAt >= 0 || generation != CacheScheduler.configGeneration();
+        return bucket != null && bucket.generation() != generation;
+    }
+
+    private boolean inputsChanged() {
+        if (generation != CacheScheduler.configGeneration()) return true;
+        for (int i = 0; i < inputs.length; i++) {
+            if (inputs[i].version() != inputVersions[i]) return true;
+        }
+        return false;
     }
 
     public void update() {
         try {
-            value = supplier.get();
-            dueForUpdate = false;
+            // Versions are recorded before computing, so a change made while computing is picked up next time
+            int seen = bucket != null ? bucket.generation() : CacheScheduler.configGeneration();
+            if (inputs != null) {
+                for (int i = 0; i < inputs.length; i++) {
+                    inputVersions[i] = inputs[i].version();
+                }
+            }
+            boolean timed = FrameProfiler.enabled;
+            long start = timed ? System.nanoTime() : 0;
+            if (expiringSupplier != null) {
+                var next = expiringSupplier.get();
+                value = next.value();
+                expiresAt = next.expiresAt();
+            } else {
+                value = supplier.get();
+            }
+            if (timed) FrameProfiler.cacheUpdates(timing).record(System.nanoTime() - start);
+            updated = true;
+            generation = seen;
         } catch (Exception e) {
             ErrorHandler.handle(e, "Error while updating cached HUD value", ErrorLevel.WARNING);
             value = errorValue;
@@ -55,25 +108,57 @@ public class Cache<T>{
     }
 
 
+    /**
+     * A {@link UpdateTiming#MEMOIZED} value never changes, the other timings are invalidated by the {@link CacheScheduler}
+     */
     public Cache(UpdateTiming timing, Supplier<T> supplier, T errorValue) {
         this.timing = timing;
         this.errorValue = errorValue;
         this.value = errorValue;
         this.supplier = supplier;
-        switch (timing) {
-            case FRAME -> {
-                // The hud will never check the cache's state in frame mode, so we don't need to do anything here
-            }
-            case TICK -> CacheUpdateEvents.TICK.register(client -> dueForUpdate = true);
-            case QUARTER_SECOND -> CacheUpdateEvents.QUARTER_SECOND.register(() -> dueForUpdate = true);
-            case HALF_SECOND -> CacheUpdateEvents.HALF_SECOND.register(() -> dueForUpdate = true);
-            case SECOND -> CacheUpdateEvents.SECOND.register(() -> dueForUpdate = true);
-            case MEMOIZED -> {
-                // The value will never change in memoized mode, so we don't need to do anything here
-            }
-        }
+        this.expiringSupplier = null;
+        this.bucket = CacheScheduler.bucket(timing);
+        this.inputs = null;
+        this.inputVersions = null;
+    }
 
+    /**
+     * Creates an {@link UpdateTiming#ON_CHANGE} cache, which is recomputed only when one of the given stats changes or the config is saved
+     */
+    public Cache(Supplier<T> supplier, T errorValue, Stat... inputs) {
+        this.timing = UpdateTiming.ON_CHANGE;
+        this.errorValue = errorValue;
+        this.value = errorValue;
+        this.supplier = supplier;
+        this.expiringSupplier = null;
+        this.bucket = null;
+        this.inputs = inputs;
+        this.inputVersions = new int[inputs.length];
     }
 
+    private Cache(Supplier<Expiring<T>> expiringSupplier, T errorValue) {
+        this.timing = UpdateTiming.DEADLINE;
+        this.errorValue = errorValue;
+        this.value = errorValue;
+        this.supplier = null;
+        this.expiringSupplier = expiringSupplier;
+        this.bucket = null;
+        this.inputs = null;
+        this.inputVersions = null;
+    }
+
+    /**
+     * Creates an {@link UpdateTiming#DEADLINE} cache, for values such as clocks which change at times known in advance.
+     * The supplier returns the value along with when it next changes, and it is not called again until then unless the config is saved
+     */
+    public static <T> Cache<T> expiring(Supplier<Expiring<T>> supplier, T errorValue) {
+        return new Cache<>(supplier, errorValue);
+    }
+
+    /**
+     * A value and the time it expires at, in milliseconds since the epoch
+     */
+    public record Expiring<T>(T value, long expiresAt) {}
+
 
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2024 MisterCheezeCake
+ *
+ * This file is part of SkyblockTweaks.
+ *
+ * SkyblockTweaks is free software: you can redistribute it
+ * and/or modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SkyblockTweaks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SkyblockTweaks. If not, see <https://www.gnu.org/licenses/>.
+ */
+package wtf.cheeze.sbt.hud.cache;
+
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import org.jetbrains.annotations.Nullable;
+import wtf.cheeze.sbt.config.SBTConfig;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides when timed {@link Cache}s are due for an update. It runs at the end of each client tick, on the client thread, so the caches are only ever touched from one thread.
+ * <p>
+ * Each {@link UpdateTiming} with a period is a bucket with a generation counter, which goes up every time the bucket fires,
+ * and a cache is due once the generation has moved past the one it was last updated in.
+ * Invalidating a bucket is a single increment however many caches use it, and caches do not register anything,
+ * so caches which are thrown away, such as when a HUD rebuilds its composition, are simply garbage collected.
+ */
+public class CacheScheduler {
+
+    private static final Bucket FRAME = new Bucket(0);
+    private static final Bucket TICK = new Bucket(0);
+    private static final Bucket QUARTER_SECOND = new Bucket(TimeUnit.MILLISECONDS.toNanos(250));
+    private static final Bucket HALF_SECOND = new Bucket(TimeUnit.MILLISECONDS.toNanos(500));
+    private static final Bucket SECOND = new Bucket(TimeUnit.SECONDS.toNanos(1));
+    private static final Bucket[] TIMED = {QUARTER_SECOND, HALF_SECOND, SECOND};
+
+    /**
+     * @return the bucket for the timing, or null for {@link UpdateTiming#MEMOIZED}, {@link UpdateTiming#ON_CHANGE} and {@link UpdateTiming#DEADLINE}, which have no period
+     */
+    public static @Nullable Bucket bucket(UpdateTiming timing) {
+        return switch (timing) {
+            case FRAME -> FRAME;
+            case TICK -> TICK;
+            case QUARTER_SECOND -> QUARTER_SECOND;
+            case HALF_SECOND -> HALF_SECOND;
+            case SECOND -> SECOND;
+            case MEMOIZED, ON_CHANGE, DEADLINE -> null;
+        };
+    }
+
+    private static int configGeneration = 0;
+
+    /**
+     * Goes up every time the config is saved, so caches computed from config values such as separators and icons are rebuilt
+     */
+    public static int configGeneration() {
+        return configGeneration;
+    }
+
+    private static long frameTime = System.currentTimeMillis();
+
+    /**
+     * The wall clock time the current frame started at, in milliseconds since the epoch. {@link UpdateTiming#DEADLINE} caches compare their
+     * expiry with this, so each is woken on the first frame at or after its deadline and costs one comparison on every other frame
+     */
+    public static long now() {
+        return frameTime;
+    }
+
+    /**
+     * Starts a new frame, called before HUDs are rendered so that {@link UpdateTiming#FRAME} caches are updated at most once per frame
+     * however many times a HUD reads them while rendering and laying itself out
+     */
+    public static void nextFrame() {
+        FRAME.generation++;
+        frameTime = System.currentTimeMillis();
+    }
+
+    private static void tick(long now) {
+        TICK.generation++;
+        for (Bucket bucket : TIMED) {
+            bucket.fireIfDue(now);
+        }
+    }
+
+    public static void registerEvents() {
+        ClientTickEvents.END_CLIENT_TICK.register(client -> tick(System.nanoTime()));
+        SBTConfig.CONFIG_SAVE.register(() -> configGeneration++);
+    }
+
+    public static final class Bucket {
+        private final long period;
+        private long nextFire = System.nanoTime();
+        private int generation = 0;
+
+        private Bucket(long period) {
+            this.period = period;
+        }
+
+        public int generation() {
+            return generation;
+        }
+
+        private void fireIfDue(long now) {
+            if (now - nextFire < 0) return;
+            generation++;
+            nextFire += period;
+            // After a stall, fire once and start again from now rather than firing on every tick to catch up
+            if (now - nextFire >= 0) nextFire = now + period;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (C) 2024 MisterCheezeCake
+ *
+ * This file is part of SkyblockTweaks.
+ *
+ * SkyblockTweaks is free software: you can redistribute it
+ * and/or modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SkyblockTweaks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SkyblockTweaks. If not, see <https://www.gnu.org/licenses/>.
+ */
+package wtf.cheeze.sbt.hud.cache;
+
+/**
+ * Hands out the content versions of HUD components, see {@link wtf.cheeze.sbt.hud.components.HudComponent#contentVersion()}.
+ * <p>
+ * Versions come from one counter shared by every component, so a new version is always greater than any handed out before it,
+ * and the greatest version among a HUD's components changes whenever any one of them does.
+ */
+public class ContentVersion {
+
+    private static long counter = 0;
+
+    /**
+     * @return a version greater than any returned before
+     */
+    public static long next() {
+        return ++counter;
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) 2024 MisterCheezeCake
+ *
+ * This file is part of SkyblockTweaks.
+ *
+ * SkyblockTweaks is free software: you can redistribute it
+ * and/or modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SkyblockTweaks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SkyblockTweaks. If not, see <https://www.gnu.org/licenses/>.
+ */
+package wtf.cheeze.sbt.hud.cache;
+
+import dev.isxander.yacl3.api.Option;
+import dev.isxander.yacl3.api.OptionGroup;
+import dev.isxander.yacl3.config.v2.api.SerialEntry;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.gui.DrawContext;
+import wtf.cheeze.sbt.config.ConfigImpl;
+import wtf.cheeze.sbt.config.SBTConfig;
+import wtf.cheeze.sbt.hud.HUD;
+import wtf.cheeze.sbt.hud.HudManager;
+import wtf.cheeze.sbt.hud.components.HudComponent;
+import wtf.cheeze.sbt.utils.render.HudBatcher;
+import wtf.cheeze.sbt.utils.render.TextRun;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static wtf.cheeze.sbt.hud.HUD.key;
+import static wtf.cheeze.sbt.hud.HUD.keyD;
+
+/**
+ * Reuses what a HUD drew on the previous frame while its content and geometry are unchanged.
+ * <p>
+ * When a HUD renders, the entries it records into the {@link HudBatcher} are copied into a snapshot, keyed by the HUD's content version,
+ * its bounds, which cover its position, scale and anchor as well as the size of the window, the GUI scale and the {@link TextRun#fontGeneration()}.
+ * On later frames where the key is the same the snapshot is appended to the batch as is, and the HUD's own render code is skipped.
+ * The text and textures are still submitted every frame, so formatting like obfuscated text keeps animating.
+ * <p>
+ * HUDs render directly whenever there is no batch to record into, such as in the HUD screen, or when one of their components cannot report a content version.
+ */
+public class HudRenderCache {
+
+    private static final MinecraftClient client = MinecraftClient.getInstance();
+
+    private final HUD hud;
+    private final String id;
+    private final HudBatcher.Snapshot snapshot = new HudBatcher.Snapshot();
+
+    private boolean valid = false;
+    private long version;
+    private int x;
+    private int y;
+    private float width;
+    private float height;
+    private float scale;
+    private double guiScale;
+    private int fontGeneration;
+
+    private boolean enabled = false;
+    private int configGeneration = -1;
+
+    private long hits = 0;
+    private long misses = 0;
+
+    public HudRenderCache(HUD hud) {
+        this.hud = hud;
+        this.id = hud.getClass().getSimpleName();
+    }
+
+    /**
+     * Renders the HUD outside of the HUD screen, replaying the last snapshot if nothing it depends on has changed
+     */
+    public void render(DrawContext context) {
+        var batcher = HudBatcher.INSTANCE;
+        if (!batcher.isRecording() || !isEnabled()) {
+            valid = false;
+            hud.render(context, false);
+            return;
+        }
+        if (!hud.shouldRender(false)) return;
+        long version = hud.getContentVersion();
+        if (version == HudComponent.UNCACHEABLE) {
+            valid = false;
+            hud.render(context, false);
+            return;
+        }
+        var bounds = hud.getCurrentBounds();
+        double guiScale = client.getWindow().getScaleFactor();
+        int fontGeneration = TextRun.fontGeneration();
+        if (valid && version == this.version && bounds.x == x && bounds.y == y && bounds.width == width && bounds.height == height
+                && bounds.scale == scale && guiScale == this.guiScale && fontGeneration == this.fontGeneration) {
+            batcher.replay(snapshot);
+            hits++;
+            return;
+        }
+        int mark = batcher.mark();
+        hud.render(context, false);
+        batcher.capture(mark, snapshot);
+        this.version = version;
+        this.x = bounds.x;
+        this.y = bounds.y;
+        this.width = bounds.width;
+        this.height = bounds.height;
+        this.scale = bounds.scale;
+        this.guiScale = guiScale;
+        this.fontGeneration = fontGeneration;
+        valid = true;
+        misses++;
+    }
+
+    /**
+     * Whether the cache is switched on for this HUD, read from the config again only after it is saved
+     */
+    public boolean isEnabled() {
+        if (configGeneration != CacheScheduler.configGeneration()) {
+            configGeneration = CacheScheduler.configGeneration();
+            enabled = hud.supportsRenderCache && SBTConfig.huds().renderCache.huds.contains(id);
+        }
+        return enabled;
+    }
+
+    public long hits() {
+        return hits;
+    }
+
+    public long misses() {
+        return misses;
+    }
+
+    /**
+     * @return the share of renders served from the snapshot, from 0 to 1
+     */
+    public float hitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0 : (float) hits / total;
+    }
+
+    public void resetStats() {
+        hits = 0;
+        misses = 0;
+    }
+
+    public static class Config {
+        /**
+         * The simple class names of the HUDs the cache is enabled for
+         */
+        @SerialEntry
+        public List<String> huds = new ArrayList<>();
+
+        public static OptionGroup getGroup(ConfigImpl defaults, ConfigImpl config) {
+            var group = OptionGroup.createBuilder()
+                    .name(key("renderCache"))
+                    .description(keyD("renderCache"));
+            for (HUD hud : HudManager.HUDS) {
+                if (!hud.supportsRenderCache) continue;
+                var id = hud.renderCache.id;
+                group.option(Option.<Boolean>createBuilder()
+                        .name(hud.getName().primaryName())
+                        .description(keyD("renderCache.hud"))
+                        .controller(SBTConfig::generateBooleanController)
+                        .binding(
+                                defaults.huds.renderCache.huds.contains(id),
+                                () -> config.huds.renderCache.huds.contains(id),
+                                value -> {
+                                    config.huds.renderCache.huds.remove(id);
+                                    if (value) config.huds.renderCache.huds.add(id);
+                                }
+                        )
+                        .build());
+            }
+            return group.collapsed(true).build();
+        }
+    }
+}
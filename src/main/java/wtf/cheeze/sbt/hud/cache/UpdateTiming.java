@@ -25,4 +25,12 @@ public enum UpdateTiming {
     HALF_SECOND,
     SECOND,
     MEMOIZED,
+    /**
+     * Updated only when one of the {@link wtf.cheeze.sbt.utils.skyblock.Stat}s the cache was built with changes, or the config is saved
+     */
+    ON_CHANGE,
+    /**
+     * Updated once the time its value was computed to expire at has passed, or the config is saved, see {@link Cache#expiring(java.util.function.Supplier, Object)}
+     */
+    DEADLINE,
 }
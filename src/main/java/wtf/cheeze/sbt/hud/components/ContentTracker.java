@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2024 MisterCheezeCake
+ *
+ * This file is part of SkyblockTweaks.
+ *
+ * SkyblockTweaks is free software: you can redistribute it
+ * and/or modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SkyblockTweaks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SkyblockTweaks. If not, see <https://www.gnu.org/licenses/>.
+ */
+package wtf.cheeze.sbt.hud.components;
+
+import net.minecraft.text.Text;
+import org.jetbrains.annotations.Nullable;
+import wtf.cheeze.sbt.hud.cache.ContentVersion;
+import wtf.cheeze.sbt.hud.icon.HudIcon;
+import wtf.cheeze.sbt.hud.utils.DrawMode;
+
+/**
+ * Remembers what a line of text was last drawn with, and gives it a new content version whenever any of it changes
+ */
+final class ContentTracker {
+    private Text text = null;
+    private int color;
+    private int outlineColor;
+    private DrawMode mode = null;
+    private boolean useIcon;
+    private HudIcon icon = null;
+    private long version = ContentVersion.next();
+
+    long track(Text text, int color, int outlineColor, DrawMode mode, boolean useIcon, @Nullable HudIcon icon) {
+        boolean changed = color != this.color || outlineColor != this.outlineColor || mode != this.mode || useIcon != this.useIcon || icon != this.icon;
+        if (text != this.text) {
+            // A rebuilt text is usually equal to the one it replaces, keep the new instance so the next check is by identity again
+            changed |= !text.equals(this.text);
+            this.text = text;
+        }
+        if (changed) {
+            this.color = color;
+            this.outlineColor = outlineColor;
+            this.mode = mode;
+            this.useIcon = useIcon;
+            this.icon = icon;
+            version = ContentVersion.next();
+        }
+        return version;
+    }
+}
@@ -23,12 +23,15 @@ import net.minecraft.text.Text;
 import org.jetbrains.annotations.Nullable;
 import wtf.cheeze.sbt.hud.icon.HudIcon;
 import wtf.cheeze.sbt.hud.cache.Cache;
+import wtf.cheeze.sbt.hud.cache.ContentVersion;
 import wtf.cheeze.sbt.hud.utils.DrawMode;
 import wtf.cheeze.sbt.hud.cache.UpdateTiming;
 import wtf.cheeze.sbt.utils.DataUtils;
 import wtf.cheeze.sbt.utils.render.Colors;
 import wtf.cheeze.sbt.utils.render.RenderUtils;
+import wtf.cheeze.sbt.utils.skyblock.Stat;
 
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 public class FlexibleHudLine implements HudComponent {
@@ -36,21 +39,36 @@ public class FlexibleHudLine implements HudComponent {
 
     public Supplier<Part[]> parts;
 
-    private final UpdateTiming timing;
-
     private final Cache<Part[]> partCache;
 
 
     private int width = 1;
     private int lines = 1;
 
+    /**
+     * The parts last drawn, so a change in the parts themselves gets a new version too
+     */
+    private Part[] versionedParts = null;
+    private long partsVersion = 0;
+
     private static final int LINE_HEIGHT = 9;
 
     public FlexibleHudLine(Supplier<Part[]> parts, UpdateTiming timing) {
         this.parts = parts;
-        Part[] ERROR_PARTS = {new Part(() -> ERROR, () -> DrawMode.PURE, DataUtils.ALWAYS_WHITE, () -> Colors.BLACK, new Cache<>(UpdateTiming.MEMOIZED, () -> ERROR, ERROR))};
-        this.partCache = new Cache<>(timing, parts, ERROR_PARTS);
-        this.timing = timing;
+        this.partCache = new Cache<>(timing, parts, errorParts());
+    }
+
+    private static Part[] errorParts() {
+        return new Part[]{new Part(() -> ERROR, () -> DrawMode.PURE, DataUtils.ALWAYS_WHITE, () -> Colors.BLACK, new Cache<>(UpdateTiming.MEMOIZED, () -> ERROR, ERROR))};
+    }
+
+    /**
+     * Creates a line whose parts are only asked for again when one of the given stats changes or the config is saved,
+     * so the supplier can hand out the same parts until then
+     */
+    public FlexibleHudLine(Supplier<Part[]> parts, Stat... inputs) {
+        this.parts = parts;
+        this.partCache = new Cache<>(parts, errorParts(), inputs);
     }
 
     public FlexibleHudLine(Supplier<Part[]> parts) {
@@ -59,23 +77,23 @@ public class FlexibleHudLine implements HudComponent {
 
     @Override
     public int render(DrawContext context, int x, int y, float scale) {
-        if (timing == UpdateTiming.FRAME || partCache.isDueForUpdate()) {
+        if (partCache.isDueForUpdate()) {
             partCache.update();
         }
-        var pts = parts.get();
+        var pts = partCache.get();
         var longest = 0;
         var lineHeight = (int) (9 * scale);
         for (Part part : pts) {
-            if (part.cache.isDueForUpdate() || part.cache.timing == UpdateTiming.FRAME) {
+            if (part.cache.isDueForUpdate()) {
                 part.cache.update();
             }
             var text = part.cache.get();
             var w = RenderUtils.getStringWidth(text);
             if (part.useIcon.get()) {
                 w += 10;
-                renderLine(context, text, part.icon.get(), x, y, scale, part.mode.get(), part.color.get(), part.outlineColor.get());
+                renderLine(context, text, part.icon.get(), x, y, scale, part.mode.get(), part.color.getAsInt(), part.outlineColor.getAsInt());
             } else {
-                renderLine(context, text, x, y, scale, part.mode.get(), part.color.get(), part.outlineColor.get());
+                renderLine(context, text, x, y, scale, part.mode.get(), part.color.getAsInt(), part.outlineColor.getAsInt());
             }
             if (w > longest) {
                 longest = w;
@@ -90,6 +108,27 @@ public class FlexibleHudLine implements HudComponent {
     }
 
 
+    @Override
+    public long contentVersion() {
+        if (partCache.isDueForUpdate()) {
+            partCache.update();
+        }
+        var pts = partCache.get();
+        if (pts != versionedParts) {
+            versionedParts = pts;
+            partsVersion = ContentVersion.next();
+        }
+        long version = partsVersion;
+        for (Part part : pts) {
+            if (part.cache.isDueForUpdate()) {
+                part.cache.update();
+            }
+            boolean withIcon = part.useIcon.get();
+            version = Math.max(version, part.tracker.track(part.cache.get(), part.color.getAsInt(), part.outlineColor.getAsInt(), part.mode.get(), withIcon, withIcon ? part.icon.get() : null));
+        }
+        return version;
+    }
+
     @Override
     public int getWidth() {
         return width;
@@ -130,26 +169,27 @@ public class FlexibleHudLine implements HudComponent {
         @Nullable
         public Supplier<HudIcon> icon;
         public final Supplier<DrawMode> mode;
-        public final Supplier<Integer> color;
-        public final Supplier<Integer> outlineColor;
+        public final IntSupplier color;
+        public final IntSupplier outlineColor;
 
         private final Cache<Text> cache;
+        private final ContentTracker tracker = new ContentTracker();
 
 
-        public Part (Supplier<Text> text, Supplier<DrawMode> mode, Supplier<Integer> color, Supplier<Integer> outlineColor) {
+        public Part (Supplier<Text> text, Supplier<DrawMode> mode, IntSupplier color, IntSupplier outlineColor) {
             this(text, mode, color, outlineColor, null, DataUtils.ALWAYS_FALSE, new Cache<>(UpdateTiming.FRAME, text, ERROR));
         }
 
-        public Part(Supplier<Text> text, Supplier<DrawMode> mode, Supplier<Integer> color, Supplier<Integer> outlineColor, Supplier<HudIcon> icon, Supplier<Boolean> useIcon) {
+        public Part(Supplier<Text> text, Supplier<DrawMode> mode, IntSupplier color, IntSupplier outlineColor, Supplier<HudIcon> icon, Supplier<Boolean> useIcon) {
             this(text, mode, color, outlineColor, icon, useIcon, new Cache<>(UpdateTiming.FRAME, text, ERROR));
         }
 
-        public Part(Supplier<Text> text, Supplier<DrawMode> mode, Supplier<Integer> color, Supplier<Integer> outlineColor, Cache<Text> cache) {
+        public Part(Supplier<Text> text, Supplier<DrawMode> mode, IntSupplier color, IntSupplier outlineColor, Cache<Text> cache) {
            this(text, mode, color, outlineColor, null, DataUtils.ALWAYS_FALSE, cache);
 
         }
 
-        public Part(Supplier<Text> text, Supplier<DrawMode> mode, Supplier<Integer> color, Supplier<Integer> outlineColor, Supplier<HudIcon> icon, Supplier<Boolean> useIcon, Cache<Text> cache) {
+        public Part(Supplier<Text> text, Supplier<DrawMode> mode, IntSupplier color, IntSupplier outlineColor, Supplier<HudIcon> icon, Supplier<Boolean> useIcon, Cache<Text> cache) {
             this.text = text;
             this.mode = mode;
             this.color = color;
@@ -52,4 +52,9 @@ public class GapComponent implements HudComponent{
     public int getlines() {
         return 1;
     }
+
+    @Override
+    public long contentVersion() {
+        return 0;
+    }
 }
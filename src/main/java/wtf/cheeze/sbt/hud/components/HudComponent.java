@@ -27,8 +27,22 @@ public interface HudComponent {
 
     Text ERROR = TextUtils.withColor("ERROR", Colors.RED);
 
+    /**
+     * Returned by {@link #contentVersion()} by components which cannot tell when what they draw changes
+     */
+    long UNCACHEABLE = -1;
+
     int render(DrawContext context, int x, int y, float scale);
     int getWidth();
     int getHeight();
     int getlines();
+
+    /**
+     * Refreshes the component if it is due and reports the version of what it would draw, which changes whenever its text, colors, mode, icon or item do.
+     * Used by {@link wtf.cheeze.sbt.hud.cache.HudRenderCache} to tell whether what a HUD drew last frame can be drawn again
+     * @return the version, or {@link #UNCACHEABLE}
+     */
+    default long contentVersion() {
+        return UNCACHEABLE;
+    }
 }
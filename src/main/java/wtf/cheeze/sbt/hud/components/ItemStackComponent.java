@@ -18,12 +18,13 @@
  */
 package wtf.cheeze.sbt.hud.components;
 
-import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.DrawContext;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
 import wtf.cheeze.sbt.hud.cache.Cache;
+import wtf.cheeze.sbt.hud.cache.ContentVersion;
 import wtf.cheeze.sbt.hud.cache.UpdateTiming;
+import wtf.cheeze.sbt.utils.render.RenderUtils;
 
 import java.util.function.Supplier;
 
@@ -37,12 +38,28 @@ public class ItemStackComponent implements HudComponent {
     private final Supplier<ItemStack> itemStack;
     private static final ItemStack ITEM_ERROR =  new ItemStack(Items.BARRIER);
 
+    private ItemStack versionedStack = null;
+    private int versionedCount = 0;
+    private long version = 0;
+
 
     public ItemStackComponent(UpdateTiming updateTiming, Supplier<ItemStack> itemStack) {
         this.cache = new Cache<>(updateTiming, itemStack, ITEM_ERROR);
         this.itemStack = itemStack;
     }
 
+    private ItemStackComponent(Cache<ItemStack> cache) {
+        this.cache = cache;
+        this.itemStack = cache::get;
+    }
+
+    /**
+     * Creates a component whose stack is looked up again only once it expires, see {@link Cache#expiring(Supplier, Object)}
+     */
+    public static ItemStackComponent expiring(Supplier<Cache.Expiring<ItemStack>> itemStack) {
+        return new ItemStackComponent(Cache.expiring(itemStack, ITEM_ERROR));
+    }
+
     public ItemStackComponent(Supplier<ItemStack> itemStack) {
         this( UpdateTiming.FRAME, itemStack);
     }
@@ -50,14 +67,27 @@ public class ItemStackComponent implements HudComponent {
 
     @Override
     public int render(DrawContext context, int x, int y, float scale) {
-        if (cache.timing == UpdateTiming.FRAME || cache.isDueForUpdate()) {
+        if (cache.isDueForUpdate()) {
             cache.update();
         }
-            context.drawItem(cache.get(),  (int) (x / scale), (int) (y / scale));
-            context.drawStackOverlay(MinecraftClient.getInstance().textRenderer, cache.get(), (int) (x / scale), (int) (y / scale));
+            RenderUtils.drawItem(context, cache.get(), (int) (x / scale), (int) (y / scale), true);
         return 1;
     }
 
+    @Override
+    public long contentVersion() {
+        if (cache.isDueForUpdate()) {
+            cache.update();
+        }
+        var stack = cache.get();
+        if (stack != versionedStack || stack.getCount() != versionedCount) {
+            versionedStack = stack;
+            versionedCount = stack.getCount();
+            version = ContentVersion.next();
+        }
+        return version;
+    }
+
     @Override
     public int getWidth() {
        return BASE_WIDTH;
@@ -27,20 +27,34 @@ import wtf.cheeze.sbt.hud.utils.DrawMode;
 import wtf.cheeze.sbt.hud.cache.UpdateTiming;
 import wtf.cheeze.sbt.utils.DataUtils;
 import wtf.cheeze.sbt.utils.render.RenderUtils;
+import wtf.cheeze.sbt.utils.render.TextRun;
+import wtf.cheeze.sbt.utils.skyblock.Stat;
 
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 public class SingleHudLine implements HudComponent {
 
-    public Supplier<Integer> color;
-    public Supplier<Integer> outlineColor;
+    public IntSupplier color;
+    public IntSupplier outlineColor;
     public Supplier<DrawMode> mode;
     public Supplier<Text> text;
     public Supplier<Boolean> useIcon;
 
-    private final UpdateTiming timing;
-
     private final Cache<Text> cache;
+    /**
+     * Whether the cache keeps its text between frames, only then is the text measured and drawn from its {@link TextRun}
+     */
+    private final boolean keepsText;
+
+    /**
+     * The text last measured and its width, remeasured only when the cache hands out a different text or the fonts change
+     */
+    private Text measuredText = null;
+    private int measuredWidth = 0;
+    private int measuredFontGeneration = -1;
+
+    private final ContentTracker tracker = new ContentTracker();
 
 
     private static final int LINE_COUNT = 1;
@@ -50,36 +64,92 @@ public class SingleHudLine implements HudComponent {
     // Make sure not to create a new instance of HudIcon every time you call this
     public Supplier<HudIcon> icon;
 
-    public SingleHudLine(Supplier<Integer> getColor, Supplier<Integer> getOutlineColor, Supplier<DrawMode> getMode, Supplier<Text> getText) {
+    public SingleHudLine(IntSupplier getColor, IntSupplier getOutlineColor, Supplier<DrawMode> getMode, Supplier<Text> getText) {
         this(UpdateTiming.FRAME, getColor, getOutlineColor, getMode, getText, null, DataUtils.ALWAYS_FALSE);
     }
-    public SingleHudLine(UpdateTiming timing, Supplier<Integer> getColor, Supplier<Integer> getOutlineColor, Supplier<DrawMode> getMode, Supplier<Text> getText) {
+    public SingleHudLine(UpdateTiming timing, IntSupplier getColor, IntSupplier getOutlineColor, Supplier<DrawMode> getMode, Supplier<Text> getText) {
         this(timing, getColor, getOutlineColor, getMode, getText, null, DataUtils.ALWAYS_FALSE);
     }
 
-    public SingleHudLine(Supplier<Integer> getColor, Supplier<Integer> getOutlineColor, Supplier<DrawMode> getMode, Supplier<Text> getText, Supplier<HudIcon> icon, Supplier<Boolean> useIcon) {
+    public SingleHudLine(IntSupplier getColor, IntSupplier getOutlineColor, Supplier<DrawMode> getMode, Supplier<Text> getText, Supplier<HudIcon> icon, Supplier<Boolean> useIcon) {
         this(UpdateTiming.FRAME, getColor, getOutlineColor, getMode, getText, icon, useIcon);
     }
 
-    public SingleHudLine(UpdateTiming timing, Supplier<Integer> getColor, Supplier<Integer> getOutlineColor, Supplier<DrawMode> getMode, Supplier<Text> getText, Supplier<HudIcon> icon, Supplier<Boolean> useIcon) {
-        this.timing = timing;
+    public SingleHudLine(UpdateTiming timing, IntSupplier getColor, IntSupplier getOutlineColor, Supplier<DrawMode> getMode, Supplier<Text> getText, Supplier<HudIcon> icon, Supplier<Boolean> useIcon) {
+        this(new Cache<>(timing, getText, ERROR), getColor, getOutlineColor, getMode, getText, icon, useIcon);
+    }
+
+    /**
+     * Creates a line whose text is only rebuilt when one of the given stats changes, the text must not depend on anything else except the config
+     */
+    public SingleHudLine(IntSupplier getColor, IntSupplier getOutlineColor, Supplier<DrawMode> getMode, Supplier<Text> getText, Stat... inputs) {
+        this(new Cache<>(getText, ERROR, inputs), getColor, getOutlineColor, getMode, getText, null, DataUtils.ALWAYS_FALSE);
+    }
+
+    public SingleHudLine(IntSupplier getColor, IntSupplier getOutlineColor, Supplier<DrawMode> getMode, Supplier<Text> getText, Supplier<HudIcon> icon, Supplier<Boolean> useIcon, Stat... inputs) {
+        this(new Cache<>(getText, ERROR, inputs), getColor, getOutlineColor, getMode, getText, icon, useIcon);
+    }
+
+    /**
+     * Creates a line whose text is rebuilt only once it expires, see {@link Cache#expiring(Supplier, Object)}
+     */
+    public static SingleHudLine expiring(IntSupplier getColor, IntSupplier getOutlineColor, Supplier<DrawMode> getMode, Supplier<Cache.Expiring<Text>> getText) {
+        var cache = Cache.expiring(getText, ERROR);
+        return new SingleHudLine(cache, getColor, getOutlineColor, getMode, cache::get, null, DataUtils.ALWAYS_FALSE);
+    }
+
+    private SingleHudLine(Cache<Text> cache, IntSupplier getColor, IntSupplier getOutlineColor, Supplier<DrawMode> getMode, Supplier<Text> getText, Supplier<HudIcon> icon, Supplier<Boolean> useIcon) {
         this.color = getColor;
         this.outlineColor = getOutlineColor;
         this.text = getText;
         this.mode = getMode;
         this.icon = icon;
         this.useIcon = useIcon;
-        this.cache = new Cache<>(timing, text, ERROR);
+        this.cache = cache;
+        this.keepsText = cache.timing != UpdateTiming.FRAME;
     }
 
 
 
 
-    @Override
-    public int render(DrawContext context, int x, int y, float scale) {
-        if (timing == UpdateTiming.FRAME || cache.isDueForUpdate()) {
+    /**
+     * Updates the cached text if it is due, this is done by {@link #render(DrawContext, int, int, float)} and only needs to be called
+     * directly to lay out the line before rendering it
+     */
+    public void refresh() {
+        if (cache.isDueForUpdate()) {
             cache.update();
         }
+    }
+
+    /**
+     * @return the width of the cached text, not including the icon
+     */
+    public int getTextWidth() {
+        var current = cache.get();
+        int fontGeneration = TextRun.fontGeneration();
+        if (current != measuredText || fontGeneration != measuredFontGeneration) {
+            measuredText = current;
+            measuredFontGeneration = fontGeneration;
+            measuredWidth = keepsText ? RenderUtils.getCachedStringWidth(current) : RenderUtils.getStringWidth(current);
+        }
+        return measuredWidth;
+    }
+
+    public Text getText() {
+        return cache.get();
+    }
+
+    @Override
+    public long contentVersion() {
+        refresh();
+        boolean withIcon = useIcon.get();
+        return tracker.track(cache.get(), color.getAsInt(), outlineColor.getAsInt(), mode.get(), withIcon, withIcon ? icon.get() : null);
+    }
+
+    @Override
+    public int render(DrawContext context, int x, int y, float scale) {
+        refresh();
 
         switch (mode.get()) {
             case PURE -> render(context, x, y, scale, false);
@@ -88,9 +158,9 @@ public class SingleHudLine implements HudComponent {
                 if (useIcon.get()) {
                     icon.get().render(context, x, y, scale);
 
-                    RenderUtils.drawTextWithOutline(context, cache.get(), x + (int) (10 * scale), y, color.get(), outlineColor.get(), scale, true);
+                    drawTextWithOutline(context, x + (int) (10 * scale), y, scale);
                 } else {
-                    RenderUtils.drawTextWithOutline(context, cache.get(), x, y, color.get(), outlineColor.get(), scale, true);
+                    drawTextWithOutline(context, x, y, scale);
                 }
             }
         }
@@ -103,15 +173,31 @@ public class SingleHudLine implements HudComponent {
 
         if (useIcon.get()) {
             icon.get().render(context, x, y, scale);
-            RenderUtils.drawText(context, cache.get(), x + (int) (10 * scale), y, color.get(), shadow, scale, true);
+            drawText(context, x + (int) (10 * scale), y, scale, shadow);
+        } else {
+            drawText(context, x, y, scale, shadow);
+        }
+    }
+
+    private void drawText(DrawContext context, int x, int y, float scale, boolean shadow) {
+        if (keepsText) {
+            RenderUtils.drawCachedText(context, cache.get(), x, y, color.getAsInt(), shadow, scale, true);
+        } else {
+            RenderUtils.drawText(context, cache.get(), x, y, color.getAsInt(), shadow, scale, true);
+        }
+    }
+
+    private void drawTextWithOutline(DrawContext context, int x, int y, float scale) {
+        if (keepsText) {
+            RenderUtils.drawCachedTextWithOutline(context, cache.get(), x, y, color.getAsInt(), outlineColor.getAsInt(), scale, true);
         } else {
-            RenderUtils.drawText(context, cache.get(), x, y, color.get(), shadow, scale, true);
+            RenderUtils.drawTextWithOutline(context, cache.get(), x, y, color.getAsInt(), outlineColor.getAsInt(), scale, true);
         }
     }
 
     @Override
     public int getWidth() {
-        return RenderUtils.getStringWidth(cache.get()) + (useIcon.get() ? 10 : 0);
+        return getTextWidth() + (useIcon.get() ? 10 : 0);
     }
 
     @Override
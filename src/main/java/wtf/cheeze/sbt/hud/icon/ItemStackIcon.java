@@ -33,7 +33,7 @@ public class ItemStackIcon implements HudIcon {
     @Override
     public void render(DrawContext context, int x, int y, float scale) {
         RenderUtils.beginScale(context, 0.5f);
-        context.drawItem(iconStack, (int) (x / (0.5f *scale)) , (int) (y / (0.5f *scale)));
+        RenderUtils.drawItem(context, iconStack, (int) (x / (0.5f *scale)) , (int) (y / (0.5f *scale)), false);
         RenderUtils.popMatrix(context);
     }
 }
@@ -34,6 +34,7 @@ import wtf.cheeze.sbt.SkyblockTweaks;
 import wtf.cheeze.sbt.config.SBTConfig;
 import wtf.cheeze.sbt.hud.HUD;
 import wtf.cheeze.sbt.hud.bounds.Bounds;
+import wtf.cheeze.sbt.hud.cache.CacheScheduler;
 import wtf.cheeze.sbt.hud.utils.AnchorPoint;
 import wtf.cheeze.sbt.utils.CheezePair;
 import wtf.cheeze.sbt.utils.text.Predicates;
@@ -135,6 +136,7 @@ public class HudScreen extends Screen {
     @Override
     public void render(DrawContext context, int mouseX, int mouseY, float delta) {
         super.render(context, mouseX, mouseY, delta);
+        CacheScheduler.nextFrame();
 
         HUD hovered = null;
         boolean drawnTooltip = false;
@@ -370,15 +372,15 @@ public class HudScreen extends Screen {
         SkyblockTweaks.LOGGER.info("X text: " + x.getText() + " Y text: " + y.getText());
 
 
-        var scale = new DecimalSlider(0, 0, 0, 0, Text.literal(hud.INFO.getScale.get().toString().formatted("%.1f")), hud.INFO.getScale.get() / 3.0, 0.1, 3.0, 0.1, (val) -> hud.INFO.setScale.accept((float) (double) val));
+        var scale = new DecimalSlider(0, 0, 0, 0, Text.literal(Float.toString(hud.INFO.getScale.get()).formatted("%.1f")), hud.INFO.getScale.get() / 3.0, 0.1, 3.0, 0.1, (val) -> hud.updateScale((float) (double) val));
         var anchor = new ConstructableButton(Text.literal(hud.INFO.getAnchorPoint.get().name()), button -> {
             var anchorPoint = hud.INFO.getAnchorPoint.get();
             if (anchorPoint == AnchorPoint.LEFT) {
-                hud.INFO.setAnchorPoint.accept(AnchorPoint.CENTER);
+                hud.updateAnchorPoint(AnchorPoint.CENTER);
             } else if (anchorPoint == AnchorPoint.CENTER) {
-                hud.INFO.setAnchorPoint.accept(AnchorPoint.RIGHT);
+                hud.updateAnchorPoint(AnchorPoint.RIGHT);
             } else if (anchorPoint == AnchorPoint.RIGHT) {
-                hud.INFO.setAnchorPoint.accept(AnchorPoint.LEFT);
+                hud.updateAnchorPoint(AnchorPoint.LEFT);
             }
             button.setMessage(Text.literal(hud.INFO.getAnchorPoint.get().name()));
         });
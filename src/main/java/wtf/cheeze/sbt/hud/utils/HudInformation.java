@@ -25,9 +25,12 @@ import java.util.function.Supplier;
 
 public class HudInformation {
 
-    public Supplier<Float> getX;
-    public Supplier<Float> getY;
-    public Supplier<Float> getScale;
+    /**
+     * Read every frame, so these return primitives rather than boxing a new Float each time
+     */
+    public FloatSupplier getX;
+    public FloatSupplier getY;
+    public FloatSupplier getScale;
     public Supplier<AnchorPoint> getAnchorPoint;
 
 
@@ -39,7 +42,7 @@ public class HudInformation {
     /**
      * This constructor is used for Single Line Text HUDs and the Ticker HUD
      */
-    public HudInformation(Supplier<Float> xSupplier, Supplier<Float> ySupplier, Supplier<Float> scaleSupplier, Supplier<AnchorPoint> anchorPointSupplier, Consumer<Float> xConsumer, Consumer<Float> yConsumer, Consumer<Float> scaleConsumer, Consumer<AnchorPoint> anchorPointConsumer) {
+    public HudInformation(FloatSupplier xSupplier, FloatSupplier ySupplier, FloatSupplier scaleSupplier, Supplier<AnchorPoint> anchorPointSupplier, Consumer<Float> xConsumer, Consumer<Float> yConsumer, Consumer<Float> scaleConsumer, Consumer<AnchorPoint> anchorPointConsumer) {
         this.getX = xSupplier;
         this.getY = ySupplier;
         this.getScale = scaleSupplier;
@@ -55,7 +58,7 @@ public class HudInformation {
     /**
      * This constructor is used for Multi Line Text HUDs
      */
-    public HudInformation(Supplier<Float> xSupplier, Supplier<Float> ySupplier, Supplier<Float> scaleSupplier, Consumer<Float> xConsumer, Consumer<Float> yConsumer, Consumer<Float> scaleConsumer) {
+    public HudInformation(FloatSupplier xSupplier, FloatSupplier ySupplier, FloatSupplier scaleSupplier, Consumer<Float> xConsumer, Consumer<Float> yConsumer, Consumer<Float> scaleConsumer) {
         this.getX = xSupplier;
         this.getY = ySupplier;
         this.getScale = scaleSupplier;
@@ -66,4 +69,9 @@ public class HudInformation {
         this.setScale = scaleConsumer;
         this.setAnchorPoint = DataUtils.DO_NOTHING;
     }
+
+    @FunctionalInterface
+    public interface FloatSupplier {
+        float get();
+    }
 }
@@ -24,13 +24,13 @@ import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
-import wtf.cheeze.sbt.config.SBTConfig;
+import wtf.cheeze.sbt.config.ConfigSnapshot;
 
 @Mixin(BossBarHud.class)
 public abstract class BossBarHiderMixin {
     @Inject(method = "render", at = @At("HEAD"), cancellable = true)
     private void sbt$onRender(DrawContext context, CallbackInfo ci) {
-        if (SBTConfig.get().hudTweaks.noRenderBossBar) {
+        if (ConfigSnapshot.get().noRenderBossBar) {
             ci.cancel();
         }
     }
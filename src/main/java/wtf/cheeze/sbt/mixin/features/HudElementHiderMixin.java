@@ -23,7 +23,7 @@ import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
-import wtf.cheeze.sbt.config.SBTConfig;
+import wtf.cheeze.sbt.config.ConfigSnapshot;
 import wtf.cheeze.sbt.utils.enums.Location;
 import wtf.cheeze.sbt.utils.skyblock.SkyblockData;
 
@@ -31,7 +31,7 @@ import wtf.cheeze.sbt.utils.skyblock.SkyblockData;
 public abstract class HudElementHiderMixin {
     @Inject(method = "renderArmor" , at = @At("HEAD"), cancellable = true)
     private static void sbt$onRenderArmor(CallbackInfo ci) {
-        if (SBTConfig.get().hudTweaks.noRenderArmor && SkyblockData.inSB) {
+        if (ConfigSnapshot.get().noRenderArmor && SkyblockData.inSB) {
             ci.cancel();
         }
     }
@@ -39,28 +39,29 @@ public abstract class HudElementHiderMixin {
     @Inject(method = "renderHealthBar" , at = @At("HEAD"), cancellable = true)
     private void sbt$onRenderHealth(CallbackInfo ci) {
 
-        if (SBTConfig.get().hudTweaks.noRenderHearts && SkyblockData.inSB && (!SBTConfig.get().hudTweaks.showHearsInRift || SkyblockData.location != Location.RIFT)) {
+        var config = ConfigSnapshot.get();
+        if (config.noRenderHearts && SkyblockData.inSB && (!config.showHeartsInRift || SkyblockData.location != Location.RIFT)) {
             ci.cancel();
         }
     }
 
     @Inject(method = "renderFood" , at = @At("HEAD"), cancellable = true)
     private void sbt$onRenderFood(CallbackInfo ci) {
-        if (SBTConfig.get().hudTweaks.noRenderHunger && SkyblockData.inSB) {
+        if (ConfigSnapshot.get().noRenderHunger && SkyblockData.inSB) {
             ci.cancel();
         }
     }
 
     @Inject(method = "renderStatusEffectOverlay" , at = @At("HEAD"), cancellable = true)
     private void sbt$onRenderStatusEffectOverlay(CallbackInfo ci) {
-        if (SBTConfig.get().hudTweaks.noRenderPotionOverlay && SkyblockData.inSB) {
+        if (ConfigSnapshot.get().noRenderPotionOverlay && SkyblockData.inSB) {
             ci.cancel();
         }
     }
 
     @Inject(method = "renderMountHealth", at = @At("HEAD"), cancellable = true)
     private void sbt$onRenderMountHealth(CallbackInfo ci) {
-        if (SBTConfig.get().hudTweaks.noRenderMountHealth && SkyblockData.inSB) {
+        if (ConfigSnapshot.get().noRenderMountHealth && SkyblockData.inSB) {
             ci.cancel();
         }
     }
@@ -26,7 +26,7 @@ import net.minecraft.client.gui.hud.InGameHud;
 import net.minecraft.text.Text;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
-import wtf.cheeze.sbt.config.SBTConfig;
+import wtf.cheeze.sbt.config.ConfigSnapshot;
 import wtf.cheeze.sbt.utils.injected.SBTDrawContext;
 
 @Mixin(InGameHud.class)
@@ -34,7 +34,7 @@ public abstract class NoShadowActionBarMixin {
     //? if <=1.21.5 {
     @WrapOperation(method = "renderOverlayMessage", at = @At(value = "INVOKE", target = "Lnet/minecraft/client/gui/DrawContext;drawTextWithBackground(Lnet/minecraft/client/font/TextRenderer;Lnet/minecraft/text/Text;IIII)I"))
     private int sbt$drawTextWithBackgroundNoShadowWrap(DrawContext instance, TextRenderer textRenderer, Text text, int x, int y, int width, int color, Operation<Integer> original) {
-        if (SBTConfig.get().hudTweaks.noShadowActionBar) {
+        if (ConfigSnapshot.get().noShadowActionBar) {
             return ((SBTDrawContext) instance).sbt$drawTextWithBackgroundNoShadow(textRenderer, text, x, y, width, color);
         } else {
             return original.call(instance, textRenderer, text, x, y, width, color);
@@ -45,7 +45,7 @@ public abstract class NoShadowActionBarMixin {
     //?} else {
     /*@WrapOperation(method = "renderOverlayMessage", at = @At(value = "INVOKE", target = "Lnet/minecraft/client/gui/DrawContext;drawTextWithBackground(Lnet/minecraft/client/font/TextRenderer;Lnet/minecraft/text/Text;IIII)V"))
     private void sbt$drawTextWithBackgroundNoShadowWrap(DrawContext instance, TextRenderer textRenderer, Text text, int x, int y, int width, int color, Operation<Void> original) {
-        if (SBTConfig.get().hudTweaks.noShadowActionBar) {
+        if (ConfigSnapshot.get().noShadowActionBar) {
             ((SBTDrawContext) instance).sbt$drawTextWithBackgroundNoShadow(textRenderer, text, x, y, width, color);
         } else {
            original.call(instance, textRenderer, text, x, y, width, color);
@@ -24,7 +24,7 @@ import net.minecraft.client.gui.screen.ingame.InventoryScreen;
 import net.minecraft.client.gui.screen.ingame.StatusEffectsDisplay;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
-import wtf.cheeze.sbt.config.SBTConfig;
+import wtf.cheeze.sbt.config.ConfigSnapshot;
 import wtf.cheeze.sbt.utils.skyblock.SkyblockData;
 
 @Mixin(InventoryScreen.class)
@@ -40,6 +40,6 @@ public abstract class StatusEffectHiderMixin {
             //? if <=1.21.5
             , float tickDelta
     ) {
-        return !SBTConfig.get().inventory.noRenderPotionHud || !SkyblockData.inSB;
+        return !ConfigSnapshot.get().noRenderPotionHud || !SkyblockData.inSB;
     }
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2025 MisterCheezeCake
+ *
+ * This file is part of SkyblockTweaks.
+ *
+ * SkyblockTweaks is free software: you can redistribute it
+ * and/or modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SkyblockTweaks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SkyblockTweaks. If not, see <https://www.gnu.org/licenses/>.
+ */
+package wtf.cheeze.sbt.mixin.hooks;
+
+import net.minecraft.client.network.ClientPlayNetworkHandler;
+import net.minecraft.network.packet.s2c.play.PlayerListS2CPacket;
+import net.minecraft.network.packet.s2c.play.PlayerRemoveS2CPacket;
+import net.minecraft.network.packet.s2c.play.TeamS2CPacket;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import wtf.cheeze.sbt.utils.tablist.TabListParser;
+
+/**
+ * Tells the {@link TabListParser} when the tab list changes. These run on the client thread once the packet has been applied,
+ * the handlers first hand the packet over to the client thread and return without reaching these when called from the network thread
+ */
+@Mixin(ClientPlayNetworkHandler.class)
+public abstract class ClientPlayNetworkHandlerMixin {
+
+    @Inject(method = "onPlayerList", at = @At("TAIL"))
+    private void sbt$onPlayerList(PlayerListS2CPacket packet, CallbackInfo ci) {
+        TabListParser.onPlayerList(packet);
+    }
+
+    @Inject(method = "onPlayerRemove", at = @At("TAIL"))
+    private void sbt$onPlayerRemove(PlayerRemoveS2CPacket packet, CallbackInfo ci) {
+        TabListParser.onPlayerRemove();
+    }
+
+    @Inject(method = "onTeam", at = @At("RETURN"))
+    private void sbt$onTeam(TeamS2CPacket packet, CallbackInfo ci) {
+        TabListParser.onTeam();
+    }
+}
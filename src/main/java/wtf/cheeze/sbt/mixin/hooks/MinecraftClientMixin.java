@@ -26,6 +26,7 @@ import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import wtf.cheeze.sbt.events.WorldLoadEvents;
+import wtf.cheeze.sbt.utils.render.TextRun;
 
 
 @Mixin(MinecraftClient.class)
@@ -34,4 +35,12 @@ public abstract class MinecraftClientMixin {
     private void sbt$onJoinWorld(ClientWorld world, DownloadingTerrainScreen.WorldEntryReason worldEntryReason, CallbackInfo ci) {
         WorldLoadEvents.WORLD_LOAD.invoker().onWorldLoad(world, worldEntryReason);
     }
+
+    /**
+     * Options like Force Unicode Font rebuild the fonts without reloading resources, so the cached runs are dropped here as well
+     */
+    @Inject(method = "onFontOptionsChanged", at = @At("TAIL"))
+    private void sbt$onFontOptionsChanged(CallbackInfo ci) {
+        TextRun.clear();
+    }
 }
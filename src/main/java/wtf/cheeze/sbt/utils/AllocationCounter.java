@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2024 MisterCheezeCake
+ *
+ * This file is part of SkyblockTweaks.
+ *
+ * SkyblockTweaks is free software: you can redistribute it
+ * and/or modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SkyblockTweaks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SkyblockTweaks. If not, see <https://www.gnu.org/licenses/>.
+ */
+package wtf.cheeze.sbt.utils;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Counts the bytes the current thread allocates between {@link #begin()} and {@link #end()}, using the per-thread allocation counter of the JVM's ThreadMXBean,
+ * and keeps the last few spans for an average and a peak.
+ * <p>
+ * Reading the counter does not allocate, so it can wrap code that is meant to allocate nothing and still read zero.
+ * Where the JVM does not provide the counter, every span reads as zero and {@link #isSupported()} is false.
+ */
+public final class AllocationCounter {
+
+    private static final com.sun.management.ThreadMXBean THREADS = findThreadBean();
+
+    private final long[] spans;
+    private int next = 0;
+    private int count = 0;
+    private long start = -1;
+    private long last = 0;
+
+    /**
+     * @param window the number of most recent spans the average and peak are taken over
+     */
+    public AllocationCounter(int window) {
+        this.spans = new long[window];
+    }
+
+    public static boolean isSupported() {
+        return THREADS != null;
+    }
+
+    public void begin() {
+        start = THREADS == null ? -1 : THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    public void end() {
+        if (start < 0) return;
+        last = THREADS.getCurrentThreadAllocatedBytes() - start;
+        start = -1;
+        spans[next] = last;
+        next = (next + 1) % spans.length;
+        if (count < spans.length) count++;
+    }
+
+    /**
+     * @return the bytes allocated during the last span
+     */
+    public long last() {
+        return last;
+    }
+
+    public long average() {
+        if (count == 0) return 0;
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            total += spans[i];
+        }
+        return total / count;
+    }
+
+    public long peak() {
+        long peak = 0;
+        for (int i = 0; i < count; i++) {
+            if (spans[i] > peak) peak = spans[i];
+        }
+        return peak;
+    }
+
+    public void reset() {
+        next = 0;
+        count = 0;
+        last = 0;
+        start = -1;
+    }
+
+    private static com.sun.management.ThreadMXBean findThreadBean() {
+        try {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean && bean.isThreadAllocatedMemorySupported()) {
+                bean.setThreadAllocatedMemoryEnabled(true);
+                return bean;
+            }
+        } catch (UnsupportedOperationException | SecurityException ignored) {
+            // Reported through isSupported
+        }
+        return null;
+    }
+}
@@ -24,6 +24,7 @@ import wtf.cheeze.sbt.utils.render.Colors;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.function.Consumer;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 
@@ -34,7 +35,7 @@ import java.util.function.Supplier;
 public class DataUtils {
     public static final Supplier<Boolean> ALWAYS_FALSE = () -> false;
     public static final Supplier<Boolean> ALWAYS_TRUE = () -> true;
-    public static final Supplier<Integer> ALWAYS_WHITE = () -> Colors.WHITE;
+    public static final IntSupplier ALWAYS_WHITE = () -> Colors.WHITE;
     public static final Supplier<AnchorPoint> ALWAYS_LEFT = () -> AnchorPoint.LEFT;
     @SuppressWarnings("rawtypes") public static final Consumer DO_NOTHING = (o) -> {};
 
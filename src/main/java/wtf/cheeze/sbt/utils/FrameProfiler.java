@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2024 MisterCheezeCake
+ *
+ * This file is part of SkyblockTweaks.
+ *
+ * SkyblockTweaks is free software: you can redistribute it
+ * and/or modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SkyblockTweaks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SkyblockTweaks. If not, see <https://www.gnu.org/licenses/>.
+ */
+package wtf.cheeze.sbt.utils;
+
+import net.minecraft.text.Text;
+import wtf.cheeze.sbt.hud.HUD;
+import wtf.cheeze.sbt.hud.HudManager;
+import wtf.cheeze.sbt.hud.cache.UpdateTiming;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Times each HUD's render, each pass over the {@link wtf.cheeze.sbt.events.DrawSlotEvents} listeners and each cache recomputation while {@link #enabled} is set,
+ * toggled with /sbt debug perf. A HUD's render time includes the caches it recomputes while rendering.
+ * <p>
+ * The timed call sites read {@link #enabled} once and only call {@link System#nanoTime()} when it is set, so the profiler costs a field read when it is off
+ */
+public final class FrameProfiler {
+
+    /**
+     * The number of most recent samples each percentile is taken over
+     */
+    public static final int WINDOW = 240;
+
+    public static boolean enabled = false;
+
+    public static final TimingStats SLOT_DRAW = new TimingStats(WINDOW);
+    private static final TimingStats[] CACHE_UPDATES = new TimingStats[UpdateTiming.values().length];
+
+    static {
+        for (int i = 0; i < CACHE_UPDATES.length; i++) {
+            CACHE_UPDATES[i] = new TimingStats(WINDOW);
+        }
+    }
+
+    private FrameProfiler() {}
+
+    public static TimingStats cacheUpdates(UpdateTiming timing) {
+        return CACHE_UPDATES[timing.ordinal()];
+    }
+
+    public static void reset() {
+        SLOT_DRAW.reset();
+        for (var stats : CACHE_UPDATES) {
+            stats.reset();
+        }
+        for (HUD hud : HudManager.HUDS) {
+            hud.renderTime.reset();
+        }
+    }
+
+    /**
+     * @param limit the most HUDs to list, those with the slowest p99 first
+     * @return a line per HUD that has rendered, followed by the slot draw pass and the cache timings that have samples
+     */
+    public static List<Text> report(int limit) {
+        var lines = new ArrayList<Text>();
+        var huds = new ArrayList<HUD>();
+        for (HUD hud : HudManager.HUDS) {
+            if (hud.renderTime.count() > 0) huds.add(hud);
+        }
+        huds.sort(Comparator.comparingLong((HUD hud) -> hud.renderTime.p99()).reversed());
+        for (int i = 0; i < huds.size() && i < limit; i++) {
+            var hud = huds.get(i);
+            lines.add(line(hud.getClass().getSimpleName(), hud.renderTime));
+        }
+        if (SLOT_DRAW.count() > 0) lines.add(line("Slot draw listeners", SLOT_DRAW));
+        for (var timing : UpdateTiming.values()) {
+            var stats = cacheUpdates(timing);
+            if (stats.count() > 0) lines.add(line("Cache update (" + timing.name() + ")", stats));
+        }
+        return lines;
+    }
+
+    private static Text line(String name, TimingStats stats) {
+        return Text.literal(name + ": p50 " + micros(stats.p50()) + ", p99 " + micros(stats.p99()));
+    }
+
+    private static String micros(long nanos) {
+        return NumberUtils.formattedRound(nanos / 1000.0, 1) + " µs";
+    }
+}
@@ -18,96 +18,75 @@
  */
 package wtf.cheeze.sbt.utils;
 
+import wtf.cheeze.sbt.utils.text.CharScanner;
+import wtf.cheeze.sbt.utils.text.FormatBuffer;
 
-public class NumberUtils {
 
-    private static final int MILLION = 1_000_000;
-    private static final int THOUSAND = 1_000;
+public class NumberUtils {
 
     public static double round(float number, int decimalPlaces) {
-        return Math.round(number * Math.pow(10, decimalPlaces)) / Math.pow(10, decimalPlaces);
+        double scale = FormatBuffer.pow10(decimalPlaces);
+        return Math.round(number * scale) / scale;
     }
     public static double round(double number, int decimalPlaces) {
-        return Math.round(number * Math.pow(10, decimalPlaces)) / Math.pow(10, decimalPlaces);
+        double scale = FormatBuffer.pow10(decimalPlaces);
+        return Math.round(number * scale) / scale;
     }
 
+    /**
+     * @see FormatBuffer#appendRounded(double, int)
+     */
     public static String formattedRound(double number, int decimalPlaces) {
-        return  decimalPlaces == 0 ? (round(number, decimalPlaces) + "").split("\\.")[0] : round(number, decimalPlaces) + "";
+        return FormatBuffer.local().appendRounded(number, decimalPlaces).toString();
     }
 
     public static String formatPercent(float progress, float total) {
-        return formattedRound(progress / total * 100, 2) + "%";
+        return FormatBuffer.local().appendRounded(progress / total * 100, 2).append('%').toString();
     }
 
     public static String formatPercent(float decimal) {
-        return formattedRound(decimal * 100, 2) + "%";
+        return FormatBuffer.local().appendRounded(decimal * 100, 2).append('%').toString();
     }
 
+    /**
+     * @throws NumberFormatException if the text is not a whole number, use {@link CharScanner#parseInt(CharSequence)} where failure is expected
+     */
     public static int parseIntWithKorM(String text) {
-        text = text.toLowerCase();
-        text = text.replaceAll(",", "");
-        var i = Integer.parseInt(text.substring(0, text.length() - 1));
-        if (text.endsWith("k")) {
-            return i * 1000;
-        } else if (text.endsWith("m")) {
-            return i * 1_000_000;
-        } else {
-            return Integer.parseInt(text);
-        }
+        long value = CharScanner.parseInt(text);
+        if (value == CharScanner.NO_INT) throw new NumberFormatException("For input string: \"" + text + "\"");
+        return (int) value;
     }
 
     public static float parsePercentage(String text) {
-        text = text.toLowerCase();
-        if (text.equals("done")) return 1;
-        if (text.endsWith("%")) {
-            return Float.parseFloat(text.substring(0, text.length() - 1)) / 100;
-        } else {
-            return Float.parseFloat(text);
-        }
+        if (text.equalsIgnoreCase("done")) return 1;
+        boolean percent = text.endsWith("%");
+        float value = CharScanner.parseFloat(text, 0, percent ? text.length() - 1 : text.length());
+        if (Float.isNaN(value)) throw new NumberFormatException("For input string: \"" + text + "\"");
+        return percent ? value / 100 : value;
     }
-    @SuppressWarnings("DuplicatedCode")
-    public static float parseFloatWithKorM(String text) {
-        text = text.toLowerCase();
-        text = text.replaceAll(",", "");
-
-        return switch (text.charAt(text.length() - 1)) {
-            case 'k' -> Float.parseFloat(text.substring(0, text.length() - 1)) * THOUSAND;
-            case 'm' -> Float.parseFloat(text.substring(0, text.length() - 1)) * MILLION;
-            default -> Float.parseFloat(text);
-        };
 
+    /**
+     * @throws NumberFormatException if the text is not a number, use {@link CharScanner#parseFloat(CharSequence)} where failure is expected
+     */
+    public static float parseFloatWithKorM(String text) {
+        float value = CharScanner.parseFloat(text);
+        if (Float.isNaN(value)) throw new NumberFormatException("For input string: \"" + text + "\"");
+        return value;
     }
     public static String formatNumber(int number, String separator) {
-        String str = Integer.toString(number);
-        return formatNumber(str, separator);
+        return formatNumber((long) number, separator);
     }
 
+    /**
+     * @see FormatBuffer#appendGrouped(long, String)
+     */
     public static String formatNumber(long number, String separator) {
-        String str = Long.toString(number);
-        return formatNumber(str, separator);
-    }
-
-
-    private static String formatNumber(String numString, String separator) {
-        StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < numString.length(); i++) {
-            sb.append(numString.charAt(i));
-            if ((numString.length() - i - 1) % 3 == 0 && i != numString.length() - 1) {
-                sb.append(separator);
-            }
-        }
-        return sb.toString();
+        return FormatBuffer.local().appendGrouped(number, separator).toString();
     }
 
 
     public static String addKOrM(int number, String separator) {
-        if (number >= MILLION) {
-            return formatNumber(number / MILLION, separator) + "M";
-        } else if (number >= THOUSAND) {
-            return formatNumber(number / THOUSAND, separator) + "K";
-        } else {
-            return formatNumber(number, separator);
-        }
+        return FormatBuffer.local().appendKOrM(number, separator).toString();
     }
 
 
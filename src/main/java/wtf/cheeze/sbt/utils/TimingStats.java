@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2024 MisterCheezeCake
+ *
+ * This file is part of SkyblockTweaks.
+ *
+ * SkyblockTweaks is free software: you can redistribute it
+ * and/or modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SkyblockTweaks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SkyblockTweaks. If not, see <https://www.gnu.org/licenses/>.
+ */
+package wtf.cheeze.sbt.utils;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the most recent durations recorded for one piece of work, in nanoseconds, in a fixed ring buffer, for the {@link FrameProfiler}.
+ * <p>
+ * Recording only writes into the buffer; the percentiles sort a copy of it into a scratch array, so they are meant to be read about once a second rather than every frame
+ */
+public final class TimingStats {
+
+    private final long[] samples;
+    private final long[] sorted;
+    private int next = 0;
+    private int count = 0;
+
+    /**
+     * @param window the number of most recent durations the percentiles are taken over
+     */
+    public TimingStats(int window) {
+        this.samples = new long[window];
+        this.sorted = new long[window];
+    }
+
+    public void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) count++;
+    }
+
+    /**
+     * @return the number of durations the percentiles are currently taken over
+     */
+    public int count() {
+        return count;
+    }
+
+    public long p50() {
+        return percentile(50);
+    }
+
+    public long p99() {
+        return percentile(99);
+    }
+
+    /**
+     * @return the duration at the given percentile using the nearest rank, or 0 if nothing has been recorded
+     */
+    public long percentile(int percent) {
+        if (count == 0) return 0;
+        System.arraycopy(samples, 0, sorted, 0, count);
+        Arrays.sort(sorted, 0, count);
+        int rank = (int) Math.ceil(percent / 100.0 * count);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    public void reset() {
+        next = 0;
+        count = 0;
+    }
+}
@@ -18,67 +18,264 @@
  */
 package wtf.cheeze.sbt.utils.actionbar;
 
-import org.jetbrains.annotations.Nullable;
+import com.google.gson.JsonObject;
 import wtf.cheeze.sbt.SkyblockTweaks;
 
 /**
- * Represents the data that can be extracted from the action bar, and also contains the transformed text.
- * Not all fields are always present, and the mod does not use or parse the following fields:
+ * Represents the data that can be extracted from the action bar.
+ * Not all fields are always present, use {@link #has(long)} with one of the field flags before reading a field, absent fields hold their default value.
+ * A single instance is owned and reused by {@link ActionBarTransformer}, so it should not be held onto between packets.
+ * The mod does not use or parse the following fields:
  *      - Race Fields
  *      - Location Alert Fields
  */
 public class ActionBarData {
-    @Nullable
-    public Float maxHealth;
-    @Nullable
-    public Float currentHealth;
-    @Nullable
-    public Integer defense;
-    @Nullable
-    public Float maxMana;
-    @Nullable
-    public Float currentMana;
-    @Nullable
-    public Float overflowMana;
-    @Nullable
+    public static final long MAX_HEALTH = 1L << 0;
+    public static final long CURRENT_HEALTH = 1L << 1;
+    public static final long DEFENSE = 1L << 2;
+    public static final long MAX_MANA = 1L << 3;
+    public static final long CURRENT_MANA = 1L << 4;
+    public static final long OVERFLOW_MANA = 1L << 5;
+    public static final long SKILL_TYPE = 1L << 6;
+    public static final long GAINED_XP = 1L << 7;
+    public static final long TOTAL_XP = 1L << 8;
+    public static final long NEXT_LEVEL_XP = 1L << 9;
+    public static final long SKILL_PERCENTAGE = 1L << 10;
+    public static final long DRILL_FUEL = 1L << 11;
+    public static final long MAX_DRILL_FUEL = 1L << 12;
+    public static final long ABILITY_NAME = 1L << 13;
+    public static final long ABILITY_MANA_COST = 1L << 14;
+    public static final long SECRETS_FOUND = 1L << 15;
+    public static final long SECRETS_TOTAL = 1L << 16;
+    public static final long MAX_TICKERS = 1L << 17;
+    public static final long CURRENT_TICKERS = 1L << 18;
+    public static final long STACK_SYMBOL = 1L << 19;
+    public static final long STACK_AMOUNT = 1L << 20;
+    public static final long RIFT_TIME = 1L << 21;
+    public static final long RIFT_TICKING = 1L << 22;
+    public static final long PRESSURE = 1L << 23;
+
+    /**
+     * Bitmask of the fields that were present in the action bar
+     */
+    public long present = 0;
+
+    public float maxHealth;
+    public float currentHealth;
+    public int defense;
+    public float maxMana;
+    public float currentMana;
+    public float overflowMana;
     public String skillType;
-    @Nullable
-    public Float gainedXP;
-    @Nullable
-    public Float totalXP;
-    @Nullable
-    public Float nextLevelXP;
-    @Nullable
-    public Float skillPercentage;
-    @Nullable
-    public Integer drillFuel;
-    @Nullable
-    public Integer maxDrillFuel;
-    @Nullable
+    public float gainedXP;
+    public float totalXP;
+    public float nextLevelXP;
+    public float skillPercentage;
+    public int drillFuel;
+    public int maxDrillFuel;
     public String abilityName;
-    @Nullable
-    public Integer abilityManaCost;
-    @Nullable
-    public Integer secretsFound;
-    @Nullable
-    public Integer secretsTotal;
-    @Nullable
-    public Integer maxTickers;
-    @Nullable
-    public Integer currentTickers;
-    @Nullable
+    public int abilityManaCost;
+    public int secretsFound;
+    public int secretsTotal;
+    public int maxTickers;
+    public int currentTickers;
     public String stackSymbol;
-    @Nullable
-    public Integer stackAmount;
-    @Nullable
+    public int stackAmount;
     public String riftTime;
-    @Nullable
-    public Boolean riftTicking;
-    @Nullable
-    public Integer pressure;
+    public boolean riftTicking;
+    public int pressure;
+
+    public boolean has(long fields) {
+        return (present & fields) == fields;
+    }
+
+    /**
+     * Marks every field not in the given mask as absent, the kept fields are left untouched
+     */
+    public void retain(long fields) {
+        present &= fields;
+    }
+
+    /**
+     * Clears every field so the instance can be reused for the next packet
+     */
+    public void reset() {
+        present = 0;
+        maxHealth = 0;
+        currentHealth = 0;
+        defense = 0;
+        maxMana = 0;
+        currentMana = 0;
+        overflowMana = 0;
+        skillType = null;
+        gainedXP = 0;
+        totalXP = 0;
+        nextLevelXP = 0;
+        skillPercentage = 0;
+        drillFuel = 0;
+        maxDrillFuel = 0;
+        abilityName = null;
+        abilityManaCost = 0;
+        secretsFound = 0;
+        secretsTotal = 0;
+        maxTickers = 0;
+        currentTickers = 0;
+        stackSymbol = null;
+        stackAmount = 0;
+        riftTime = null;
+        riftTicking = false;
+        pressure = 0;
+    }
 
+    public void setMaxHealth(float maxHealth) {
+        this.maxHealth = maxHealth;
+        present |= MAX_HEALTH;
+    }
+
+    public void setCurrentHealth(float currentHealth) {
+        this.currentHealth = currentHealth;
+        present |= CURRENT_HEALTH;
+    }
+
+    public void setDefense(int defense) {
+        this.defense = defense;
+        present |= DEFENSE;
+    }
+
+    public void setMaxMana(float maxMana) {
+        this.maxMana = maxMana;
+        present |= MAX_MANA;
+    }
+
+    public void setCurrentMana(float currentMana) {
+        this.currentMana = currentMana;
+        present |= CURRENT_MANA;
+    }
+
+    public void setOverflowMana(float overflowMana) {
+        this.overflowMana = overflowMana;
+        present |= OVERFLOW_MANA;
+    }
+
+    public void setSkillType(String skillType) {
+        this.skillType = skillType;
+        present |= SKILL_TYPE;
+    }
+
+    public void setGainedXP(float gainedXP) {
+        this.gainedXP = gainedXP;
+        present |= GAINED_XP;
+    }
+
+    public void setTotalXP(float totalXP) {
+        this.totalXP = totalXP;
+        present |= TOTAL_XP;
+    }
+
+    public void setNextLevelXP(float nextLevelXP) {
+        this.nextLevelXP = nextLevelXP;
+        present |= NEXT_LEVEL_XP;
+    }
+
+    public void setSkillPercentage(float skillPercentage) {
+        this.skillPercentage = skillPercentage;
+        present |= SKILL_PERCENTAGE;
+    }
+
+    public void setDrillFuel(int drillFuel) {
+        this.drillFuel = drillFuel;
+        present |= DRILL_FUEL;
+    }
+
+    public void setMaxDrillFuel(int maxDrillFuel) {
+        this.maxDrillFuel = maxDrillFuel;
+        present |= MAX_DRILL_FUEL;
+    }
+
+    public void setAbilityName(String abilityName) {
+        this.abilityName = abilityName;
+        present |= ABILITY_NAME;
+    }
+
+    public void setAbilityManaCost(int abilityManaCost) {
+        this.abilityManaCost = abilityManaCost;
+        present |= ABILITY_MANA_COST;
+    }
+
+    public void setSecretsFound(int secretsFound) {
+        this.secretsFound = secretsFound;
+        present |= SECRETS_FOUND;
+    }
+
+    public void setSecretsTotal(int secretsTotal) {
+        this.secretsTotal = secretsTotal;
+        present |= SECRETS_TOTAL;
+    }
+
+    public void setMaxTickers(int maxTickers) {
+        this.maxTickers = maxTickers;
+        present |= MAX_TICKERS;
+    }
+
+    public void setCurrentTickers(int currentTickers) {
+        this.currentTickers = currentTickers;
+        present |= CURRENT_TICKERS;
+    }
+
+    public void setStackSymbol(String stackSymbol) {
+        this.stackSymbol = stackSymbol;
+        present |= STACK_SYMBOL;
+    }
+
+    public void setStackAmount(int stackAmount) {
+        this.stackAmount = stackAmount;
+        present |= STACK_AMOUNT;
+    }
+
+    public void setRiftTime(String riftTime) {
+        this.riftTime = riftTime;
+        present |= RIFT_TIME;
+    }
+
+    public void setRiftTicking(boolean riftTicking) {
+        this.riftTicking = riftTicking;
+        present |= RIFT_TICKING;
+    }
+
+    public void setPressure(int pressure) {
+        this.pressure = pressure;
+        present |= PRESSURE;
+    }
+
+    /**
+     * Serializes the present fields, absent fields are omitted like nulls were before
+     */
     public String toJson() {
-        return SkyblockTweaks.GSON.toJson(this);
+        JsonObject json = new JsonObject();
+        if (has(MAX_HEALTH)) json.addProperty("maxHealth", maxHealth);
+        if (has(CURRENT_HEALTH)) json.addProperty("currentHealth", currentHealth);
+        if (has(DEFENSE)) json.addProperty("defense", defense);
+        if (has(MAX_MANA)) json.addProperty("maxMana", maxMana);
+        if (has(CURRENT_MANA)) json.addProperty("currentMana", currentMana);
+        if (has(OVERFLOW_MANA)) json.addProperty("overflowMana", overflowMana);
+        if (has(SKILL_TYPE)) json.addProperty("skillType", skillType);
+        if (has(GAINED_XP)) json.addProperty("gainedXP", gainedXP);
+        if (has(TOTAL_XP)) json.addProperty("totalXP", totalXP);
+        if (has(NEXT_LEVEL_XP)) json.addProperty("nextLevelXP", nextLevelXP);
+        if (has(SKILL_PERCENTAGE)) json.addProperty("skillPercentage", skillPercentage);
+        if (has(DRILL_FUEL)) json.addProperty("drillFuel", drillFuel);
+        if (has(MAX_DRILL_FUEL)) json.addProperty("maxDrillFuel", maxDrillFuel);
+        if (has(ABILITY_NAME)) json.addProperty("abilityName", abilityName);
+        if (has(ABILITY_MANA_COST)) json.addProperty("abilityManaCost", abilityManaCost);
+        if (has(SECRETS_FOUND)) json.addProperty("secretsFound", secretsFound);
+        if (has(SECRETS_TOTAL)) json.addProperty("secretsTotal", secretsTotal);
+        if (has(MAX_TICKERS)) json.addProperty("maxTickers", maxTickers);
+        if (has(CURRENT_TICKERS)) json.addProperty("currentTickers", currentTickers);
+        if (has(STACK_SYMBOL)) json.addProperty("stackSymbol", stackSymbol);
+        if (has(STACK_AMOUNT)) json.addProperty("stackAmount", stackAmount);
+        if (has(RIFT_TIME)) json.addProperty("riftTime", riftTime);
+        if (has(RIFT_TICKING)) json.addProperty("riftTicking", riftTicking);
+        if (has(PRESSURE)) json.addProperty("pressure", pressure);
+        return SkyblockTweaks.GSON.toJson(json);
     }
 }
-
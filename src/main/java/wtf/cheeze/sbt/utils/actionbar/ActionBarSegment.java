@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2024 MisterCheezeCake
+ *
+ * This file is part of SkyblockTweaks.
+ *
+ * SkyblockTweaks is free software: you can redistribute it
+ * and/or modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SkyblockTweaks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SkyblockTweaks. If not, see <https://www.gnu.org/licenses/>.
+ */
+package wtf.cheeze.sbt.utils.actionbar;
+
+import net.minecraft.text.Style;
+import net.minecraft.text.Text;
+
+/**
+ * A single classified segment of the action bar, produced once per packet by {@link ActionBarTransformer#classify(String)}
+ * and shared by both data extraction and the filter/rebuild step.
+ * <p>
+ * Segments which are identical to one in the previous action bar are reused as is, along with the results cached on them,
+ * so only the segments that changed get parsed and rebuilt again
+ */
+public final class ActionBarSegment {
+    private final Type type;
+    private final String raw;
+    private final String trimmed;
+    private final String plain;
+
+    /**
+     * The {@link ActionBarData} fields this segment filled in, valid once {@link #extracted} is set
+     */
+    long fields = 0;
+    boolean extracted = false;
+
+    /**
+     * The transformed text of this segment, valid while {@link #fragmentVersion} matches the filter version it was built for
+     * and {@link #fragmentStyle}, the style carried into the segment from the text before it, is unchanged
+     */
+    Text fragment = null;
+    Style fragmentStyle = null;
+    int fragmentVersion = -1;
+
+    /**
+     * @param type the kind of segment
+     * @param raw the segment as received, used when reporting errors
+     * @param trimmed the trimmed segment, still containing formatting codes
+     * @param plain the trimmed segment with formatting codes removed
+     */
+    public ActionBarSegment(Type type, String raw, String trimmed, String plain) {
+        this.type = type;
+        this.raw = raw;
+        this.trimmed = trimmed;
+        this.plain = plain;
+    }
+
+    public Type type() {
+        return type;
+    }
+
+    public String raw() {
+        return raw;
+    }
+
+    public String trimmed() {
+        return trimmed;
+    }
+
+    public String plain() {
+        return plain;
+    }
+
+    /**
+     * The order of these constants is the order segments are tested in during classification
+     */
+    public enum Type {
+        /**
+         * Races are checked first because the timer updates an obscene amount
+         */
+        RACE,
+        HEALTH,
+        MANA,
+        NOT_ENOUGH_MANA,
+        DEFENSE,
+        /**
+         * Mana spent on an ability, e.g. -24 Mana (Instant Transmission)
+         */
+        ABILITY,
+        SKILL,
+        SECRETS,
+        DRILL,
+        RIFT,
+        TRIAL_OF_FIRE,
+        LOCATION,
+        PRESSURE,
+        OTHER,
+    }
+}
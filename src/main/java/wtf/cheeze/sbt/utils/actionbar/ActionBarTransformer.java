@@ -22,14 +22,16 @@ import dev.isxander.yacl3.api.Option;
 import dev.isxander.yacl3.api.OptionGroup;
 import dev.isxander.yacl3.config.v2.api.SerialEntry;
 import net.fabricmc.fabric.api.client.message.v1.ClientReceiveMessageEvents;
+import net.minecraft.text.MutableText;
+import net.minecraft.text.Style;
 import net.minecraft.text.Text;
-import org.intellij.lang.annotations.Language;
-import wtf.cheeze.sbt.SkyblockTweaks;
+import net.minecraft.util.Formatting;
+import org.jetbrains.annotations.Nullable;
 import wtf.cheeze.sbt.config.ConfigImpl;
 import wtf.cheeze.sbt.config.SBTConfig;
 import wtf.cheeze.sbt.events.ChatEvents;
 import wtf.cheeze.sbt.features.huds.SkillHudManager;
-import wtf.cheeze.sbt.utils.NumberUtils;
+import wtf.cheeze.sbt.utils.text.CharScanner;
 import wtf.cheeze.sbt.utils.text.Symbols;
 import wtf.cheeze.sbt.utils.text.TextUtils;
 import wtf.cheeze.sbt.utils.errors.ErrorHandler;
@@ -39,6 +41,9 @@ import wtf.cheeze.sbt.utils.skyblock.SkyblockData;
 import static wtf.cheeze.sbt.config.categories.General.key;
 import static wtf.cheeze.sbt.config.categories.General.keyD;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -56,7 +61,6 @@ import java.util.regex.Pattern;
  * Parses and modifies the action bar text
  * Inspired by the SkyBlockAddons Action Bar Parser
  * TODO: Switch more things in here to regex
- * TODO: Split the main method into smaller methods
  */
 
 
@@ -75,301 +79,667 @@ public class ActionBarTransformer {
     private static final Pattern pressurePattern = Pattern.compile("Pressure: ❍(?<pressure>\\d+)%");
 
 
-    @Language("RegExp")
-    private static final String overflowManaReplacementRegex = "[ʬⓩⓄ,]";
+    private static final char MANA = Symbols.MANA.charAt(0);
+    private static final char OVERFLOW_MANA = Symbols.OVERFLOW_MANA.charAt(0);
+    private static final char DEFENSE = Symbols.DEFENSE.charAt(0);
+    private static final char TICKER_Z = Symbols.TICKER_Z.charAt(0);
+    private static final char TICKER_O = Symbols.TICKER_O.charAt(0);
+
+    /**
+     * The colour the tickers which have been used switch to, depending on the weapon
+     */
+    private static final String[] USED_TICKER_COLORS = {"§6§l", "§2§l", "§7§l"};
+
+    private static final Text SEPERATOR3_TEXT = Text.literal(SEPERATOR3);
+    private static final Text SEPERATOR5_TEXT = Text.literal(SEPERATOR5);
+    private static final Text SEPERATOR12_TEXT = Text.literal(SEPERATOR12);
+    private static final Text NOTHING = Text.empty();
+    private static final Text NOT_ENOUGH_MANA_FRAGMENT = Text.empty().append(SEPERATOR5_TEXT).append(Text.literal("NOT ENOUGH MANA").formatted(Formatting.RED, Formatting.BOLD));
+
+
+    private static final List<ActionBarSegment> EMPTY = List.of();
+
+    /**
+     * The last overlay message that was classified, and its segments. Both {@link ChatEvents#ON_ACTION_BAR} and
+     * {@link ClientReceiveMessageEvents#MODIFY_GAME} are fired for the same message, so the second one reuses the segments from the first
+     */
+    private static Text lastMessage = null;
+    private static List<ActionBarSegment> lastSegments = EMPTY;
+
+    /**
+     * The server resends the same action bar many times in a row, so we remember the last text and whether the current message differs from it
+     */
+    private static String lastRaw = null;
+    private static boolean lastChanged = true;
+
+    /**
+     * The last transformed text, returned as is while neither the action bar nor the filters have changed
+     */
+    private static Text lastTransformed = null;
+    private static String lastTransformedRaw = null;
+    private static int lastTransformedVersion = -1;
+
+    /**
+     * Bumped whenever the config is saved, invalidating the transformed text cached on segments
+     */
+    private static int filterVersion = 0;
+
+    /**
+     * Reused for every packet so that extraction does not allocate
+     */
+    private static final ActionBarData DATA = new ActionBarData();
+
+    /**
+     * Splits the action bar into segments and classifies each of them, this is the only place where the text is split,
+     * trimmed and stripped of formatting
+     */
+    public static List<ActionBarSegment> classify(String actionBarText) {
+        return classify(actionBarText, EMPTY);
+    }
+
+    /**
+     * Classifies the action bar, reusing any segment of the previous action bar whose text is unchanged along with its cached results
+     */
+    private static List<ActionBarSegment> classify(String actionBarText, List<ActionBarSegment> previous) {
+        List<ActionBarSegment> segments = new ArrayList<>(Math.max(previous.size(), 4));
+        int start = 0;
+        int separator;
+        do {
+            separator = nextSeparator(actionBarText, start);
+            String unmodifiedPart = actionBarText.substring(start, separator < 0 ? actionBarText.length() : separator);
+            if (separator >= 0) start = separator + SEPERATOR3.length();
+            ActionBarSegment reused = findSegment(previous, unmodifiedPart);
+            if (reused != null) {
+                segments.add(reused);
+                continue;
+            }
+            String trimmed = unmodifiedPart.trim();
+            String unformatted = TextUtils.removeFormatting(trimmed);
+            segments.add(new ActionBarSegment(classifySegment(unformatted), unmodifiedPart, trimmed, unformatted));
+        } while (separator >= 0);
+        // Drop the empty segments a trailing separator leaves, as String.split did
+        if (segments.size() > 1) {
+            while (!segments.isEmpty() && segments.get(segments.size() - 1).raw().isEmpty()) {
+                segments.remove(segments.size() - 1);
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * @return the index of the first separator at or after from, or -1 if there is none
+     */
+    private static int nextSeparator(String text, int from) {
+        int end = text.length();
+        int space = CharScanner.indexOf(text, ' ', from, end);
+        while (space >= 0 && space + SEPERATOR3.length() <= end) {
+            if (text.startsWith(SEPERATOR3, space)) return space;
+            space = CharScanner.indexOf(text, ' ', space + 1, end);
+        }
+        return -1;
+    }
+
+    private static ActionBarSegment findSegment(List<ActionBarSegment> segments, String raw) {
+        // The action bar never has more than a handful of segments, so a linear search is the cheapest option
+        for (ActionBarSegment segment : segments) {
+            if (segment.raw().equals(raw)) return segment;
+        }
+        return null;
+    }
 
+    private static ActionBarSegment.Type classifySegment(String unformatted) {
+        if (unformatted.toLowerCase().contains("race")) {
+            return ActionBarSegment.Type.RACE;
+        } else if (unformatted.contains(Symbols.HEALTH)) {
+            return ActionBarSegment.Type.HEALTH;
+        } else if (unformatted.contains(Symbols.MANA)) {
+            return ActionBarSegment.Type.MANA;
+        } else if (unformatted.contains("NOT ENOUGH MANA")) {
+            return ActionBarSegment.Type.NOT_ENOUGH_MANA;
+        } else if (unformatted.contains(Symbols.DEFENSE)) {
+            return ActionBarSegment.Type.DEFENSE;
+        } else if (unformatted.contains("Mana")) {
+            return ActionBarSegment.Type.ABILITY;
+        } else if (!unformatted.contains("SkyBlock XP") && skillLevelPatern.matcher(unformatted).matches()) {
+            return ActionBarSegment.Type.SKILL;
+        } else if (unformatted.contains("Secrets")) {
+            return ActionBarSegment.Type.SECRETS;
+        } else if (unformatted.contains("Drill Fuel")) {
+            return ActionBarSegment.Type.DRILL;
+        } else if (unformatted.contains("ф Left")) {
+            return ActionBarSegment.Type.RIFT;
+        } else if (unformatted.contains("second") || unformatted.contains("DPS")) {
+            return ActionBarSegment.Type.TRIAL_OF_FIRE;
+        } else if (unformatted.contains("⏣")) {
+            return ActionBarSegment.Type.LOCATION;
+        } else if (unformatted.contains(Symbols.PRESSURE)) {
+            return ActionBarSegment.Type.PRESSURE;
+        }
+        return ActionBarSegment.Type.OTHER;
+    }
+
+    /**
+     * Returns the segments of the given overlay message, reusing the previous classification if it is the same message,
+     * and records whether its text differs from the previous message
+     */
+    private static List<ActionBarSegment> segmentsOf(Text message) {
+        if (message != lastMessage) {
+            lastMessage = message;
+            String raw = message.getString();
+            if (raw.equals(lastRaw)) {
+                lastChanged = false;
+                return lastSegments;
+            }
+            lastChanged = true;
+            try {
+                lastSegments = classify(raw, lastSegments);
+                lastRaw = raw;
+            } catch (Exception e) {
+                ErrorHandler.handle(e, "Error Parsing action bar text/*LOGONLY {}*/", ErrorLevel.WARNING, false, raw);
+                lastSegments = EMPTY;
+                lastRaw = null;
+            }
+        }
+        return lastSegments;
+    }
 
+    /**
+     * Parses an action bar on its own into a new {@link ActionBarData}, leaving the shared instance and the cached segments of the live action bar alone
+     */
     public static ActionBarData extractData(String actionBarText) {
+        try {
+            return extractData(classify(actionBarText), new ActionBarData());
+        } catch (Exception e) {
+            ErrorHandler.handle(e, "Error Parsing action bar text/*LOGONLY {}*/", ErrorLevel.WARNING, false, actionBarText);
+            return new ActionBarData();
+        }
+    }
+
+    /**
+     * Extracts the data from the given segments into the shared {@link ActionBarData} instance.
+     * Segments reused from the previous action bar keep the fields they filled in last time, only new segments are parsed,
+     * so the instance must not have been filled from a different list of segments in between
+     */
+    public static ActionBarData extractData(List<ActionBarSegment> segments) {
+        return extractData(segments, DATA);
+    }
+
+    private static ActionBarData extractData(List<ActionBarSegment> segments, ActionBarData data) {
+        long kept = 0;
+        for (ActionBarSegment segment : segments) {
+            if (segment.extracted) kept |= segment.fields;
+        }
+        data.retain(kept);
+        for (ActionBarSegment segment : segments) {
+            if (segment.extracted) continue;
+            long before = data.present;
             try {
-                ActionBarData data = new ActionBarData();
-                String[] unmodifiedParts = actionBarText.split(SEPERATOR3);
-                for (String unmodifiedPart : unmodifiedParts) {
-                    try {
-                        String trimmed = unmodifiedPart.trim();
-                        String unformatted = TextUtils.removeFormatting(trimmed);
-                        if (unformatted.contains(Symbols.HEALTH)) {
-                            var matcher = healthPattern.matcher(unformatted);
-                            if (matcher.find()) {
-                                data.currentHealth = Float.parseFloat(matcher.group("current").replaceAll(",", ""));
-                                data.maxHealth = Float.parseFloat(matcher.group("max").replaceAll(",", ""));
-                                if (matcher.group("stacks") != null) {
-                                    data.stackAmount = Integer.parseInt(matcher.group("stacks"));
-                                }
-                                if (matcher.group("symbol") != null) {
-                                    data.stackSymbol = matcher.group("symbol");
-                                }
-                            }
-                        } else if (unformatted.contains(Symbols.MANA)) {
-
-
-                            // Mana
-                            // 411/1,221✎ 2ʬ
-                            // 289/1,221✎ Mana
-                            String[] manaParts = unformatted.split(" ");
-                            manaParts[0] = manaParts[0].replace(Symbols.MANA, "");
-                            String[] mana = manaParts[0].split("/");
-                            data.currentMana = Float.parseFloat(mana[0].replaceAll(",", ""));
-                            data.maxMana = Float.parseFloat(mana[1].replaceAll(",", ""));
-                            if (manaParts[1].contains(Symbols.OVERFLOW_MANA)) {
-                                data.overflowMana = Float.parseFloat(manaParts[1].replaceAll(overflowManaReplacementRegex, ""));
-                            } else {
-                                data.overflowMana = 0f;
-                            }
-                            if (manaParts[1].contains(Symbols.TICKER_Z) || manaParts[1].contains(Symbols.TICKER_O)) {
-                                String segment = trimmed.split(" ")[1];
-                                String tickers = "";
-                                if (segment.contains(Symbols.OVERFLOW_MANA)) {
-                                    tickers = segment.split(Symbols.OVERFLOW_MANA)[1];
-                                } else if (segment.contains("Mana")) {
-                                    tickers = segment.split("Mana")[1];
-                                }
-                                if (!tickers.isEmpty()) {
-                                    data.maxTickers = TextUtils.removeFormatting(tickers).length();
-                                    if (tickers.contains("§6§l")) {
-                                        var split = tickers.split("§6§l");
-                                        data.currentTickers = TextUtils.removeFormatting(split[0]).length();
-                                    } else if (tickers.contains("§2§l")) {
-                                        var split = tickers.split("§2§l");
-                                        data.currentTickers = TextUtils.removeFormatting(split[0]).length();
-                                    } else if (tickers.contains("§7§l")) {
-                                        var split = tickers.split("§7§l");
-                                        data.currentTickers = TextUtils.removeFormatting(split[0]).length();
-                                    }
-                                }
-
-
-                            }
-
-                        } else if (unformatted.contains("NOT ENOUGH MANA") && (unformatted.contains(Symbols.TICKER_Z) || unformatted.contains(Symbols.TICKER_O))) {
-                            String tickers = trimmed.replace("NOT ENOUGH MANA", "");
-                            if (!tickers.isBlank()) {
-                                data.maxTickers = TextUtils.removeFormatting(tickers).length();
-                                if (tickers.contains("§6§l")) {
-                                    var split = tickers.split("§6§l");
-                                    data.currentTickers = TextUtils.removeFormatting(split[0]).length();
-                                } else if (tickers.contains("§2§l")) {
-                                    var split = tickers.split("§2§l");
-                                    data.currentTickers = TextUtils.removeFormatting(split[0]).length();
-                                } else if (tickers.contains("§7§l")) {
-                                    var split = tickers.split("§7§l");
-                                    data.currentTickers = TextUtils.removeFormatting(split[0]).length();
-                                }
-                            }
-                        } else if (unformatted.contains(Symbols.DEFENSE)) {
-                            //TODO: Still uses string manipulation
-
-                            // Defense
-                            String defense = unformatted.split(Symbols.DEFENSE)[0].trim();
-                            data.defense = Integer.parseInt(defense.replaceAll(",", ""));
-
-                        } else if (unformatted.contains("Mana")) {
-                            Matcher matcher = manaAbilityPattern.matcher(unformatted);
-                            if (matcher.find()) {
-                                data.abilityManaCost = Integer.parseInt(matcher.group(1));
-                                data.abilityName = matcher.group(2);
-                            }
-                        } else if (skillLevelPatern.matcher(unformatted).matches()) {
-                            Matcher matcher = skillLevelPatern.matcher(unformatted);
-                            if (matcher.find() && !matcher.group(2).contains("SkyBlock XP")) {
-                                data.gainedXP = NumberUtils.parseFloatWithKorM(matcher.group(1));
-                                data.skillType = matcher.group(2);
-                                if (matcher.group(3).contains("/")) {
-                                    String[] xp = matcher.group(3).split("/");
-                                    data.totalXP = NumberUtils.parseFloatWithKorM(xp[1]);
-                                    data.nextLevelXP = NumberUtils.parseFloatWithKorM(xp[0]);
-                                    // TODO: Transition uses of this to an event which SkillHud can subscribe to
-                                    SkillHudManager.INSTANCE.update(data.skillType, data.gainedXP, data.totalXP, data.nextLevelXP);
-                                } else {
-                                    data.skillPercentage = Float.parseFloat(matcher.group(3).replace("%", "").replaceAll(",", ""));
-                                    SkillHudManager.INSTANCE.update(data.skillType, data.gainedXP, data.skillPercentage);
-                                }
-                            }
-                        } else if (unformatted.contains("Secrets")) {
-                            Matcher matcher = secretsPattern.matcher(unformatted);
-                            if (matcher.find()) {
-                                data.secretsFound = Integer.parseInt(matcher.group(1));
-                                data.secretsTotal = Integer.parseInt(matcher.group(2));
-                            }
-                        } else if (unformatted.contains("Drill Fuel")) {
-                            // Drill Fuel
-                            String[] drillFuel = unformatted.split(" ")[0].split("/");
-                            data.drillFuel = Integer.parseInt(drillFuel[0].replace(",", ""));
-                            data.maxDrillFuel = NumberUtils.parseIntWithKorM(drillFuel[1]);
-                        } else if (unformatted.contains("ф Left")) {
-                            // Rift Timer
-                            SkyblockTweaks.LOGGER.info("Rift Timer: {}", unformatted);
-                            Matcher matcher = riftTimePattern.matcher(unformatted);
-                            if (matcher.matches()) {
-                                data.riftTime = matcher.group("time");
-                                data.riftTicking = trimmed.contains("§a");
-                            }
-//                        } else if (unformatted.contains(Symbols.TICKER_Z) || unformatted.contains(Symbols.TICKER_O)) {
-//                            //TODO: Still uses string manipulation
-//
-//                            // Ornate/Florid: §e§lⓩⓩⓩ§6§lⓄⓄ
-//                            // Regular: §a§lⓩ§2§lⓄⓄⓄ
-//                            // Foil: §e§lⓄⓄ§7§lⓄⓄ
-//                            data.maxTickers = unformatted.length();
-//                            if (trimmed.contains("§6§l")) {
-//                                var split = trimmed.split("§6§l");
-//                                data.currentTickers = TextUtils.removeFormatting(split[0]).length();
-//                            } else if (trimmed.contains("§2§l")) {
-//                                var split = trimmed.split("§2§l");
-//                                data.currentTickers = TextUtils.removeFormatting(split[0]).length();
-//                            } else if (trimmed.contains("§7§l")) {
-//                                var split = trimmed.split("§7§l");
-//                                data.currentTickers = TextUtils.removeFormatting(split[0]).length();
-//                            }
-                        } else if (unformatted.contains(Symbols.PRESSURE)) {
-                            Matcher matcher = pressurePattern.matcher(unformatted);
-                            if (matcher.matches()) {
-                                data.pressure = Integer.parseInt(matcher.group("pressure"));
-                            }
-
-
-                        }
-                    } catch (Exception e) {
-                        ErrorHandler.handle(e, "Error Parsing action bar segment/*LOGONLY {}*/", ErrorLevel.WARNING, false, unmodifiedPart);
-                    }
+                if (!extractSegment(segment, data)) {
+                    ErrorHandler.report("Malformed action bar segment: {}", ErrorLevel.SILENT, false, segment.raw());
                 }
-                return data;
             } catch (Exception e) {
-                ErrorHandler.handle(e, "Error Parsing action bar text/*LOGONLY {}*/", ErrorLevel.WARNING, false, actionBarText);
-                return new ActionBarData();
+                ErrorHandler.handle(e, "Error Parsing action bar segment/*LOGONLY {}*/", ErrorLevel.WARNING, false, segment.raw());
             }
+            segment.fields = data.present & ~before;
+            segment.extracted = true;
+        }
+        return data;
+    }
 
+    /**
+     * The Skill HUD hides itself shortly after the last update, so it is refreshed for every action bar which shows a skill, even an unchanged one
+     */
+    private static void updateSkillHud(ActionBarData data) {
+        if (!data.has(ActionBarData.SKILL_TYPE | ActionBarData.GAINED_XP)) return;
+        if (data.has(ActionBarData.TOTAL_XP | ActionBarData.NEXT_LEVEL_XP)) {
+            // TODO: Transition uses of this to an event which SkillHud can subscribe to
+            SkillHudManager.INSTANCE.update(data.skillType, data.gainedXP, data.totalXP, data.nextLevelXP);
+        } else if (data.has(ActionBarData.SKILL_PERCENTAGE)) {
+            SkillHudManager.INSTANCE.update(data.skillType, data.gainedXP, data.skillPercentage);
+        }
+    }
 
+    /**
+     * Numbers are read with {@link CharScanner} straight from the segment, so a malformed number does not throw
+     * @return false if the segment was recognized but a number in it could not be parsed
+     */
+    private static boolean extractSegment(ActionBarSegment segment, ActionBarData data) {
+        String trimmed = segment.trimmed();
+        String unformatted = segment.plain();
+        switch (segment.type()) {
+            case HEALTH -> {
+                var matcher = healthPattern.matcher(unformatted);
+                if (matcher.find()) {
+                    float current = CharScanner.parseFloat(unformatted, matcher.start("current"), matcher.end("current"));
+                    float max = CharScanner.parseFloat(unformatted, matcher.start("max"), matcher.end("max"));
+                    if (Float.isNaN(current) || Float.isNaN(max)) return false;
+                    data.setCurrentHealth(current);
+                    data.setMaxHealth(max);
+                    if (matcher.start("stacks") >= 0) {
+                        long stacks = CharScanner.parseInt(unformatted, matcher.start("stacks"), matcher.end("stacks"));
+                        if (stacks == CharScanner.NO_INT) return false;
+                        data.setStackAmount((int) stacks);
+                    }
+                    if (matcher.start("symbol") >= 0) {
+                        data.setStackSymbol(matcher.group("symbol"));
+                    }
+                }
+            }
+            case MANA -> {
+                // Mana
+                // 411/1,221✎ 2ʬ
+                // 289/1,221✎ Mana
+                int slash = unformatted.indexOf('/');
+                int symbol = unformatted.indexOf(MANA);
+                int space = unformatted.indexOf(' ', symbol);
+                if (slash < 0 || symbol < slash || space < 0) return false;
+                float current = CharScanner.parseFloat(unformatted, 0, slash);
+                float max = CharScanner.parseFloat(unformatted, slash + 1, symbol);
+                if (Float.isNaN(current) || Float.isNaN(max)) return false;
+                data.setCurrentMana(current);
+                data.setMaxMana(max);
+                int overflow = unformatted.indexOf(OVERFLOW_MANA, space);
+                if (overflow >= 0) {
+                    float overflowMana = CharScanner.parseFloat(unformatted, space + 1, overflow);
+                    if (Float.isNaN(overflowMana)) return false;
+                    data.setOverflowMana(overflowMana);
+                } else {
+                    data.setOverflowMana(0f);
+                }
+                if (hasTickers(unformatted)) {
+                    // The tickers follow the mana in the second word of the segment
+                    int wordStart = CharScanner.indexOf(trimmed, ' ') + 1;
+                    if (wordStart == 0) return false;
+                    int wordEnd = CharScanner.indexOf(trimmed, ' ', wordStart, trimmed.length());
+                    if (wordEnd < 0) wordEnd = trimmed.length();
+                    int tickerStart = -1;
+                    int overflowSymbol = CharScanner.indexOf(trimmed, OVERFLOW_MANA, wordStart, wordEnd);
+                    if (overflowSymbol >= 0) {
+                        tickerStart = overflowSymbol + 1;
+                    } else {
+                        int mana = trimmed.indexOf("Mana", wordStart);
+                        if (mana >= 0 && mana + 4 <= wordEnd) tickerStart = mana + 4;
+                    }
+                    if (tickerStart >= 0 && tickerStart < wordEnd) {
+                        extractTickers(trimmed, tickerStart, wordEnd, data);
+                    }
+                }
+            }
+            case NOT_ENOUGH_MANA -> {
+                if (hasTickers(unformatted)) {
+                    String tickers = trimmed.replace("NOT ENOUGH MANA", "");
+                    if (!tickers.isBlank()) {
+                        extractTickers(tickers, 0, tickers.length(), data);
+                    }
+                }
+            }
+            case DEFENSE -> {
+                long defense = CharScanner.parseInt(unformatted, 0, unformatted.indexOf(DEFENSE));
+                if (defense == CharScanner.NO_INT) return false;
+                data.setDefense((int) defense);
+            }
+            case ABILITY -> {
+                Matcher matcher = manaAbilityPattern.matcher(unformatted);
+                if (matcher.find()) {
+                    long cost = CharScanner.parseInt(unformatted, matcher.start(1), matcher.end(1));
+                    if (cost == CharScanner.NO_INT) return false;
+                    data.setAbilityManaCost((int) cost);
+                    data.setAbilityName(matcher.group(2));
+                }
+            }
+            case SKILL -> {
+                Matcher matcher = skillLevelPatern.matcher(unformatted);
+                if (matcher.matches()) {
+                    float gained = CharScanner.parseFloat(unformatted, matcher.start(1), matcher.end(1));
+                    if (Float.isNaN(gained)) return false;
+                    data.setGainedXP(gained);
+                    data.setSkillType(matcher.group(2));
+                    int progressStart = matcher.start(3);
+                    int progressEnd = matcher.end(3);
+                    int slash = CharScanner.indexOf(unformatted, '/', progressStart, progressEnd);
+                    if (slash >= 0) {
+                        float nextLevel = CharScanner.parseFloat(unformatted, progressStart, slash);
+                        float total = CharScanner.parseFloat(unformatted, slash + 1, progressEnd);
+                        if (Float.isNaN(nextLevel) || Float.isNaN(total)) return false;
+                        data.setTotalXP(total);
+                        data.setNextLevelXP(nextLevel);
+                    } else {
+                        if (unformatted.charAt(progressEnd - 1) == '%') progressEnd--;
+                        float percentage = CharScanner.parseFloat(unformatted, progressStart, progressEnd);
+                        if (Float.isNaN(percentage)) return false;
+                        data.setSkillPercentage(percentage);
+                    }
+                }
+            }
+            case SECRETS -> {
+                Matcher matcher = secretsPattern.matcher(unformatted);
+                if (matcher.find()) {
+                    long found = CharScanner.parseInt(unformatted, matcher.start(1), matcher.end(1));
+                    long total = CharScanner.parseInt(unformatted, matcher.start(2), matcher.end(2));
+                    if (found == CharScanner.NO_INT || total == CharScanner.NO_INT) return false;
+                    data.setSecretsFound((int) found);
+                    data.setSecretsTotal((int) total);
+                }
+            }
+            case DRILL -> {
+                // 1,650/3k Drill Fuel
+                int slash = unformatted.indexOf('/');
+                int space = unformatted.indexOf(' ');
+                if (slash < 0 || space < slash) return false;
+                long fuel = CharScanner.parseInt(unformatted, 0, slash);
+                long maxFuel = CharScanner.parseInt(unformatted, slash + 1, space);
+                if (fuel == CharScanner.NO_INT || maxFuel == CharScanner.NO_INT) return false;
+                data.setDrillFuel((int) fuel);
+                data.setMaxDrillFuel((int) maxFuel);
+            }
+            case RIFT -> {
+                Matcher matcher = riftTimePattern.matcher(unformatted);
+                if (matcher.matches()) {
+                    data.setRiftTime(matcher.group("time"));
+                    data.setRiftTicking(trimmed.contains("§a"));
+                }
+            }
+            case PRESSURE -> {
+                Matcher matcher = pressurePattern.matcher(unformatted);
+                if (matcher.matches()) {
+                    long pressure = CharScanner.parseInt(unformatted, matcher.start("pressure"), matcher.end("pressure"));
+                    if (pressure == CharScanner.NO_INT) return false;
+                    data.setPressure((int) pressure);
+                }
+            }
+            default -> {
+                // Races, Trial of Fire, locations and unknown segments carry no data we use
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasTickers(String unformatted) {
+        return unformatted.indexOf(TICKER_Z) >= 0 || unformatted.indexOf(TICKER_O) >= 0;
+    }
+
+    /**
+     * Counts the tickers in the given range, the used ones are in a different colour from the ones which are available
+     * Ornate/Florid: §e§lⓩⓩⓩ§6§lⓄⓄ
+     * Regular: §a§lⓩ§2§lⓄⓄⓄ
+     * Foil: §e§lⓄⓄ§7§lⓄⓄ
+     */
+    private static void extractTickers(String tickers, int start, int end, ActionBarData data) {
+        data.setMaxTickers(CharScanner.visibleLength(tickers, start, end));
+        for (String usedColor : USED_TICKER_COLORS) {
+            int used = tickers.indexOf(usedColor, start);
+            if (used >= 0 && used + usedColor.length() <= end) {
+                data.setCurrentTickers(CharScanner.visibleLength(tickers, start, used));
+                return;
+            }
+        }
     }
 
     public static Text runTransformations(Text actionBarText) {
+        return runTransformations(actionBarText, SBTConfig.get().actionBarFilters);
+    }
+
+    /**
+     * Transforms the text with the given filters instead of the ones in the config, the segments are classified fresh,
+     * so nothing cached from the live action bar is used
+     */
+    public static Text runTransformations(Text actionBarText, Config filters) {
         try {
-            String[] unmodifiedParts = actionBarText.getString().split(SEPERATOR3);
-            StringBuilder newText = new StringBuilder();
-            for (String unmodifiedPart : unmodifiedParts) {
-                try {
-                    String trimmed = unmodifiedPart.trim();
-                    String unformatted = TextUtils.removeFormatting(trimmed);
-                    if (unformatted.toLowerCase().contains("race")) {
-                        // Races, we do these first because the timer updates an obscene amount
-                        newText.append(trimmed).append(SEPERATOR12);
-                    } else if (unformatted.contains(Symbols.HEALTH)) {
-                        if (!SBTConfig.get().actionBarFilters.hideHealth) {
-                            newText.append(SEPERATOR5).append(trimmed);
-                        }
-                    } else if (unformatted.contains(Symbols.MANA)) {
-                        boolean hideMana = SBTConfig.get().actionBarFilters.hideMana;
-                        boolean hideTickers = SBTConfig.get().actionBarFilters.hideTickers;
-                        boolean hasTickers = unformatted.contains(Symbols.TICKER_Z) || unformatted.contains(Symbols.TICKER_O);
-                        /*
-                        Possible case:
-                          > TM-HTM (Tickers and Mana - Hide Tickers and Mana)
-                          > TM-HT  (Tickers and Mana - Hide Tickers)
-                          > TM-HM  (Tickers and Mana - Hide Mana)
-                          > TM-H0  (Tickers and Mana - Hide nothing)
-                          > M-HM  (Mana Only - Mana, tickers are irrelevant)
-                          > M-H0 (Mana Only - Don't hide mana, tickers are irrelevant)
-                        */
-                        if (!hideMana && (!hideTickers || !hasTickers)) {
-                            // TM-H0, M-H0
-                            newText.append(SEPERATOR5).append(trimmed);
-                        } else if (hideMana && !hideTickers && hasTickers) {
-                            // TM-HM
-                            String segment = trimmed.split(" ")[1];
-                            String tickers = "";
-                            if (segment.contains(Symbols.OVERFLOW_MANA)) {
-                                tickers = segment.split(Symbols.OVERFLOW_MANA)[1];
-                            } else if (segment.contains("Mana")) {
-                                tickers = segment.split("Mana")[1];
-                            }
-                            newText.append(SEPERATOR5).append(tickers);
-                        } else if (!hideMana && hideTickers && hasTickers) {
-                            // TM-HT
-                            String spliter = "";
-                            if (trimmed.contains(Symbols.OVERFLOW_MANA)) {
-                                spliter = Symbols.OVERFLOW_MANA;
-                            } else if (trimmed.contains("Mana")) {
-                                spliter = "Mana";
-                            }
-                            String[] manaParts = trimmed.split(spliter);
-                            newText.append(SEPERATOR5).append(manaParts[0]).append(spliter);
-                        }
-                        // For TM-HTM and M-HM, we don't append anything since everything in the mana segment is hidden
-
-                    } else if (unformatted.contains("NOT ENOUGH MANA")) {
-                        boolean hasTickers = unformatted.contains(Symbols.TICKER_Z) || unformatted.contains(Symbols.TICKER_O);
-                        if (hasTickers && SBTConfig.get().actionBarFilters.hideTickers) {
-                            newText.append(SEPERATOR5).append("§c§lNOT ENOUGH MANA");
-                        } else {
-                            newText.append(SEPERATOR5).append(trimmed);
-                        }
-                    } else if (unformatted.contains(Symbols.DEFENSE)) {
-                        if (!SBTConfig.get().actionBarFilters.hideDefense) {
-                            newText.append(SEPERATOR5).append(trimmed);
-                        }
-
-                    } else if (unformatted.contains("Mana")) {
-                        newText.append(SEPERATOR5).append(trimmed);
-                    } else if (skillLevelPatern.matcher(unformatted).matches() && !unformatted.contains("SkyBlock XP")) {
-                        if (!SBTConfig.get().actionBarFilters.hideSkill) {
-                            newText.append(SEPERATOR5).append(trimmed);
-                        }
-                    } else if (unformatted.contains("Secrets")) {
-                        if (!SBTConfig.get().actionBarFilters.hideSecrets) {
-                            newText.append(SEPERATOR5).append(trimmed);
-                        }
-                    } else if (unformatted.contains("Drill Fuel")) {
-                        if (!SBTConfig.get().actionBarFilters.hideDrill) {
-                            newText.append(SEPERATOR5).append(trimmed);
-                        }
-                    } else if (unformatted.contains("ф Left")) {
-                        if (!SBTConfig.get().actionBarFilters.hideRiftTime) {
-                            newText.append(SEPERATOR5).append(trimmed);
-                        }
-                    } else if (unformatted.contains("second") || unformatted.contains("DPS")) {
-                        // Trial of Fire
-                        newText.append(SEPERATOR3).append(trimmed);
-//                    } else if (unformatted.contains("ⓩ") || unformatted.contains("Ⓞ")) {
-//                        if (!SBTConfig.get().actionBarFilters.hideTickers) {
-//                            newText.append(SEPERATOR4).append(trimmed);
-//                        }
-                    } else if (unformatted.contains("⏣")) {
-                        if (!SBTConfig.get().actionBarFilters.hideLocation) {
-                            newText.append(SEPERATOR5).append(trimmed);
-                        }
-                    } else if (unformatted.contains(Symbols.PRESSURE)) {
-                        if (!SBTConfig.get().actionBarFilters.hidePressure) {
-                            newText.append(SEPERATOR5).append(trimmed);
-                        }
-                    } else {
-                        newText.append(SEPERATOR5).append(trimmed);
-                    }
-                } catch (Exception e) {
-                    ErrorHandler.handle(e, "Error Parsing action bar segment/*LOGONLY {}*/", ErrorLevel.WARNING, false, unmodifiedPart);
-                    newText.append(SEPERATOR5).append(unmodifiedPart.trim());
+            return runTransformations(actionBarText, classify(actionBarText.getString()), filters);
+        } catch (Exception e) {
+            ErrorHandler.handle(e, "Error Parsing transforming bar text/*LOGONLY {}*/", ErrorLevel.WARNING, false, actionBarText.getString());
+            return actionBarText;
+        }
+    }
 
-                }
+    public static Text runTransformations(Text actionBarText, List<ActionBarSegment> segments) {
+        return runTransformations(actionBarText, segments, SBTConfig.get().actionBarFilters);
+    }
+
+    private static Text runTransformations(Text actionBarText, List<ActionBarSegment> segments, Config filters) {
+        try {
+            List<Run> runs = collectRuns(actionBarText);
+            MutableText newText = Text.empty();
+            int position = 0;
+            for (ActionBarSegment segment : segments) {
+                int start = position + leadingWhitespace(segment.raw());
+                position += segment.raw().length() + SEPERATOR3.length();
+                newText.append(fragmentOf(segment, runs, start, filters));
             }
-            return Text.of(newText.toString());
+            return newText;
         } catch (Exception e) {
             ErrorHandler.handle(e, "Error Parsing transforming bar text/*LOGONLY {}*/", ErrorLevel.WARNING, false, actionBarText.getString());
             return actionBarText;
         }
     }
 
+    /**
+     * @param start the index of the trimmed segment in the whole action bar
+     * @return the transformed segment, which is only rebuilt for new segments, after the filters changed, or if the formatting carried into the segment changed
+     */
+    private static Text fragmentOf(ActionBarSegment segment, List<Run> runs, int start, Config filters) {
+        Style style = styleAt(runs, start);
+        if (segment.fragmentVersion == filterVersion && style.equals(segment.fragmentStyle)) return segment.fragment;
+        Text fragment;
+        try {
+            fragment = transformSegment(segment, runs, start, filters);
+        } catch (Exception e) {
+            ErrorHandler.handle(e, "Error Parsing action bar segment/*LOGONLY {}*/", ErrorLevel.WARNING, false, segment.raw());
+            fragment = slice(SEPERATOR5_TEXT, runs, start, start + segment.trimmed().length(), null);
+        }
+        segment.fragment = fragment;
+        segment.fragmentStyle = style;
+        segment.fragmentVersion = filterVersion;
+        return fragment;
+    }
+
+    /**
+     * Decides which part of the segment is kept, the kept part is copied from the styled nodes of the original text
+     */
+    private static Text transformSegment(ActionBarSegment segment, List<Run> runs, int start, Config filters) {
+        String trimmed = segment.trimmed();
+        int end = start + trimmed.length();
+        return switch (segment.type()) {
+            case RACE -> slice(null, runs, start, end, SEPERATOR12_TEXT);
+            case HEALTH -> unlessHidden(runs, start, end, filters.hideHealth);
+            case MANA -> {
+                boolean hideMana = filters.hideMana;
+                boolean hideTickers = filters.hideTickers;
+                boolean hasTickers = hasTickers(segment.plain());
+                /*
+                Possible case:
+                  > TM-HTM (Tickers and Mana - Hide Tickers and Mana)
+                  > TM-HT  (Tickers and Mana - Hide Tickers)
+                  > TM-HM  (Tickers and Mana - Hide Mana)
+                  > TM-H0  (Tickers and Mana - Hide nothing)
+                  > M-HM  (Mana Only - Mana, tickers are irrelevant)
+                  > M-H0 (Mana Only - Don't hide mana, tickers are irrelevant)
+                */
+                if (!hideMana && (!hideTickers || !hasTickers)) {
+                    // TM-H0, M-H0
+                    yield slice(SEPERATOR5_TEXT, runs, start, end, null);
+                } else if (hideMana && !hideTickers && hasTickers) {
+                    // TM-HM, the tickers follow the overflow mana or the word Mana in the second word of the segment
+                    int wordStart = trimmed.indexOf(' ') + 1;
+                    int wordEnd = trimmed.indexOf(' ', wordStart);
+                    if (wordEnd < 0) wordEnd = trimmed.length();
+                    int tickerStart = trimmed.indexOf(OVERFLOW_MANA, wordStart);
+                    if (tickerStart >= 0 && tickerStart < wordEnd) {
+                        tickerStart += 1;
+                    } else {
+                        tickerStart = trimmed.indexOf("Mana", wordStart);
+                        tickerStart = tickerStart >= 0 && tickerStart < wordEnd ? tickerStart + 4 : wordEnd;
+                    }
+                    yield slice(SEPERATOR5_TEXT, runs, start + tickerStart, start + wordEnd, null);
+                } else if (!hideMana && hideTickers && hasTickers) {
+                    // TM-HT, everything up to and including the overflow mana or the word Mana
+                    int cut = trimmed.indexOf(OVERFLOW_MANA);
+                    if (cut >= 0) {
+                        cut += 1;
+                    } else {
+                        cut = trimmed.indexOf("Mana");
+                        cut = cut >= 0 ? cut + 4 : trimmed.length();
+                    }
+                    yield slice(SEPERATOR5_TEXT, runs, start, start + cut, null);
+                }
+                // For TM-HTM and M-HM, we don't append anything since everything in the mana segment is hidden
+                yield NOTHING;
+            }
+            case NOT_ENOUGH_MANA -> {
+                if (hasTickers(segment.plain()) && filters.hideTickers) {
+                    yield NOT_ENOUGH_MANA_FRAGMENT;
+                }
+                yield slice(SEPERATOR5_TEXT, runs, start, end, null);
+            }
+            case DEFENSE -> unlessHidden(runs, start, end, filters.hideDefense);
+            case SKILL -> unlessHidden(runs, start, end, filters.hideSkill);
+            case SECRETS -> unlessHidden(runs, start, end, filters.hideSecrets);
+            case DRILL -> unlessHidden(runs, start, end, filters.hideDrill);
+            case RIFT -> unlessHidden(runs, start, end, filters.hideRiftTime);
+            // Trial of Fire
+            case TRIAL_OF_FIRE -> slice(SEPERATOR3_TEXT, runs, start, end, null);
+            case LOCATION -> unlessHidden(runs, start, end, filters.hideLocation);
+            case PRESSURE -> unlessHidden(runs, start, end, filters.hidePressure);
+            default -> slice(SEPERATOR5_TEXT, runs, start, end, null);
+        };
+    }
+
+    private static Text unlessHidden(List<Run> runs, int start, int end, boolean hidden) {
+        return hidden ? NOTHING : slice(SEPERATOR5_TEXT, runs, start, end, null);
+    }
+
+    /**
+     * A styled node of the original text, start is the index of its content in the whole action bar
+     */
+    private record Run(Style style, String content, int start) {}
+
+    private static List<Run> collectRuns(Text text) {
+        List<Run> runs = new ArrayList<>();
+        text.visit((style, content) -> {
+            if (!content.isEmpty()) {
+                int start = runs.isEmpty() ? 0 : runs.getLast().start() + runs.getLast().content().length();
+                runs.add(new Run(style, content, start));
+            }
+            return Optional.empty();
+        }, Style.EMPTY);
+        return runs;
+    }
+
+    /**
+     * Copies the given range of the original text into a new text, keeping the style of each node.
+     * Legacy formatting codes are turned into styles here, once, rather than every time the text is rendered
+     */
+    private static MutableText slice(@Nullable Text prefix, List<Run> runs, int from, int to, @Nullable Text suffix) {
+        MutableText text = Text.empty();
+        if (prefix != null) text.append(prefix);
+        for (Run run : runs) {
+            String content = run.content();
+            int length = content.length();
+            if (run.start() + length <= from) continue;
+            if (run.start() >= to) break;
+            Style style = run.style();
+            int chunkStart = -1;
+            int chunkEnd = Math.min(length, to - run.start());
+            for (int i = 0; i < chunkEnd; i++) {
+                if (content.charAt(i) == CharScanner.SECTION) {
+                    if (chunkStart >= 0) {
+                        text.append(Text.literal(content.substring(chunkStart, i)).setStyle(style));
+                        chunkStart = -1;
+                    }
+                    if (i + 1 < length) style = applyFormatting(style, run.style(), content.charAt(i + 1));
+                    i++;
+                } else if (chunkStart < 0 && run.start() + i >= from) {
+                    chunkStart = i;
+                }
+            }
+            if (chunkStart >= 0) {
+                text.append(Text.literal(content.substring(chunkStart, chunkEnd)).setStyle(style));
+            }
+        }
+        if (suffix != null) text.append(suffix);
+        return text;
+    }
+
+    /**
+     * @return the style in effect at the given index of the whole action bar, including legacy formatting codes before it
+     */
+    private static Style styleAt(List<Run> runs, int position) {
+        for (Run run : runs) {
+            String content = run.content();
+            if (position >= run.start() + content.length()) continue;
+            Style style = run.style();
+            int end = position - run.start();
+            for (int i = 0; i < end; i++) {
+                if (content.charAt(i) == CharScanner.SECTION) {
+                    if (i + 1 < content.length()) style = applyFormatting(style, run.style(), content.charAt(i + 1));
+                    i++;
+                }
+            }
+            return style;
+        }
+        return Style.EMPTY;
+    }
+
+    /**
+     * Applies a legacy formatting code the same way the text renderer does
+     */
+    private static Style applyFormatting(Style style, Style base, char code) {
+        Formatting formatting = Formatting.byCode(code);
+        if (formatting == null) return style;
+        return formatting == Formatting.RESET ? base : style.withExclusiveFormatting(formatting);
+    }
+
+    private static int leadingWhitespace(String raw) {
+        int i = 0;
+        // Mirrors String.trim
+        while (i < raw.length() && raw.charAt(i) <= ' ') i++;
+        return i;
+    }
+
+    /**
+     * @return the data extracted from the last action bar, used by the debug commands
+     */
+    public static ActionBarData getLastData() {
+        return DATA;
+    }
+
+    /**
+     * Parses an overlay message as received and updates {@link SkyblockData} with it, a message identical to the previous one is skipped
+     * @return the data extracted from the message
+     */
+    public static ActionBarData parseActionBar(Text message) {
+        var segments = segmentsOf(message);
+        if (lastChanged) {
+            SkyblockData.update(ActionBarTransformer.extractData(segments));
+        }
+        SkyblockData.updatePressure(DATA);
+        return DATA;
+    }
+
     public static void registerEvents() {
         ChatEvents.ON_ACTION_BAR.register(message -> {
            // SkyblockTweaks.LOGGER.info(message.getString());
-            SkyblockData.update(ActionBarTransformer.extractData(message.getString()));
+            updateSkillHud(parseActionBar(message));
         });
         ClientReceiveMessageEvents.MODIFY_GAME.register((message, overlay) -> {
             if (!overlay) return message;
-            return ActionBarTransformer.runTransformations(message);
+            var segments = segmentsOf(message);
+            // Compared by reference, since lastRaw is only replaced when the text changes
+            if (lastRaw != null && lastTransformedRaw == lastRaw && lastTransformedVersion == filterVersion) {
+                return lastTransformed;
+            }
+            lastTransformed = ActionBarTransformer.runTransformations(message, segments);
+            lastTransformedRaw = lastRaw;
+            lastTransformedVersion = filterVersion;
+            return lastTransformed;
         });
+        SBTConfig.CONFIG_SAVE.register(() -> filterVersion++);
     }
 
 
 
 
+
     public static class Config {
 
         @SerialEntry
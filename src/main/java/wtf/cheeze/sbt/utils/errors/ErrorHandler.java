@@ -20,45 +20,101 @@ package wtf.cheeze.sbt.utils.errors;
 
 import dev.isxander.yacl3.api.Option;
 import dev.isxander.yacl3.api.OptionDescription;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.minecraft.client.MinecraftClient;
 import net.minecraft.text.Text;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import wtf.cheeze.sbt.config.ConfigImpl;
 import wtf.cheeze.sbt.config.SBTConfig;
 import wtf.cheeze.sbt.utils.CheezePair;
+import wtf.cheeze.sbt.utils.NumberUtils;
 import wtf.cheeze.sbt.utils.text.MessageManager;
 import wtf.cheeze.sbt.utils.text.NotificationHandler;
 import wtf.cheeze.sbt.utils.text.TextUtils;
-import wtf.cheeze.sbt.utils.timing.TimedSet;
 import wtf.cheeze.sbt.utils.render.Colors;
 
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 public class ErrorHandler {
 
-    private static final int RETAIN_ERRORS_FOR_MS = 20000;
+    private static final long RETAIN_ERRORS_FOR_NS = TimeUnit.SECONDS.toNanos(20);
+
+    /**
+     * How many times an error is logged with its stack trace before further occurrences are only counted
+     */
+    private static final int FULL_LOGS_PER_SITE = 5;
+    private static final long SUMMARY_INTERVAL_NS = TimeUnit.SECONDS.toNanos(60);
 
     private static final Logger LOGGER = LoggerFactory.getLogger("SkyblockTweaks Error Handler");
 
-    private static final TimedSet<String> errorSet = new TimedSet<>(RETAIN_ERRORS_FOR_MS);
+    /**
+     * Keyed by the message passed to {@link #handle}, which identifies where the error was handled
+     */
+    private static final Map<String, Site> sites = new ConcurrentHashMap<>();
+
+    /**
+     * How many of the latest chat messages keep their exception so its stack trace can be copied by clicking them
+     */
+    private static final int KEPT_STACK_TRACES = 16;
+    /**
+     * The exceptions of the latest chat messages by message id, oldest first. Only touched when a chat message is sent or clicked, so a lock is fine
+     */
+    private static final Map<Integer, Exception> chatted = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Exception> eldest) {
+            return size() > KEPT_STACK_TRACES;
+        }
+    };
+    private static final AtomicInteger nextMessageId = new AtomicInteger();
+    private static int ticks = 0;
 
     public static void handle(Exception e, String message, ErrorLevel level, boolean sendDelayedIfNotInWorld , Object... params) {
-        CheezePair<String, String> messages = getMessages(message);
-        String logMessage = messages.key();
-        String chatMessage = messages.val();
-        if (params.length > 0) {
-            LOGGER.error(logMessage, e, params);
-        } else {
-            LOGGER.error(logMessage, e);
+        Site site = site(message);
+        long now = System.nanoTime();
+        if (site.sample(now)) {
+            if (params.length > 0) {
+                LOGGER.error(site.logMessage, e, params);
+            } else {
+                LOGGER.error(site.logMessage, e);
+            }
         }
-        if (!shouldChat(level)) return;
-//        if (errorSet.contains(e)) return;
-//        errorSet.add(e);
-        if (errorSet.contains(message)) return;
-        errorSet.add(message);
+        if (!shouldChat(level) || !site.shouldChat(now)) return;
         //LOGGER.info(String.valueOf(e.hashCode()));
-        var msg = Text.literal("Error: " + chatMessage + ". Click to copy the stack trace.").withColor(Colors.RED).styled(it -> it.withClickEvent(TextUtils.copyEvent(Arrays.toString(e.getStackTrace()))).withHoverEvent(TextUtils.showTextEvent(TextUtils.withColor("Click to copy the stack trace", Colors.CYAN))));
+        // The stack trace is only turned into text if the message is clicked, see copyStackTrace
+        int messageId = nextMessageId.getAndIncrement();
+        synchronized (chatted) {
+            chatted.put(messageId, e);
+        }
+        var msg = Text.literal("Error: " + site.chatMessage + ". Click to copy the stack trace.").withColor(Colors.RED).styled(it -> it.withClickEvent(TextUtils.runCommandEvent("/sbt debug copyError " + messageId)).withHoverEvent(TextUtils.showTextEvent(TextUtils.withColor("Click to copy the stack trace", Colors.CYAN))));
+        send(msg, sendDelayedIfNotInWorld);
+    }
+
+    public static void handle(Exception e, String message, ErrorLevel level) {
+        handle(e, message, level, true);
+    }
+
+    /**
+     * Reports a problem that did not come with an exception, such as malformed input, with the same rate limiting as {@link #handle}
+     */
+    public static void report(String message, ErrorLevel level, boolean sendDelayedIfNotInWorld, Object... params) {
+        Site site = site(message);
+        long now = System.nanoTime();
+        if (site.sample(now)) {
+            LOGGER.warn(site.logMessage, params);
+        }
+        if (!shouldChat(level) || !site.shouldChat(now)) return;
+        send(Text.literal("Error: " + site.chatMessage + ".").withColor(Colors.RED), sendDelayedIfNotInWorld);
+    }
+
+    private static void send(Text msg, boolean sendDelayedIfNotInWorld) {
         if (MessageManager.checkPlayer()) {
             MessageManager.send(msg);
         } else {
@@ -68,8 +124,95 @@ public class ErrorHandler {
         }
     }
 
-    public static void handle(Exception e, String message, ErrorLevel level) {
-        handle(e, message, level, true);
+    /**
+     * Copies the stack trace of the error sent to chat with the given message id, run by clicking the chat message
+     * @return false if the message is one of the older ones, which no longer keep their exception
+     */
+    public static boolean copyStackTrace(int messageId) {
+        Exception e;
+        synchronized (chatted) {
+            e = chatted.get(messageId);
+        }
+        if (e == null) return false;
+        MinecraftClient.getInstance().keyboard.setClipboard(Arrays.toString(e.getStackTrace()));
+        return true;
+    }
+
+    private static Site site(String message) {
+        Site site = sites.get(message);
+        return site != null ? site : sites.computeIfAbsent(message, Site::new);
+    }
+
+    /**
+     * Logs how often each error was suppressed since the last summary, for the errors whose summary is due
+     */
+    public static void flushSummaries() {
+        long now = System.nanoTime();
+        for (Site site : sites.values()) {
+            site.flush(now);
+        }
+    }
+
+    public static void registerEvents() {
+        ClientTickEvents.END_CLIENT_TICK.register(client -> {
+            // Once a second is plenty for summaries which are only logged once a minute
+            if (++ticks % 20 == 0) flushSummaries();
+        });
+    }
+
+    /**
+     * The state of one place errors are handled from, only atomics are used so threads reporting errors never block each other
+     */
+    private static final class Site {
+        private final String logMessage;
+        private final String chatMessage;
+        private final AtomicLong occurrences = new AtomicLong();
+        private final AtomicLong suppressed = new AtomicLong();
+        private final AtomicLong summaryStart;
+        private final AtomicLong lastChat;
+
+        private Site(String message) {
+            CheezePair<String, String> messages = getMessages(message);
+            this.logMessage = messages.key();
+            this.chatMessage = messages.val();
+            long now = System.nanoTime();
+            this.summaryStart = new AtomicLong(now);
+            this.lastChat = new AtomicLong(now - RETAIN_ERRORS_FOR_NS);
+        }
+
+        /**
+         * Counts an occurrence
+         * @return whether it should be logged in full, once this returns false the stack trace is never looked at again
+         */
+        private boolean sample(long now) {
+            long count = occurrences.incrementAndGet();
+            if (count < FULL_LOGS_PER_SITE) return true;
+            if (count == FULL_LOGS_PER_SITE) {
+                LOGGER.warn("{} has happened {} times, further occurrences will only be counted", logMessage, count);
+                summaryStart.set(now);
+                return true;
+            }
+            suppressed.incrementAndGet();
+            flush(now);
+            return false;
+        }
+
+        /**
+         * The chat message is sent at most once every {@link #RETAIN_ERRORS_FOR_NS}, as before
+         */
+        private boolean shouldChat(long now) {
+            long last = lastChat.get();
+            return now - last >= RETAIN_ERRORS_FOR_NS && lastChat.compareAndSet(last, now);
+        }
+
+        private void flush(long now) {
+            long start = summaryStart.get();
+            if (now - start < SUMMARY_INTERVAL_NS || !summaryStart.compareAndSet(start, now)) return;
+            long count = suppressed.getAndSet(0);
+            if (count > 0) {
+                LOGGER.warn("{} happened {} more times in the last {}s", logMessage, NumberUtils.formatNumber(count, ","), TimeUnit.NANOSECONDS.toSeconds(now - start));
+            }
+        }
     }
 
     private static boolean shouldChat (ErrorLevel level) {
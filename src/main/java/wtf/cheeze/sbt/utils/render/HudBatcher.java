@@ -0,0 +1,356 @@
+/*
+ * Copyright (C) 2024 MisterCheezeCake
+ *
+ * This file is part of SkyblockTweaks.
+ *
+ * SkyblockTweaks is free software: you can redistribute it
+ * and/or modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SkyblockTweaks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SkyblockTweaks. If not, see <https://www.gnu.org/licenses/>.
+ */
+package wtf.cheeze.sbt.utils.render;
+
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.gui.DrawContext;
+import net.minecraft.item.ItemStack;
+import net.minecraft.text.Text;
+import net.minecraft.util.Identifier;
+
+//? if <=1.21.5 {
+import net.minecraft.client.render.RenderLayer;
+import org.joml.Matrix4f;
+//?} else {
+/*import net.minecraft.client.gl.RenderPipelines;
+import org.joml.Matrix3x2fStack;
+*///?}
+
+import java.util.Arrays;
+
+/**
+ * Collects the textured quads, items and text that HUDs draw through {@link RenderUtils} during one pass, and submits them grouped by what they are drawn with,
+ * quads texture by texture, then items and then all of the text, instead of HUD by HUD.
+ * <p>
+ * On 1.21.5 the immediate vertex consumers draw whatever they have buffered every time the render layer changes,
+ * so bars, tickers and icons interleaved with text cost a draw per switch. Grouped, the HUD layer costs about one draw per texture and one for text.
+ * On 1.21.6 the game batches the GUI itself, and grouping keeps runs of the same texture together for it.
+ * <p>
+ * Each entry keeps the 2D transform it was recorded under, so HUDs keep using {@link RenderUtils#beginScale(DrawContext, float)} as before.
+ * Entries live in reused primitive arrays, so recording a frame does not allocate once they have grown.
+ * Anything not drawn through {@link RenderUtils}, such as backgrounds, is drawn immediately and so ends up below the batch.
+ * <p>
+ * Grouping changes the stacking between HUDs: the quads and items of every HUD now draw before the text of any HUD, so where two HUDs overlap,
+ * the bars and icons of the later one no longer cover the text of the earlier one. Within a HUD, text was already drawn over its own quads.
+ * The draw counts given for this, such as those printed by the hudDraws task, are modeled from each version's submission rules
+ * in {@code HudBatchBenchmark} rather than measured from a running client.
+ * <p>
+ * The entries a HUD recorded can be copied out into a {@link Snapshot} and appended again on later frames, which is how
+ * {@link wtf.cheeze.sbt.hud.cache.HudRenderCache} skips rendering HUDs whose content has not changed.
+ */
+public final class HudBatcher {
+
+    public static final HudBatcher INSTANCE = new HudBatcher();
+
+    public static final byte QUAD = 0;
+    public static final byte TEXT = 1;
+    public static final byte SHADOWED_TEXT = 2;
+    public static final byte OUTLINED_TEXT = 3;
+    public static final byte ITEM = 4;
+
+    /**
+     * x, y, u, v, width, height, texture width, texture height, color and outline color
+     */
+    private static final int INTS = 10;
+    /**
+     * Scale and translation of the transform the entry was recorded under
+     */
+    private static final int FLOATS = 5;
+
+    private boolean recording = false;
+    private int size = 0;
+    private byte[] kinds = new byte[64];
+    /**
+     * The texture of a quad, the stack of an item or the text of a text entry
+     */
+    private Object[] refs = new Object[64];
+    private int[] ints = new int[64 * INTS];
+    private float[] floats = new float[64 * FLOATS];
+    private int[] order = new int[64];
+    private boolean[] placed = new boolean[64];
+
+    public boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * Starts collecting, every draw through {@link RenderUtils} is recorded until {@link #flush(DrawContext)}
+     */
+    public void begin() {
+        Arrays.fill(refs, 0, size, null);
+        size = 0;
+        recording = true;
+    }
+
+    public void quad(DrawContext context, Identifier texture, int x, int y, int u, int v, int width, int height, int textureWidth, int textureHeight, int color) {
+        int i = add(QUAD, texture);
+        captureTransform(context, i);
+        setInts(i, x, y, u, v, width, height, textureWidth, textureHeight, color, 0);
+    }
+
+    /**
+     * @param cached whether the text is kept in a cache and can be drawn from its {@link TextRun}
+     */
+    public void text(DrawContext context, byte kind, Text text, boolean cached, int x, int y, int color, int outlineColor) {
+        int i = add(kind, text);
+        captureTransform(context, i);
+        setInts(i, x, y, cached ? 1 : 0, 0, 0, 0, 0, 0, color, outlineColor);
+    }
+
+    /**
+     * @param overlay whether to draw the count and durability bar of the stack as well
+     */
+    public void item(DrawContext context, ItemStack stack, int x, int y, boolean overlay) {
+        int i = add(ITEM, stack);
+        captureTransform(context, i);
+        setInts(i, x, y, overlay ? 1 : 0, 0, 0, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * @return the number of entries recorded so far this pass, pass it to {@link #capture(int, Snapshot)} once a HUD is done drawing
+     */
+    public int mark() {
+        return size;
+    }
+
+    /**
+     * Copies every entry recorded since the given {@link #mark()} into the snapshot, replacing what it held
+     */
+    public void capture(int from, Snapshot into) {
+        int count = size - from;
+        into.ensureCapacity(count);
+        System.arraycopy(kinds, from, into.kinds, 0, count);
+        System.arraycopy(refs, from, into.refs, 0, count);
+        System.arraycopy(ints, from * INTS, into.ints, 0, count * INTS);
+        System.arraycopy(floats, from * FLOATS, into.floats, 0, count * FLOATS);
+        if (into.size > count) Arrays.fill(into.refs, count, into.size, null);
+        into.size = count;
+    }
+
+    /**
+     * Appends the entries of a snapshot as if they had just been recorded, transforms included
+     */
+    public void replay(Snapshot snapshot) {
+        int count = snapshot.size;
+        while (size + count > kinds.length) grow();
+        System.arraycopy(snapshot.kinds, 0, kinds, size, count);
+        System.arraycopy(snapshot.refs, 0, refs, size, count);
+        System.arraycopy(snapshot.ints, 0, ints, size * INTS, count * INTS);
+        System.arraycopy(snapshot.floats, 0, floats, size * FLOATS, count * FLOATS);
+        size += count;
+    }
+
+    /**
+     * Records an entry with an explicit transform, used where there is no {@link DrawContext}, such as when measuring the batching headless
+     * @param ref the texture of a quad or the text of a text entry
+     */
+    public void record(byte kind, Object ref, float scaleX, float scaleY, float translateX, float translateY) {
+        int i = add(kind, ref);
+        setTransform(i, scaleX, scaleY, translateX, translateY, 0);
+        setInts(i, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public byte kind(int index) {
+        return kinds[index];
+    }
+
+    public Object ref(int index) {
+        return refs[index];
+    }
+
+    /**
+     * @return the index of the entry drawn at the given position once {@link #plan()} has run
+     */
+    public int order(int position) {
+        return order[position];
+    }
+
+    /**
+     * Orders the entries for submission: quads grouped by texture in the order each texture first appeared, then items, then all text in the order it was recorded,
+     * so overlapping text still draws in the same order
+     */
+    public void plan() {
+        int n = 0;
+        Arrays.fill(placed, 0, size, false);
+        for (int i = 0; i < size; i++) {
+            if (kinds[i] != QUAD || placed[i]) continue;
+            Object texture = refs[i];
+            for (int j = i; j < size; j++) {
+                if (kinds[j] == QUAD && !placed[j] && texture.equals(refs[j])) {
+                    order[n++] = j;
+                    placed[j] = true;
+                }
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            if (kinds[i] == ITEM) order[n++] = i;
+        }
+        for (int i = 0; i < size; i++) {
+            if (kinds[i] != QUAD && kinds[i] != ITEM) order[n++] = i;
+        }
+    }
+
+    /**
+     * Stops collecting and draws everything recorded since {@link #begin()}
+     */
+    public void flush(DrawContext context) {
+        recording = false;
+        if (size == 0) return;
+        plan();
+        RenderUtils.pushMatrix(context);
+        int applied = -1;
+        for (int position = 0; position < size; position++) {
+            int i = order[position];
+            if (applied == -1 || !sameTransform(applied, i)) {
+                applyTransform(context, i);
+                applied = i;
+            }
+            int base = i * INTS;
+            switch (kinds[i]) {
+                case QUAD -> context.drawTexture(
+                        //? if <=1.21.5 {
+                        RenderLayer::getGuiTextured,
+                        //?} else {
+                        /*RenderPipelines.GUI_TEXTURED,
+                        *///?}
+                        (Identifier) refs[i], ints[base], ints[base + 1], ints[base + 2], ints[base + 3], ints[base + 4], ints[base + 5], ints[base + 6], ints[base + 7], ints[base + 8]);
+                case TEXT, SHADOWED_TEXT -> {
+                    if (ints[base + 2] != 0) {
+                        RenderUtils.drawCachedText(context, (Text) refs[i], ints[base], ints[base + 1], ints[base + 8], kinds[i] == SHADOWED_TEXT);
+                    } else {
+                        RenderUtils.drawText(context, (Text) refs[i], ints[base], ints[base + 1], ints[base + 8], kinds[i] == SHADOWED_TEXT);
+                    }
+                }
+                case OUTLINED_TEXT -> {
+                    if (ints[base + 2] != 0) {
+                        RenderUtils.drawCachedTextWithOutline(context, (Text) refs[i], ints[base], ints[base + 1], ints[base + 8], ints[base + 9]);
+                    } else {
+                        RenderUtils.drawTextWithOutline(context, (Text) refs[i], ints[base], ints[base + 1], ints[base + 8], ints[base + 9]);
+                    }
+                }
+                case ITEM -> {
+                    context.drawItem((ItemStack) refs[i], ints[base], ints[base + 1]);
+                    if (ints[base + 2] != 0) {
+                        context.drawStackOverlay(MinecraftClient.getInstance().textRenderer, (ItemStack) refs[i], ints[base], ints[base + 1]);
+                    }
+                }
+                default -> {}
+            }
+        }
+        RenderUtils.popMatrix(context);
+    }
+
+    private int add(byte kind, Object ref) {
+        if (size == kinds.length) grow();
+        kinds[size] = kind;
+        refs[size] = ref;
+        return size++;
+    }
+
+    private void grow() {
+        int capacity = kinds.length * 2;
+        kinds = Arrays.copyOf(kinds, capacity);
+        refs = Arrays.copyOf(refs, capacity);
+        ints = Arrays.copyOf(ints, capacity * INTS);
+        floats = Arrays.copyOf(floats, capacity * FLOATS);
+        order = Arrays.copyOf(order, capacity);
+        placed = Arrays.copyOf(placed, capacity);
+    }
+
+    private void setInts(int i, int x, int y, int u, int v, int width, int height, int textureWidth, int textureHeight, int color, int outlineColor) {
+        int base = i * INTS;
+        ints[base] = x;
+        ints[base + 1] = y;
+        ints[base + 2] = u;
+        ints[base + 3] = v;
+        ints[base + 4] = width;
+        ints[base + 5] = height;
+        ints[base + 6] = textureWidth;
+        ints[base + 7] = textureHeight;
+        ints[base + 8] = color;
+        ints[base + 9] = outlineColor;
+    }
+
+    private void setTransform(int i, float scaleX, float scaleY, float translateX, float translateY, float translateZ) {
+        int base = i * FLOATS;
+        floats[base] = scaleX;
+        floats[base + 1] = scaleY;
+        floats[base + 2] = translateX;
+        floats[base + 3] = translateY;
+        floats[base + 4] = translateZ;
+    }
+
+    private boolean sameTransform(int a, int b) {
+        return Arrays.equals(floats, a * FLOATS, a * FLOATS + FLOATS, floats, b * FLOATS, b * FLOATS + FLOATS);
+    }
+
+    /**
+     * HUDs only ever scale and translate, so that is all that is kept of the transform
+     */
+    private void captureTransform(DrawContext context, int i) {
+        //? if <=1.21.5 {
+        Matrix4f matrix = context.getMatrices().peek().getPositionMatrix();
+        setTransform(i, matrix.m00(), matrix.m11(), matrix.m30(), matrix.m31(), matrix.m32());
+        //?} else {
+        /*Matrix3x2fStack matrix = context.getMatrices();
+        setTransform(i, matrix.m00(), matrix.m11(), matrix.m20(), matrix.m21(), 0);
+        *///?}
+    }
+
+    private void applyTransform(DrawContext context, int i) {
+        int base = i * FLOATS;
+        //? if <=1.21.5 {
+        context.getMatrices().peek().getPositionMatrix().set(
+                floats[base], 0, 0, 0,
+                0, floats[base + 1], 0, 0,
+                0, 0, 1, 0,
+                floats[base + 2], floats[base + 3], floats[base + 4], 1
+        );
+        //?} else {
+        /*context.getMatrices().set(floats[base], 0, 0, floats[base + 1], floats[base + 2], floats[base + 3]);
+        *///?}
+    }
+
+    /**
+     * The entries one HUD recorded during a pass, kept in arrays of their own that are reused between captures
+     */
+    public static final class Snapshot {
+        private int size = 0;
+        private byte[] kinds = new byte[0];
+        private Object[] refs = new Object[0];
+        private int[] ints = new int[0];
+        private float[] floats = new float[0];
+
+        public int size() {
+            return size;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (kinds.length >= capacity) return;
+            kinds = Arrays.copyOf(kinds, capacity);
+            refs = Arrays.copyOf(refs, capacity);
+            ints = Arrays.copyOf(ints, capacity * INTS);
+            floats = Arrays.copyOf(floats, capacity * FLOATS);
+        }
+    }
+}
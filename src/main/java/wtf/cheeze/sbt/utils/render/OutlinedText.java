@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2024 MisterCheezeCake
+ *
+ * This file is part of SkyblockTweaks.
+ *
+ * SkyblockTweaks is free software: you can redistribute it
+ * and/or modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SkyblockTweaks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SkyblockTweaks. If not, see <https://www.gnu.org/licenses/>.
+ */
+package wtf.cheeze.sbt.utils.render;
+
+import net.minecraft.text.CharacterVisitor;
+import net.minecraft.text.OrderedText;
+import net.minecraft.text.Style;
+import net.minecraft.text.Text;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+
+/**
+ * The glyph runs {@link RenderUtils#drawTextWithOutline(net.minecraft.client.gui.DrawContext, Text, int, int, int, int)} draws on 1.21.6 and above,
+ * where there is no outline path for GUI text and the outline is made of eight offset copies of the text.
+ * <p>
+ * Each text is walked once per outline color into a flat run of code points and styles, with every style recolored to the outline color
+ * the way the vanilla outline does it, so the copies draw in the outline color rather than the text's own colors.
+ * Drawing the copies then replays the run instead of converting and restyling the text nine times a frame.
+ * Runs are keyed by the identity of the text, which HUDs keep between updates of their caches, so only texts drawn through
+ * {@link RenderUtils#drawCachedTextWithOutline(net.minecraft.client.gui.DrawContext, Text, int, int, int, int)} are cached.
+ */
+public final class OutlinedText {
+
+    private static final int MAX_CACHED = 256;
+    private static final IdentityHashMap<Text, OutlinedText> CACHE = new IdentityHashMap<>();
+
+    private final int outlineColor;
+    private final OrderedText fill;
+    private final OrderedText outline;
+
+    private OutlinedText(OrderedText fill, int outlineColor) {
+        this.outlineColor = outlineColor;
+        this.fill = fill;
+        var run = new Run();
+        fill.accept(run::add);
+        this.outline = run;
+    }
+
+    /**
+     * @return the runs for the text, walking it again only if it has not been seen with this outline color
+     */
+    public static OutlinedText of(Text text, int outlineColor) {
+        var cached = CACHE.get(text);
+        if (cached != null && cached.outlineColor == outlineColor) return cached;
+        if (CACHE.size() >= MAX_CACHED) CACHE.clear();
+        var created = new OutlinedText(TextRun.of(text), outlineColor);
+        CACHE.put(text, created);
+        return created;
+    }
+
+    /**
+     * @return the runs for a text which is not kept between frames, built without touching the caches
+     */
+    public static OutlinedText uncached(Text text, int outlineColor) {
+        return new OutlinedText(text.asOrderedText(), outlineColor);
+    }
+
+    static void clear() {
+        CACHE.clear();
+    }
+
+    public OrderedText fill() {
+        return fill;
+    }
+
+    public OrderedText outline() {
+        return outline;
+    }
+
+    private final class Run implements OrderedText {
+        private int size = 0;
+        private int[] codePoints = new int[16];
+        private Style[] styles = new Style[16];
+        private Style lastStyle = null;
+        private Style lastRecolored = null;
+
+        private boolean add(int index, Style style, int codePoint) {
+            if (size == codePoints.length) {
+                codePoints = Arrays.copyOf(codePoints, size * 2);
+                styles = Arrays.copyOf(styles, size * 2);
+            }
+            // Neighbouring characters nearly always share a style, so only restyle when it changes
+            if (style != lastStyle) {
+                lastStyle = style;
+                lastRecolored = style.withColor(outlineColor);
+            }
+            codePoints[size] = codePoint;
+            styles[size] = lastRecolored;
+            size++;
+            return true;
+        }
+
+        @Override
+        public boolean accept(CharacterVisitor visitor) {
+            for (int i = 0; i < size; i++) {
+                if (!visitor.accept(i, styles[i], codePoints[i])) return false;
+            }
+            return true;
+        }
+    }
+}
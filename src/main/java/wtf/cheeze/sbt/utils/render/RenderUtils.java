@@ -24,9 +24,12 @@ import net.minecraft.client.gui.DrawContext;
 import net.minecraft.client.gui.ScreenRect;
 
 
+import net.minecraft.item.ItemStack;
 import net.minecraft.text.Text;
 import net.minecraft.util.Identifier;
 import wtf.cheeze.sbt.hud.bases.BarHud;
+import wtf.cheeze.sbt.hud.bounds.Bounds;
+import wtf.cheeze.sbt.hud.utils.AnchorPoint;
 
 //? if <=1.21.5 {
 import net.minecraft.client.render.RenderLayer;
@@ -48,6 +51,8 @@ public class RenderUtils {
 
     private static final MinecraftClient client = MinecraftClient.getInstance();
     private static final int OUTLINE_LIGHT = 15728880;
+    private static final int[] OUTLINE_OFFSETS_X = {-1, 0, 1, 1, 1, 0, -1, -1};
+    private static final int[] OUTLINE_OFFSETS_Y = {-1, -1, -1, 0, 1, 1, 1, 0};
 
     public static void pushMatrix(DrawContext context) {
         //? if <=1.21.5 {
@@ -131,30 +136,68 @@ public class RenderUtils {
         drawText(context, text, (int) (x/scale), (int) (y/scale), color, shadow);
     }
     public static void drawText(DrawContext context, Text text, int x, int y, int color, boolean shadow) {
-        context.drawText(client.textRenderer, text, x, y, color, shadow);
+        submitText(context, text, x, y, color, shadow, false);
     }
+
+    /**
+     * Draws a text which the caller keeps in a {@link wtf.cheeze.sbt.hud.cache.Cache} and so hands out again until it changes,
+     * replaying its {@link TextRun} instead of walking the text every frame. Texts built anew for each draw should use {@link #drawText(DrawContext, Text, int, int, int, boolean)},
+     * as they would only churn the run cache
+     */
+    public static void drawCachedText(DrawContext context, Text text, int x, int y, int color, boolean shadow) {
+        submitText(context, text, x, y, color, shadow, true);
+    }
+    public static void drawCachedText(DrawContext context, Text text, int x, int y, int color, boolean shadow, float scale, boolean imHandlingTheScaleMyself) {
+        drawCachedText(context, text, (int) (x/scale), (int) (y/scale), color, shadow);
+    }
+
+    private static void submitText(DrawContext context, Text text, int x, int y, int color, boolean shadow, boolean cached) {
+        if (HudBatcher.INSTANCE.isRecording()) {
+            HudBatcher.INSTANCE.text(context, shadow ? HudBatcher.SHADOWED_TEXT : HudBatcher.TEXT, text, cached, x, y, color, 0);
+            return;
+        }
+        if (cached) {
+            context.drawText(client.textRenderer, TextRun.of(text), x, y, color, shadow);
+        } else {
+            context.drawText(client.textRenderer, text, x, y, color, shadow);
+        }
+    }
+
     public static void drawTextWithOutline(DrawContext context, Text text, int x, int y, int color, int outlineColor) {
+        submitTextWithOutline(context, text, x, y, color, outlineColor, false);
+    }
+
+    /**
+     * The outlined counterpart of {@link #drawCachedText(DrawContext, Text, int, int, int, boolean)}, for texts kept in a cache only
+     */
+    public static void drawCachedTextWithOutline(DrawContext context, Text text, int x, int y, int color, int outlineColor) {
+        submitTextWithOutline(context, text, x, y, color, outlineColor, true);
+    }
+    public static void drawCachedTextWithOutline(DrawContext context, Text text, int x, int y, int color, int outlineColor, float scale, boolean imHandlingTheScaleMyself) {
+        drawCachedTextWithOutline(context, text, (int) (x/scale), (int) (y/scale), color, outlineColor);
+    }
+
+    private static void submitTextWithOutline(DrawContext context, Text text, int x, int y, int color, int outlineColor, boolean cached) {
+        if (HudBatcher.INSTANCE.isRecording()) {
+            HudBatcher.INSTANCE.text(context, HudBatcher.OUTLINED_TEXT, text, cached, x, y, color, outlineColor);
+            return;
+        }
         //? if <=1.21.5 {
         client.textRenderer.drawWithOutline(
-                text.asOrderedText(),
+                cached ? TextRun.of(text) : text.asOrderedText(),
                 x, y, color, outlineColor,
                 context.getMatrices().peek().getPositionMatrix(),
                 getVertexConsumers(context),
                 OUTLINE_LIGHT
         );
         //?} else {
-        /*// We reimplement it ourselves post 1.21.6 because it's more annoying to make the vanilla method work with rendering changes
-        //TODO: Check if this works well and explore replacing it if possible
-        context.drawText(client.textRenderer, text, x -1, y -1, outlineColor, false);
-        context.drawText(client.textRenderer, text, x, y -1, outlineColor, false);
-        context.drawText(client.textRenderer, text, x + 1, y -1, outlineColor, false);
-        context.drawText(client.textRenderer, text, x + 1, y, outlineColor, false);
-        context.drawText(client.textRenderer, text, x + 1, y + 1, outlineColor, false);
-        context.drawText(client.textRenderer, text, x, y + 1, outlineColor, false);
-        context.drawText(client.textRenderer, text, x - 1, y + 1, outlineColor, false);
-        context.drawText(client.textRenderer, text, x - 1, y, outlineColor, false);
-
-        context.drawText(client.textRenderer, text, x, y, color, false);
+        /*// We reimplement it ourselves post 1.21.6 because it's more annoying to make the vanilla method work with rendering changes,
+        // the copies replay one recolored run per text so the text is only walked when it changes
+        var runs = cached ? OutlinedText.of(text, outlineColor) : OutlinedText.uncached(text, outlineColor);
+        for (int i = 0; i < OUTLINE_OFFSETS_X.length; i++) {
+            context.drawText(client.textRenderer, runs.outline(), x + OUTLINE_OFFSETS_X[i], y + OUTLINE_OFFSETS_Y[i], outlineColor, false);
+        }
+        context.drawText(client.textRenderer, runs.fill(), x, y, color, false);
         *///?}
     }
     public static void drawTextWithOutline(DrawContext context, Text text, int x, int y, int color, int outlineColor, float scale) {
@@ -178,6 +221,13 @@ public class RenderUtils {
     public static int getStringWidth(Text text) {
         return client.textRenderer.getWidth(text);
     }
+
+    /**
+     * The width of a text kept in a cache, see {@link #drawCachedText(DrawContext, Text, int, int, int, boolean)}
+     */
+    public static int getCachedStringWidth(Text text) {
+        return TextRun.of(text).width();
+    }
     public static int getStringWidth(String text) {
         return client.textRenderer.getWidth(text);
     }
@@ -216,6 +266,19 @@ public class RenderUtils {
                 rect.position().y() + rect.height() > screenBounds.height);
     }
 
+    /**
+     * Whether the whole HUD lies outside the window, and stays there however its content grows: content grows downwards and away from its anchor,
+     * so only the edges it cannot grow back across are tested, and a centered HUD is only culled above or below the window
+     */
+    public static boolean isOffscreen(Bounds bounds, AnchorPoint anchor, int windowWidth, int windowHeight) {
+        if (bounds.y >= windowHeight) return true;
+        return switch (anchor) {
+            case LEFT -> bounds.x >= windowWidth;
+            case RIGHT -> bounds.x + bounds.width <= 0;
+            case CENTER -> false;
+        };
+    }
+
     public static float getRelativeWidth(int width) {
         return width / MinecraftClient.getInstance().getWindow().getScaledWidth();
     }
@@ -231,6 +294,10 @@ public class RenderUtils {
 
 
     public static void drawTexture(DrawContext context, Identifier texture, int x, int y, int width, int height, int textureWidth, int textureHeight) {
+        if (HudBatcher.INSTANCE.isRecording()) {
+            HudBatcher.INSTANCE.quad(context, texture, x, y, 0, 0, width, height, textureWidth, textureHeight, Colors.WHITE);
+            return;
+        }
         //? if <=1.21.5 {
         context.drawTexture(RenderLayer::getGuiTextured, texture, x, y, 0, 0, width, height, textureWidth, textureHeight);
         //?} else {
@@ -238,7 +305,25 @@ public class RenderUtils {
         *///?}
     }
 
+    /**
+     * Draws an item at the given position, along with its count and durability bar if overlay is set
+     */
+    public static void drawItem(DrawContext context, ItemStack stack, int x, int y, boolean overlay) {
+        if (HudBatcher.INSTANCE.isRecording()) {
+            HudBatcher.INSTANCE.item(context, stack, x, y, overlay);
+            return;
+        }
+        context.drawItem(stack, x, y);
+        if (overlay) {
+            context.drawStackOverlay(client.textRenderer, stack, x, y);
+        }
+    }
+
     public static void drawBar(DrawContext context, Identifier texture, int x, int y, int width, int color) {
+        if (HudBatcher.INSTANCE.isRecording()) {
+            HudBatcher.INSTANCE.quad(context, texture, x, y, 0, 0, width, BarHud.BAR_HEIGHT, BarHud.BAR_WIDTH, BarHud.BAR_HEIGHT, color);
+            return;
+        }
         context.drawTexture(
                 //? if <=1.21.5 {
                 RenderLayer::getGuiTextured,
@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2025 MisterCheezeCake
+ *
+ * This file is part of SkyblockTweaks.
+ *
+ * SkyblockTweaks is free software: you can redistribute it
+ * and/or modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SkyblockTweaks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SkyblockTweaks. If not, see <https://www.gnu.org/licenses/>.
+ */
+package wtf.cheeze.sbt.utils.render;
+
+import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
+import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.resource.ResourceType;
+import net.minecraft.text.CharacterVisitor;
+import net.minecraft.text.OrderedText;
+import net.minecraft.text.Style;
+import net.minecraft.text.Text;
+import net.minecraft.util.Identifier;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+
+/**
+ * A text walked once into a flat run of code points and styles, along with its width, so measuring and drawing the same text again
+ * replays the run instead of walking the text's style tree each time.
+ * <p>
+ * Runs are keyed by the identity of the text, which HUDs keep between updates of their caches, so only texts drawn or measured through the
+ * cached methods of {@link RenderUtils} get runs, as a text built for a single draw would only push out those that are reused. The cache keeps two generations:
+ * when the newer one fills up it becomes the older one, and a run found in the older one is moved back to the newer one,
+ * so texts drawn every frame survive texts that are only drawn once. Both are dropped when resources reload, as fonts and the language
+ * the text is ordered for may have changed, and when the font options change, which rebuilds the fonts without a reload.
+ * Widths measured from runs elsewhere can be checked against {@link #fontGeneration()} to know when to measure again
+ */
+public final class TextRun implements OrderedText {
+
+    private static final int GENERATION_SIZE = 256;
+    private static IdentityHashMap<Text, TextRun> recent = new IdentityHashMap<>();
+    private static IdentityHashMap<Text, TextRun> older = new IdentityHashMap<>();
+    private static int fontGeneration = 0;
+
+    private int size = 0;
+    private int[] codePoints;
+    private Style[] styles;
+    private final int width;
+
+    private TextRun(Text text) {
+        this.codePoints = new int[16];
+        this.styles = new Style[16];
+        text.asOrderedText().accept(this::add);
+        this.width = MinecraftClient.getInstance().textRenderer.getWidth(this);
+    }
+
+    public static void registerEvents() {
+        ResourceManagerHelper.get(ResourceType.CLIENT_RESOURCES).registerReloadListener(new SimpleSynchronousResourceReloadListener() {
+            @Override
+            public Identifier getFabricId() {
+                return Identifier.of("skyblocktweaks", "text_runs");
+            }
+
+            @Override
+            public void reload(ResourceManager manager) {
+                clear();
+            }
+        });
+    }
+
+    /**
+     * @return the run for the text, walking it only if it is not cached
+     */
+    public static TextRun of(Text text) {
+        var run = recent.get(text);
+        if (run != null) return run;
+        run = older.remove(text);
+        if (run == null) run = new TextRun(text);
+        if (recent.size() >= GENERATION_SIZE) {
+            var swap = older;
+            older = recent;
+            recent = swap;
+            recent.clear();
+        }
+        recent.put(text, run);
+        return run;
+    }
+
+    /**
+     * @return a number which changes whenever the runs are dropped because the fonts may have changed
+     */
+    public static int fontGeneration() {
+        return fontGeneration;
+    }
+
+    public static void clear() {
+        fontGeneration++;
+        recent.clear();
+        older.clear();
+        OutlinedText.clear();
+    }
+
+    /**
+     * @return the width of the text in the current font, the same as {@link net.minecraft.client.font.TextRenderer#getWidth(net.minecraft.text.StringVisitable)}
+     */
+    public int width() {
+        return width;
+    }
+
+    private boolean add(int index, Style style, int codePoint) {
+        if (size == codePoints.length) {
+            codePoints = Arrays.copyOf(codePoints, size * 2);
+            styles = Arrays.copyOf(styles, size * 2);
+        }
+        codePoints[size] = codePoint;
+        styles[size] = style;
+        size++;
+        return true;
+    }
+
+    @Override
+    public boolean accept(CharacterVisitor visitor) {
+        for (int i = 0; i < size; i++) {
+            if (!visitor.accept(i, styles[i], codePoints[i])) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2024 MisterCheezeCake
+ *
+ * This file is part of SkyblockTweaks.
+ *
+ * SkyblockTweaks is free software: you can redistribute it
+ * and/or modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SkyblockTweaks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SkyblockTweaks. If not, see <https://www.gnu.org/licenses/>.
+ */
+package wtf.cheeze.sbt.utils.replay;
+
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientLifecycleEvents;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.loader.api.FabricLoader;
+import wtf.cheeze.sbt.events.ChatEvents;
+import wtf.cheeze.sbt.utils.errors.ErrorHandler;
+import wtf.cheeze.sbt.utils.errors.ErrorLevel;
+import wtf.cheeze.sbt.utils.skyblock.SkyblockData;
+import wtf.cheeze.sbt.utils.tablist.TabListParser;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the inputs of the parsing layer, the overlay messages, game chat, tab list and boss bars, to a {@link Recording}
+ * which can be replayed headless to benchmark the parsers or check them for regressions.
+ * Controlled with /sbt debug record
+ */
+public class InputRecorder {
+
+    private static Recording.Writer writer = null;
+    private static Path path = null;
+    private static int tick = 0;
+    private static List<TabListParser.Line> lastTabList = null;
+    private static List<String> lastBossBars = null;
+
+    public static boolean isRecording() {
+        return writer != null;
+    }
+
+    /**
+     * @return the file being recorded to
+     */
+    public static Path start() throws IOException {
+        if (writer != null) return path;
+        path = FabricLoader.getInstance().getConfigDir().resolve("skyblocktweaks/recordings").resolve(System.currentTimeMillis() + Recording.EXTENSION);
+        writer = new Recording.Writer(path);
+        tick = 0;
+        lastTabList = null;
+        lastBossBars = null;
+        // The tab list is only recorded when it changes, so the current one is read again for the first tick
+        TabListParser.invalidate();
+        // Replays start from where the recording did
+        recordLocation(SkyblockData.currentServer, SkyblockData.inSB, SkyblockData.location.getMode());
+        return path;
+    }
+
+    /**
+     * @return the file that was recorded to, or null if nothing was being recorded
+     */
+    public static Path stop() {
+        if (writer == null) return null;
+        try {
+            writer.close();
+        } catch (IOException e) {
+            ErrorHandler.handle(e, "Failed to save input recording", ErrorLevel.WARNING);
+        }
+        writer = null;
+        return path;
+    }
+
+    public static void recordTabList(List<TabListParser.Line> lines) {
+        if (writer == null || lines.equals(lastTabList)) return;
+        lastTabList = lines;
+        var fields = new ArrayList<String>(lines.size() * 2);
+        for (var line : lines) {
+            fields.add(line.profileName());
+            fields.add(line.content());
+        }
+        write(Recording.Kind.TAB_LIST, fields);
+    }
+
+    public static void recordBossBars(List<String> names) {
+        if (writer == null || names.equals(lastBossBars)) return;
+        lastBossBars = names;
+        write(Recording.Kind.BOSS_BARS, names);
+    }
+
+    public static void recordLocation(String server, boolean inSB, String mode) {
+        if (writer == null) return;
+        write(Recording.Kind.LOCATION, List.of(server, Boolean.toString(inSB), mode));
+    }
+
+    private static void write(Recording.Kind kind, List<String> fields) {
+        try {
+            writer.write(tick, kind, fields);
+        } catch (IOException e) {
+            ErrorHandler.handle(e, "Failed to write input recording, stopping", ErrorLevel.WARNING);
+            stop();
+        }
+    }
+
+    public static void registerEvents() {
+        ChatEvents.ON_ACTION_BAR.register(message -> {
+            if (writer != null) write(Recording.Kind.ACTION_BAR, List.of(message.getString()));
+        });
+        ChatEvents.ON_GAME.register(message -> {
+            if (writer != null) write(Recording.Kind.CHAT, List.of(message.getString()));
+        });
+        ClientTickEvents.START_CLIENT_TICK.register(client -> {
+            if (writer != null) tick++;
+        });
+        ClientLifecycleEvents.CLIENT_STOPPING.register(client -> stop());
+    }
+}
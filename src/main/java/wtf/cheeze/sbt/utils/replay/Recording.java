@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2024 MisterCheezeCake
+ *
+ * This file is part of SkyblockTweaks.
+ *
+ * SkyblockTweaks is free software: you can redistribute it
+ * and/or modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SkyblockTweaks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SkyblockTweaks. If not, see <https://www.gnu.org/licenses/>.
+ */
+package wtf.cheeze.sbt.utils.replay;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The file format written by {@link InputRecorder}, a gzipped text file with one input per line:
+ * <pre>tick	kind	field	field...</pre>
+ * Fields are separated by tabs, with tabs, newlines and backslashes in them escaped.
+ * Tab lists and boss bars are only written when they differ from the last ones written, the tick lets a replay run the per-tick parsers in between
+ */
+public class Recording {
+
+    public static final String HEADER = "#SBTREC 1";
+    public static final String EXTENSION = ".sbtrec.gz";
+
+    public enum Kind {
+        /**
+         * The raw overlay message, one field
+         */
+        ACTION_BAR('A'),
+        /**
+         * A game chat line, one field
+         */
+        CHAT('C'),
+        /**
+         * The tab list in display order, alternating profile name and display name fields
+         */
+        TAB_LIST('T'),
+        /**
+         * The names of the boss bars, one field per bar
+         */
+        BOSS_BARS('B'),
+        /**
+         * The server, whether it is SkyBlock, and the mode, from the Mod API location packet
+         */
+        LOCATION('L');
+
+        private final char code;
+
+        Kind(char code) {
+            this.code = code;
+        }
+
+        public static Kind byCode(char code) {
+            for (Kind kind : values()) {
+                if (kind.code == code) return kind;
+            }
+            return null;
+        }
+    }
+
+    public record Entry(int tick, Kind kind, String[] fields) {}
+
+    public static class Writer implements AutoCloseable {
+        private final BufferedWriter writer;
+        private final StringBuilder line = new StringBuilder();
+
+        public Writer(Path path) throws IOException {
+            Files.createDirectories(path.getParent());
+            writer = new BufferedWriter(new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(path)), StandardCharsets.UTF_8));
+            writer.write(HEADER);
+            writer.newLine();
+        }
+
+        public void write(int tick, Kind kind, List<String> fields) throws IOException {
+            line.setLength(0);
+            line.append(tick).append('\t').append(kind.code);
+            for (String field : fields) {
+                line.append('\t');
+                escape(field, line);
+            }
+            writer.append(line);
+            writer.newLine();
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+
+    /**
+     * Reads every entry of the recording in order
+     * @throws IOException if the file can not be read or is not a recording
+     */
+    public static void read(Path path, Consumer<Entry> consumer) throws IOException {
+        try (var reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(Files.newInputStream(path)), StandardCharsets.UTF_8))) {
+            if (!HEADER.equals(reader.readLine())) throw new IOException("Not a SkyblockTweaks recording: " + path);
+            String line;
+            int number = 1;
+            while ((line = reader.readLine()) != null) {
+                number++;
+                var fields = split(line);
+                Kind kind = fields.size() >= 2 && fields.get(1).length() == 1 ? Kind.byCode(fields.get(1).charAt(0)) : null;
+                if (kind == null) throw new IOException("Malformed recording entry on line " + number);
+                int tick;
+                try {
+                    tick = Integer.parseInt(fields.get(0));
+                } catch (NumberFormatException e) {
+                    throw new IOException("Malformed recording tick on line " + number, e);
+                }
+                consumer.accept(new Entry(tick, kind, fields.subList(2, fields.size()).toArray(String[]::new)));
+            }
+        }
+    }
+
+    private static void escape(String field, StringBuilder out) {
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            switch (c) {
+                case '\\' -> out.append("\\\\");
+                case '\t' -> out.append("\\t");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                default -> out.append(c);
+            }
+        }
+    }
+
+    private static List<String> split(String line) {
+        var fields = new ArrayList<String>();
+        var field = new StringBuilder();
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '\t') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\\' && i + 1 < line.length()) {
+                char next = line.charAt(++i);
+                field.append(switch (next) {
+                    case 't' -> '\t';
+                    case 'n' -> '\n';
+                    case 'r' -> '\r';
+                    default -> next;
+                });
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
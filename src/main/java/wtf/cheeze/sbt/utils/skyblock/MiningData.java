@@ -25,21 +25,22 @@ import wtf.cheeze.sbt.hud.icon.Icons;
 import wtf.cheeze.sbt.mixin.accessors.BossBarHudAccessor;
 import wtf.cheeze.sbt.utils.CheezePair;
 import wtf.cheeze.sbt.utils.NumberUtils;
+import wtf.cheeze.sbt.utils.replay.InputRecorder;
+import wtf.cheeze.sbt.utils.text.CharScanner;
 import wtf.cheeze.sbt.utils.text.TextUtils;
 import wtf.cheeze.sbt.utils.enums.Location;
 import wtf.cheeze.sbt.utils.errors.ErrorHandler;
 import wtf.cheeze.sbt.utils.errors.ErrorLevel;
-import wtf.cheeze.sbt.utils.tablist.TabListData;
 import wtf.cheeze.sbt.utils.tablist.WidgetType;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Pattern;
 
 import static wtf.cheeze.sbt.hud.icon.Icons.MINING_ICONS;
 
 public class MiningData {
 
-    public static final MinecraftClient client = MinecraftClient.getInstance();
-
     private static final Pattern ACTIVE_EVENT = Pattern.compile("EVENT (?<name>.+) ACTIVE IN (?<location>.+) for (?<minutes>\\d\\d):(?<seconds>\\d\\d)");
     private static final Pattern PASSIVE_EVENT = Pattern.compile("PASSIVE EVENT (?<name>.+) RUNNING FOR (?<minutes>\\d\\d):(?<seconds>\\d\\d)");
     public final int comNo;
@@ -150,39 +151,43 @@ public class MiningData {
 }
 
 
+    /**
+     * Parses the lines of the commissions widget into the name and progress of each commission
+     */
     @SuppressWarnings("unchecked")
-    public MiningData(TabListData data) {
-
-        if (data.widgetLines.get(WidgetType.COMMISSIONS) != null) {
-            coms = data.widgetLines.get(WidgetType.COMMISSIONS).stream().filter(it -> !it.equals("Commissions:"))
-                    .map(it -> {
-                        //TODO: Could a regex work here
-                        String[] split = it.trim().split(": ");
-                        float com = NumberUtils.parsePercentage(split[1]);
-                        return new CheezePair<>(split[0], com);
-                    }).toArray(CheezePair[]::new);
-            comNo = coms.length;
-        } else {
-            comNo = 0;
-            coms = new CheezePair[0];
-        }
-
-        if (data.widgetLines.get(WidgetType.POWDER) != null) {
-            for (var line : data.widgetLines.get(WidgetType.POWDER)) {
-                if (line.startsWith(" Mithril")) {
-                    mithPowder = parsePowder(line);
-                } else if (line.startsWith(" Gemstone")) {
-                    gemPowder = parsePowder(line);
-                } else if (line.startsWith(" Glacite")) {
-                    glacPowder = parsePowder(line);
-                }
+    public static CheezePair<String, Float>[] parseCommissions(List<String> lines) {
+        return lines.stream().filter(it -> !it.equals("Commissions:"))
+                .map(it -> {
+                    //TODO: Could a regex work here
+                    String[] split = it.trim().split(": ");
+                    float com = NumberUtils.parsePercentage(split[1]);
+                    return new CheezePair<>(split[0], com);
+                }).toArray(CheezePair[]::new);
+    }
 
+    /**
+     * @param commissions the lines of the {@link WidgetType#COMMISSIONS} widget, empty if it is not shown
+     * @param powder the lines of the {@link WidgetType#POWDER} widget, empty if it is not shown
+     * @param bossBarNames the names of the boss bars, which show the active mining event
+     */
+    public MiningData(List<String> commissions, List<String> powder, List<String> bossBarNames) {
+
+        coms = parseCommissions(commissions);
+        comNo = coms.length;
+
+        for (var line : powder) {
+            if (line.startsWith(" Mithril")) {
+                mithPowder = parsePowder(line);
+            } else if (line.startsWith(" Gemstone")) {
+                gemPowder = parsePowder(line);
+            } else if (line.startsWith(" Glacite")) {
+                glacPowder = parsePowder(line);
             }
+
         }
 
-        var bossBars = ((BossBarHudAccessor) client.inGameHud.getBossBarHud()).getBossBars();
-        for (var bar: bossBars.values()) {
-            var name = TextUtils.removeFormatting(bar.getName().getString());
+        for (var bossBarName : bossBarNames) {
+            var name = TextUtils.removeFormatting(bossBarName);
             var passive = PASSIVE_EVENT.matcher(name);
             if (passive.matches()) {
                 event = true;
@@ -203,21 +208,40 @@ public class MiningData {
         }
     }
 
-    public static MiningData of(TabListData data) {
+    /**
+     * @return the names of the client's boss bars, which are also recorded if a recording is running
+     */
+    public static List<String> readBossBars() {
+        var bossBars = ((BossBarHudAccessor) MinecraftClient.getInstance().inGameHud.getBossBarHud()).getBossBars();
+        var bossBarNames = new ArrayList<String>(bossBars.size());
+        for (var bar : bossBars.values()) {
+            bossBarNames.add(bar.getName().getString());
+        }
+        InputRecorder.recordBossBars(bossBarNames);
+        return bossBarNames;
+    }
+
+    public static MiningData of(List<String> commissions, List<String> powder, List<String> bossBarNames) {
         try {
-            return new MiningData(data);
+            return new MiningData(commissions, powder, bossBarNames);
         } catch (Exception e) {
             ErrorHandler.handle(e, "Failed to parse mining data", ErrorLevel.WARNING);
             if (System.currentTimeMillis() - lastDataDumpTime > INTERVAL_BETWEEN_DUMPS_MS) {
                 lastDataDumpTime = System.currentTimeMillis();
-                SkyblockTweaks.LOGGER.info("Dumping tab list data: {}", data.serialize());
+                SkyblockTweaks.LOGGER.info("Dumping mining widgets, commissions: {}, powder: {}, boss bars: {}", commissions, powder, bossBarNames);
             }
             return EMPTY;
         }
     }
 
+    /**
+     * @throws NumberFormatException if the line is not in the expected format, so the failure reaches {@link #of} and is reported rather than showing 0 powder
+     */
     private static int parsePowder(String line) {
-        return Integer.parseInt(line.split(": ")[1].replaceAll(",", ""));
+        int separator = line.indexOf(": ");
+        long powder = separator < 0 ? CharScanner.NO_INT : CharScanner.parseInt(line, separator + 2, line.length());
+        if (powder == CharScanner.NO_INT) throw new NumberFormatException("Malformed powder line: " + line);
+        return (int) powder;
     }
     private MiningData() {
         comNo = 0;
@@ -36,6 +36,15 @@ public class ProfileManager {
     private static final Pattern WISDOM_PATTERN = Pattern.compile("☯ (.+) Wisdom (\\d+)");
     //SKILL LEVEL UP Farming 8➜9
 
+    /**
+     * Records a skill level, telling the skill HUD when it changes as its text depends on the level.
+     * The skills menu reports every level each frame it is open, so nothing is bumped when the level is the same
+     */
+    private static void setSkillLevel(ProfileData profile, Skill skill, int level) {
+        Integer old = profile.skillLevels.put(skill, level);
+        if (old == null || old != level) Stat.SKILL.changed();
+    }
+
     public static void registerEvents() {
         // TODO: If this is ever added to the Mod API, switch to that method
         ChatEvents.ON_GAME.register(message -> {
@@ -45,6 +54,8 @@ public class ProfileManager {
                 SkyblockData.currentProfile = matcher.group(1);
                 PersistentData.get().profiles.putIfAbsent(SkyblockData.getCurrentProfileUnique(), new ProfileData());
                 PersistentData.get().requestSave();
+                // The skill levels read from now on are the new profile's
+                Stat.SKILL.changed();
                 return;
 
             }
@@ -56,7 +67,7 @@ public class ProfileManager {
                 var profile = PersistentData.get().currentProfile();
                 if (profile == null) return;
                 var level = Integer.parseInt(levelUpMatcher.group(2));
-                profile.skillLevels.put(skill, level);
+                setSkillLevel(profile, skill, level);
                 PersistentData.get().requestSave();
             }
         });
@@ -72,7 +83,7 @@ public class ProfileManager {
                     var profile = PersistentData.get().currentProfile();
                     if (profile == null) return;
                     var level = Integer.parseInt(matcher.group(2));
-                    profile.skillLevels.put(skill, level);
+                    setSkillLevel(profile, skill, level);
                 }
                 PersistentData.get().requestSave();
             } else if (screenTitle.getString().equals("Your Equipment and Stats") && slot.getStack() != null && slot.getStack().getName().getString().equals("Wisdom Stats")) {
@@ -32,6 +32,7 @@ import net.minecraft.text.Text;
 import wtf.cheeze.sbt.SkyblockTweaks;
 import wtf.cheeze.sbt.config.SBTConfig;
 import wtf.cheeze.sbt.events.ChatEvents;
+import wtf.cheeze.sbt.events.TabListEvents;
 import wtf.cheeze.sbt.utils.errors.ErrorHandler;
 import wtf.cheeze.sbt.utils.errors.ErrorLevel;
 import wtf.cheeze.sbt.utils.text.MessageManager;
@@ -39,8 +40,13 @@ import wtf.cheeze.sbt.utils.timing.TimeUtils;
 import wtf.cheeze.sbt.utils.actionbar.ActionBarData;
 import wtf.cheeze.sbt.utils.enums.Location;
 import wtf.cheeze.sbt.utils.render.Colors;
+import wtf.cheeze.sbt.utils.replay.InputRecorder;
 import wtf.cheeze.sbt.utils.tablist.TabListData;
+import wtf.cheeze.sbt.utils.tablist.TabListParser;
+import wtf.cheeze.sbt.utils.tablist.WidgetType;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.regex.Pattern;
 
@@ -81,11 +87,14 @@ public class SkyblockData {
                 }
             }
         });
-        ChatEvents.ON_GAME.register(message -> {
-            if (PICK_USED_PATTERN.matcher(message.getString()).matches()) {
-                lastUsedPickAbility = System.currentTimeMillis();
-            }
-        });
+        ChatEvents.ON_GAME.register(SkyblockData::onGameMessage);
+        registerWidgetListeners();
+    }
+
+    public static void onGameMessage(Text message) {
+        if (PICK_USED_PATTERN.matcher(message.getString()).matches()) {
+            lastUsedPickAbility = System.currentTimeMillis();
+        }
     }
 
 
@@ -104,6 +113,9 @@ public class SkyblockData {
         public static boolean leader = false;
     }
 
+    /**
+     * Written by {@link #update(ActionBarData)}, anything else writing these must call {@link Stat#changed()} for the stat it changed
+     */
     public static class Stats {
 
         public static int defense = 0;
@@ -168,62 +180,169 @@ public class SkyblockData {
         return alphaNetwork ?  currentProfile + "_ALPHA" : currentProfile;
     }
 
+    /**
+     * Writes the action bar values into {@link Stats}, bumping the version of each {@link Stat} whose value changed. Only called when the action bar changes, pressure is handled by {@link #updatePressure(ActionBarData)}
+     */
     public static void update(ActionBarData data) {
         if (data == null) return;
-        if (data.defense != null) Stats.defense = data.defense;
-        if (data.maxHealth != null) Stats.maxHealth = data.maxHealth;
-        if (data.currentHealth != null) Stats.health = data.currentHealth;
-        if (data.maxMana != null) Stats.maxMana = data.maxMana;
-        if (data.currentMana != null) Stats.mana = data.currentMana;
-        if (data.overflowMana != null) Stats.overflowMana = data.overflowMana;
-        if (data.drillFuel != null) Stats.drillFuel = data.drillFuel;
-        if (data.maxDrillFuel != null) Stats.maxDrillFuel = data.maxDrillFuel;
-        if (data.maxTickers != null && data.currentTickers != null) {
-            Stats.maxTickers = data.maxTickers;
-            Stats.tickers = data.currentTickers;
-            Stats.tickerActive = true;
-        } else {
+        if (data.has(ActionBarData.DEFENSE) && Stats.defense != data.defense) {
+            Stats.defense = data.defense;
+            Stat.DEFENSE.changed();
+        }
+        if (data.has(ActionBarData.MAX_HEALTH) && Stats.maxHealth != data.maxHealth) {
+            Stats.maxHealth = data.maxHealth;
+            Stat.MAX_HEALTH.changed();
+        }
+        if (data.has(ActionBarData.CURRENT_HEALTH) && Stats.health != data.currentHealth) {
+            Stats.health = data.currentHealth;
+            Stat.HEALTH.changed();
+        }
+        if (data.has(ActionBarData.MAX_MANA) && Stats.maxMana != data.maxMana) {
+            Stats.maxMana = data.maxMana;
+            Stat.MAX_MANA.changed();
+        }
+        if (data.has(ActionBarData.CURRENT_MANA) && Stats.mana != data.currentMana) {
+            Stats.mana = data.currentMana;
+            Stat.MANA.changed();
+        }
+        if (data.has(ActionBarData.OVERFLOW_MANA) && Stats.overflowMana != data.overflowMana) {
+            Stats.overflowMana = data.overflowMana;
+            Stat.OVERFLOW_MANA.changed();
+        }
+        if (data.has(ActionBarData.DRILL_FUEL) && Stats.drillFuel != data.drillFuel) {
+            Stats.drillFuel = data.drillFuel;
+            Stat.DRILL_FUEL.changed();
+        }
+        if (data.has(ActionBarData.MAX_DRILL_FUEL) && Stats.maxDrillFuel != data.maxDrillFuel) {
+            Stats.maxDrillFuel = data.maxDrillFuel;
+            Stat.MAX_DRILL_FUEL.changed();
+        }
+        if (data.has(ActionBarData.MAX_TICKERS | ActionBarData.CURRENT_TICKERS)) {
+            if (!Stats.tickerActive || Stats.maxTickers != data.maxTickers || Stats.tickers != data.currentTickers) {
+                Stats.maxTickers = data.maxTickers;
+                Stats.tickers = data.currentTickers;
+                Stats.tickerActive = true;
+                Stat.TICKERS.changed();
+            }
+        } else if (Stats.tickerActive) {
             Stats.tickerActive = false;
+            Stat.TICKERS.changed();
         }
-        if (data.stackSymbol != null && data.stackAmount !=null) {
-            Stats.stackString = data.stackSymbol;
-            Stats.armorStack = data.stackAmount;
-        } else {
-            Stats.stackString = null;
-            Stats.armorStack = 0;
+
+        boolean hasStack = data.has(ActionBarData.STACK_SYMBOL | ActionBarData.STACK_AMOUNT);
+        String stackString = hasStack ? data.stackSymbol : null;
+        int armorStack = hasStack ? data.stackAmount : 0;
+        if (!Objects.equals(Stats.stackString, stackString) || Stats.armorStack != armorStack) {
+            Stats.stackString = stackString;
+            Stats.armorStack = armorStack;
+            Stat.ARMOR_STACK.changed();
         }
 
-        if (data.riftTime != null) {
-            Stats.riftSeconds = TimeUtils.parseDuration(data.riftTime);
-            Stats.riftTicking = Objects.requireNonNullElse(data.riftTicking, false);
-        } else {
-            Stats.riftSeconds = 0;
-            Stats.riftTicking = false;
+        boolean hasRift = data.has(ActionBarData.RIFT_TIME);
+        int riftSeconds = hasRift ? TimeUtils.parseDuration(data.riftTime) : 0;
+        boolean riftTicking = hasRift && data.has(ActionBarData.RIFT_TICKING) && data.riftTicking;
+        if (Stats.riftSeconds != riftSeconds || Stats.riftTicking != riftTicking) {
+            Stats.riftSeconds = riftSeconds;
+            Stats.riftTicking = riftTicking;
+            Stat.RIFT.changed();
         }
 
-        if (data.secretsFound != null && data.secretsTotal != null) {
-            Stats.secretsFound = data.secretsFound;
-            Stats.secretsTotal = data.secretsTotal;
-        } else {
-            Stats.secretsFound = 0;
-            Stats.secretsTotal = 0;
+        boolean hasSecrets = data.has(ActionBarData.SECRETS_FOUND | ActionBarData.SECRETS_TOTAL);
+        int secretsFound = hasSecrets ? data.secretsFound : 0;
+        int secretsTotal = hasSecrets ? data.secretsTotal : 0;
+        if (Stats.secretsFound != secretsFound || Stats.secretsTotal != secretsTotal) {
+            Stats.secretsFound = secretsFound;
+            Stats.secretsTotal = secretsTotal;
+            Stat.SECRETS.changed();
         }
+    }
 
-        if (data.pressure != null) {
-            Stats.pressure = data.pressure;
-            Stats.pressureActive = true;
-        } else {
-            if (!client.player.isInFluid()) { // This stops pressure from disappearing if an ability is used
+    /**
+     * Updates the pressure from the action bar. Called for every action bar, not only changed ones, since pressure is kept
+     * while the player is in fluid and has to be cleared once they leave it, even if the action bar stays the same
+     */
+    public static void updatePressure(ActionBarData data) {
+        if (data.has(ActionBarData.PRESSURE)) {
+            if (!Stats.pressureActive || Stats.pressure != data.pressure) {
+                Stats.pressure = data.pressure;
+                Stats.pressureActive = true;
+                Stat.PRESSURE.changed();
+            }
+        } else if (Stats.pressureActive) {
+            if (client.player == null || !client.player.isInFluid()) { // This stops pressure from disappearing if an ability is used
                 Stats.pressure = 0;
                 Stats.pressureActive = false;
+                Stat.PRESSURE.changed();
             }
         }
     }
 
+    /**
+     * The widgets and boss bars {@link #miningData} was last parsed from, it is only parsed again once one of them changes
+     */
+    private static List<String> commissionLines = List.of();
+    private static List<String> powderLines = List.of();
+    private static List<String> bossBarNames = List.of();
+    private static boolean wasInMiningIsland = false;
+    private static boolean miningDataStale = true;
+
+    /**
+     * Keeps the widgets {@link MiningData} is parsed from. Called by {@link #registerEvents()}, and by the replayer, which has no client to register the other events with
+     */
+    public static void registerWidgetListeners() {
+        TabListEvents.widget(WidgetType.COMMISSIONS).register((widget, oldLines, newLines) -> {
+            commissionLines = newLines;
+            miningDataStale = true;
+        });
+        TabListEvents.widget(WidgetType.POWDER).register((widget, oldLines, newLines) -> {
+            powderLines = newLines;
+            miningDataStale = true;
+        });
+    }
+
     public static void update(TabListData data) {
+        update(data, SkyblockUtils.inMiningIsland() ? MiningData.readBossBars() : List.of());
+    }
+
+    /**
+     * Same as {@link #update(TabListData)}, with mining events read from the given boss bar names instead of the client, used when replaying a recording
+     */
+    public static void update(TabListData data, List<String> bossBarNames) {
+        var previous = tabData;
         tabData = data;
-        miningData = SkyblockUtils.inMiningIsland() ? MiningData.of(tabData) : MiningData.EMPTY;
+        if (data != previous) TabListParser.fireWidgetChanges(previous, data);
+        boolean inMiningIsland = SkyblockUtils.inMiningIsland();
+        if (inMiningIsland != wasInMiningIsland || !bossBarNames.equals(SkyblockData.bossBarNames)) {
+            wasInMiningIsland = inMiningIsland;
+            SkyblockData.bossBarNames = bossBarNames;
+            miningDataStale = true;
+        }
+        if (!miningDataStale) return;
+        miningDataStale = false;
+        setMiningData(inMiningIsland ? MiningData.of(commissionLines, powderLines, bossBarNames) : MiningData.EMPTY);
+    }
+
+    private static void setMiningData(MiningData data) {
+        if (!Arrays.equals(data.coms, miningData.coms)) {
+            Stat.COMMISSIONS.changed();
+        }
+        if (data.mithPowder != miningData.mithPowder || data.gemPowder != miningData.gemPowder || data.glacPowder != miningData.glacPowder) {
+            Stat.POWDER.changed();
+        }
+        if (data.event != miningData.event || data.eventTimeLeft != miningData.eventTimeLeft || !data.eventName.equals(miningData.eventName)) {
+            Stat.MINING_EVENT.changed();
+        }
+        miningData = data;
+    }
 
+    public static void updateLocation(String server, boolean skyblock, String mode) {
+        currentServer = server;
+        inSB = skyblock;
+        if (inSB) {
+            location = Location.fromMode(mode);
+        } else {
+            location = Location.UNKNOWN;
+        }
     }
 
     public static void handlePacket(ClientboundHypixelPacket packet) {
@@ -243,13 +362,10 @@ public class SkyblockData {
                 Party.leader = partyPacket.getMemberMap().get(myUUID).getRole() == ClientboundPartyInfoPacket.PartyRole.LEADER;
             }
             case ClientboundLocationPacket locationPacket -> {
-                currentServer = locationPacket.getServerName();
-                inSB = locationPacket.getServerType().isPresent() && locationPacket.getServerType().get().getName().equals("SkyBlock");
-                if (inSB) {
-                    location = Location.fromMode(locationPacket.getMode().orElse("unknown"));
-                } else {
-                    location = Location.UNKNOWN;
-                }
+                boolean skyblock = locationPacket.getServerType().isPresent() && locationPacket.getServerType().get().getName().equals("SkyBlock");
+                String mode = locationPacket.getMode().orElse("unknown");
+                updateLocation(locationPacket.getServerName(), skyblock, mode);
+                InputRecorder.recordLocation(locationPacket.getServerName(), skyblock, mode);
             }
             default -> {}
         }
@@ -19,6 +19,7 @@
 package wtf.cheeze.sbt.utils.skyblock;
 
 import net.minecraft.client.MinecraftClient;
+import net.minecraft.text.Text;
 import wtf.cheeze.sbt.utils.enums.*;
 
 public class SkyblockUtils {
@@ -88,12 +89,28 @@ public class SkyblockUtils {
         };
     }
 
+    // Both are checked every frame by HUDs, the name of a stack is usually the same instance from frame to frame, so its string is only built when it changes
+    private static Text heldName = null;
+    private static boolean holdingDrill = false;
+    private static Text quiverSlotName = null;
+    private static boolean quiverInSlot = false;
+
     public static boolean isThePlayerHoldingADrill() {
-        return MinecraftClient.getInstance().player.getMainHandStack().getName().getString().contains("Drill");
+        var name = MinecraftClient.getInstance().player.getMainHandStack().getName();
+        if (name != heldName) {
+            heldName = name;
+            holdingDrill = name.getString().contains("Drill");
+        }
+        return holdingDrill;
     }
 
     public static boolean quiverActive() {
-        return client.player.getInventory().getStack(8).getName().getString().startsWith("Quiver");
+        var name = client.player.getInventory().getStack(8).getName();
+        if (name != quiverSlotName) {
+            quiverSlotName = name;
+            quiverInSlot = name.getString().startsWith("Quiver");
+        }
+        return quiverInSlot;
     }
 
 
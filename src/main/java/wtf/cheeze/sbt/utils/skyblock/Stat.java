@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2024 MisterCheezeCake
+ *
+ * This file is part of SkyblockTweaks.
+ *
+ * SkyblockTweaks is free software: you can redistribute it
+ * and/or modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SkyblockTweaks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SkyblockTweaks. If not, see <https://www.gnu.org/licenses/>.
+ */
+package wtf.cheeze.sbt.utils.skyblock;
+
+/**
+ * The values in {@link SkyblockData.Stats} which HUDs are computed from, each with a version which goes up only when the value actually changes.
+ * <p>
+ * A HUD line built with a set of stats records the versions it was computed from and is only recomputed once one of them moves,
+ * see {@link wtf.cheeze.sbt.hud.cache.Cache#Cache(java.util.function.Supplier, Object, Stat...)}.
+ * Versions are read and written on the client thread only.
+ */
+public enum Stat {
+    DEFENSE,
+    MAX_HEALTH,
+    HEALTH,
+    MAX_MANA,
+    MANA,
+    OVERFLOW_MANA,
+    DRILL_FUEL,
+    MAX_DRILL_FUEL,
+    /**
+     * Rift time and whether it is ticking
+     */
+    RIFT,
+    /**
+     * Current and maximum tickers and whether they are shown
+     */
+    TICKERS,
+    ARMOR_STACK,
+    SECRETS,
+    PRESSURE,
+    /**
+     * The progress tracked by {@link wtf.cheeze.sbt.features.huds.SkillHudManager}, including it timing out
+     */
+    SKILL,
+    /**
+     * The commissions in {@link MiningData#coms}, their names and progress
+     */
+    COMMISSIONS,
+    /**
+     * The mining event in {@link MiningData}, its name and time left
+     */
+    MINING_EVENT,
+    /**
+     * The mithril, gemstone and glacite powder in {@link MiningData}
+     */
+    POWDER;
+
+    private int version = 0;
+
+    public int version() {
+        return version;
+    }
+
+    public void changed() {
+        version++;
+    }
+}
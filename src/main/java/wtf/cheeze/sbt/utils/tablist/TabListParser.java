@@ -21,78 +21,433 @@ package wtf.cheeze.sbt.utils.tablist;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.network.PlayerListEntry;
+import net.minecraft.network.packet.s2c.play.PlayerListS2CPacket;
+import org.jetbrains.annotations.Nullable;
+import wtf.cheeze.sbt.SkyblockTweaks;
+import wtf.cheeze.sbt.events.TabListEvents;
 import wtf.cheeze.sbt.mixin.accessors.PlayerListHudAccessor;
 import wtf.cheeze.sbt.utils.errors.ErrorHandler;
 import wtf.cheeze.sbt.utils.errors.ErrorLevel;
+import wtf.cheeze.sbt.utils.replay.InputRecorder;
 import wtf.cheeze.sbt.utils.skyblock.SkyblockData;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 
-
+/**
+ * Keeps the tab list parsed as the server changes it. The packet hooks in {@link wtf.cheeze.sbt.mixin.hooks.ClientPlayNetworkHandlerMixin}
+ * mark which entries changed, and the next tick re-reads only those entries, so ticks where the tab list did not change cost nothing.
+ * <p>
+ * Entries keep the plain string of their display name and the widget they were last grouped into. Changes to the body lines of a widget
+ * replace those lines in a copy of that widget's list, while entries joining, leaving, moving or changing a widget header regroup the whole list.
+ * All of this is read and written on the client thread only.
+ */
 public class TabListParser {
 
-    private static final Comparator<PlayerListEntry> ORDER = PlayerListHudAccessor.getEntryOrdering();
+    /**
+     * The entries being tracked by profile id, and the same entries in display order
+     */
+    private static final Map<UUID, Tracked> TRACKED = new HashMap<>();
+    private static final ArrayList<Tracked> SORTED = new ArrayList<>();
+
+    /**
+     * The entries whose display names may have changed since the last parse
+     */
+    private static final Set<UUID> CHANGED_NAMES = new HashSet<>();
+
+    /**
+     * Whether entries may have joined, left or moved since the last parse
+     */
+    private static boolean structureChanged = true;
 
+    private static TabListData current = TabListData.EMPTY;
+
+    /**
+     * Whether the player was outside SkyBlock as of the last tick, display name changes are not recorded there
+     */
+    private static boolean outsideSkyblock = true;
 
     /**
      * Serves as the Stage 1 parser for the TabList, gets the data into lines sorted by widget, which can then be used by Stage 2 processors if needed for a feature
+     * @return the data, the same instance as last time if nothing has changed since
      */
     public static TabListData parseTabList() {
-
         try {
-            var data = new TabListData();
-            boolean inInfoColumn = false;
-            WidgetType currentWidget = null;
             var network = MinecraftClient.getInstance().getNetworkHandler();
             if (network == null) return TabListData.EMPTY;
-            for (PlayerListEntry entry : network.getPlayerList().stream().sorted(ORDER).toList()) {
-                var displayName = entry.getDisplayName();
-                if (displayName == null) continue;
-                var content = displayName.getString();
-                var profileName = entry.getProfile().getName();
-                if (profileName.endsWith("a")) { // Column headers
-                    if (content.trim().equals("Info")) {
-                        inInfoColumn = true;
-                        continue;
-                    }
-                }
-                if (!inInfoColumn) continue;
-                if (content.isBlank()) continue;
-                if (content.startsWith(" ")) {
-                    if (currentWidget != null) {
-                        data.widgetLines.get(currentWidget).add(content);
-                    }
-
-                } else {
-                    var widget = WidgetType.byPrefix(content.split(":")[0]);
-                    if (widget != null) {
-                        currentWidget = widget;
-                        data.widgetLines.putIfAbsent(currentWidget, new ArrayList<>());
-                        data.widgetLines.get(currentWidget).add(content);
-                        continue;
-                    } else {
-                        currentWidget = null;
-                    }
+            if (!structureChanged && CHANGED_NAMES.isEmpty()) return current;
+            boolean regroup = structureChanged;
+            if (structureChanged) {
+                resync(network.getPlayerList());
+                structureChanged = false;
+            }
+            var patched = new EnumMap<WidgetType, List<String>>(WidgetType.class);
+            for (var id : CHANGED_NAMES) {
+                var tracked = TRACKED.get(id);
+                if (tracked == null) continue;
+                var old = tracked.line;
+                tracked.readLine();
+                if (!regroup) regroup = !patch(tracked, old, patched, current);
+            }
+            CHANGED_NAMES.clear();
 
-                }
+            var lines = new ArrayList<Line>(SORTED.size());
+            for (var tracked : SORTED) {
+                if (tracked.line != null) lines.add(tracked.line);
             }
-            data.activeWidgets = data.widgetLines.keySet();
-            return data;
+            InputRecorder.recordTabList(lines);
+            if (regroup) {
+                current = keepUnchangedLists(current, group(SORTED));
+            } else if (!patched.isEmpty()) {
+                current = withPatched(current, patched);
+            }
+            return current;
         } catch (Exception e) {
             ErrorHandler.handle(e, "Failed to parse tab list", ErrorLevel.WARNING);
+            structureChanged = true;
             return TabListData.EMPTY;
         }
     }
 
+    /**
+     * Brings the tracked entries in line with those the client lists, keeping entries which are still there along with their parsed lines
+     */
+    private static void resync(Collection<PlayerListEntry> listed) {
+        SORTED.removeIf(tracked -> {
+            if (listed.contains(tracked.entry)) return false;
+            TRACKED.remove(tracked.id);
+            return true;
+        });
+        for (var entry : listed) {
+            var id = entry.getProfile().getId();
+            var tracked = TRACKED.get(id);
+            if (tracked != null && tracked.entry == entry) continue;
+            if (tracked != null) SORTED.remove(tracked);
+            tracked = new Tracked(id, entry);
+            TRACKED.put(id, tracked);
+            SORTED.add(tracked);
+            CHANGED_NAMES.add(id);
+        }
+        // The list is still in order apart from the entries added or moved, which TimSort handles in close to a single pass
+        Comparator<PlayerListEntry> ordering = PlayerListHudAccessor.getEntryOrdering();
+        SORTED.sort((a, b) -> ordering.compare(a.entry, b.entry));
+    }
+
+    /**
+     * Applies a change to a single entry's line to the widget it is in, without regrouping the list
+     * @param patched the widget lists copied so far while applying this parse's changes
+     * @param current the data the change applies to
+     * @return false if the change can move lines between widgets, and the whole list must be regrouped
+     */
+    private static boolean patch(Tracked tracked, @Nullable Line old, Map<WidgetType, List<String>> patched, TabListData current) {
+        var line = tracked.line;
+        if (old == null || line == null) return old == line;
+        var content = line.content();
+        if (content.equals(old.content())) return true;
+        if (isInfoHeader(line)) return false;
+        // Entries before the Info column are not grouped, and only a column header can change that
+        if (tracked.index == BEFORE_INFO) return !isColumnHeader(line);
+        if (tracked.widget == null || content.isBlank()) return false;
+        boolean wasHeader = !old.content().startsWith(" ");
+        boolean isHeader = !content.startsWith(" ");
+        if (wasHeader != isHeader) return false;
+        if (isHeader && WidgetType.byPrefix(prefixOf(content)) != tracked.widget) return false;
+        var lines = patched.get(tracked.widget);
+        if (lines == null) {
+            // Copied rather than changed in place, since consumers may still hold the old list
+            lines = new ArrayList<>(current.widgetLines.get(tracked.widget));
+            patched.put(tracked.widget, lines);
+        }
+        lines.set(tracked.index, content);
+        return true;
+    }
+
+    private static TabListData withPatched(TabListData current, Map<WidgetType, List<String>> patched) {
+        var data = new TabListData();
+        data.widgetLines.putAll(current.widgetLines);
+        data.widgetLines.putAll(patched);
+        data.activeWidgets = data.widgetLines.keySet();
+        return data;
+    }
+
+    /**
+     * Puts the previous list back for each widget whose lines did not change, so only the widgets which changed have new lists
+     */
+    private static TabListData keepUnchangedLists(TabListData previous, TabListData data) {
+        for (var entry : data.widgetLines.entrySet()) {
+            var old = previous.widgetLines.get(entry.getKey());
+            if (entry.getValue().equals(old)) entry.setValue(old);
+        }
+        return data;
+    }
+
+    private static final WidgetType[] WIDGET_TYPES = WidgetType.values();
+
+    /**
+     * Fires the {@link TabListEvents} for each widget whose lines differ between the two
+     */
+    public static void fireWidgetChanges(TabListData previous, TabListData current) {
+        for (var widget : WIDGET_TYPES) {
+            var oldLines = previous.widgetLines.get(widget);
+            var newLines = current.widgetLines.get(widget);
+            if (oldLines == newLines || (oldLines != null && oldLines.equals(newLines))) continue;
+            if (oldLines == null) oldLines = List.of();
+            if (newLines == null) newLines = List.of();
+            TabListEvents.widget(widget).invoker().onWidgetChange(widget, oldLines, newLines);
+            TabListEvents.ANY_WIDGET.invoker().onWidgetChange(widget, oldLines, newLines);
+        }
+    }
+
+    /**
+     * Whether every widget change is written to the log, toggled with /sbt debug dumpTablist watch
+     */
+    public static boolean logWidgetChanges = false;
+
+    /**
+     * Groups the lines of the Info column by the widget they belong to, does not touch the client so it can be used on recorded tab lists
+     * @param lines the entries of the tab list in display order
+     */
+    public static TabListData groupLines(List<Line> lines) {
+        var tracked = new ArrayList<Tracked>(lines.size());
+        for (var line : lines) {
+            tracked.add(new Tracked(line));
+        }
+        return group(tracked);
+    }
+
+    /**
+     * Groups the entries' lines, recording which widget each entry ended up in and where
+     */
+    private static TabListData group(List<Tracked> entries) {
+        var data = new TabListData();
+        boolean inInfoColumn = false;
+        WidgetType currentWidget = null;
+        for (var tracked : entries) {
+            var line = tracked.line;
+            if (line == null) continue;
+            tracked.widget = null;
+            tracked.index = inInfoColumn ? UNGROUPED : BEFORE_INFO;
+            var content = line.content();
+            if (isInfoHeader(line)) {
+                inInfoColumn = true;
+                continue;
+            }
+            if (!inInfoColumn) continue;
+            if (content.isBlank()) continue;
+            if (content.startsWith(" ")) {
+                if (currentWidget != null) {
+                    add(data, currentWidget, tracked, content);
+                }
+            } else {
+                currentWidget = WidgetType.byPrefix(prefixOf(content));
+                if (currentWidget != null) {
+                    add(data, currentWidget, tracked, content);
+                }
+            }
+        }
+        data.activeWidgets = data.widgetLines.keySet();
+        return data;
+    }
+
+    private static void add(TabListData data, WidgetType widget, Tracked tracked, String content) {
+        var lines = data.widgetLines.computeIfAbsent(widget, k -> new ArrayList<>());
+        tracked.widget = widget;
+        tracked.index = lines.size();
+        lines.add(content);
+    }
+
+    private static boolean isColumnHeader(Line line) {
+        return line.profileName().endsWith("a");
+    }
+
+    private static boolean isInfoHeader(Line line) {
+        return isColumnHeader(line) && line.content().trim().equals("Info");
+    }
+
+    /**
+     * @return the text before the first colon, which is what widget headers are identified by
+     */
+    private static String prefixOf(String content) {
+        int colon = content.indexOf(':');
+        return colon < 0 ? content : content.substring(0, colon);
+    }
+
+    /**
+     * Groups a tab list given as whole lists of lines, patching only the widgets of the lines which changed since the previous list the same way
+     * the live parser does. Does not touch the client, so it can be used on recorded tab lists and to check the patching against {@link #groupLines(List)}
+     */
+    public static final class Replay {
+        private final ArrayList<Tracked> entries = new ArrayList<>();
+        private List<Line> lastLines = List.of();
+        private TabListData data = TabListData.EMPTY;
+
+        /**
+         * @param lines the entries of the tab list in display order
+         * @return the data, the same instance as last time if nothing has changed since
+         */
+        public TabListData accept(List<Line> lines) {
+            if (lines == lastLines) return data;
+            lastLines = lines;
+            if (!sameEntries(lines)) {
+                entries.clear();
+                for (var line : lines) {
+                    entries.add(new Tracked(line));
+                }
+                data = keepUnchangedLists(data, group(entries));
+                return data;
+            }
+            var patched = new EnumMap<WidgetType, List<String>>(WidgetType.class);
+            boolean regroup = false;
+            for (int i = 0; i < lines.size(); i++) {
+                var tracked = entries.get(i);
+                var old = tracked.line;
+                var line = lines.get(i);
+                if (line.equals(old)) continue;
+                tracked.line = line;
+                if (!regroup) regroup = !patch(tracked, old, patched, data);
+            }
+            if (regroup) {
+                data = keepUnchangedLists(data, group(entries));
+            } else if (!patched.isEmpty()) {
+                data = withPatched(data, patched);
+            }
+            return data;
+        }
+
+        /**
+         * Whether the lines are for the same entries in the same order as the tracked ones, which is what lets changes be patched in
+         */
+        private boolean sameEntries(List<Line> lines) {
+            if (lines.size() != entries.size()) return false;
+            for (int i = 0; i < lines.size(); i++) {
+                if (!lines.get(i).profileName().equals(entries.get(i).line.profileName())) return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * A single entry of the tab list
+     * @param profileName the name of the fake profile Hypixel uses for the entry, which determines its position
+     * @param content the display name of the entry
+     */
+    public record Line(String profileName, String content) {}
+
+    /**
+     * The index of an entry which is in the Info column but not in a known widget
+     */
+    private static final int UNGROUPED = -1;
+    /**
+     * The index of an entry which comes before the Info column
+     */
+    private static final int BEFORE_INFO = -2;
+
+    /**
+     * An entry of the tab list and what the parser last made of it
+     */
+    private static final class Tracked {
+        @Nullable
+        private final UUID id;
+        @Nullable
+        private final PlayerListEntry entry;
+        /**
+         * The entry's display name as a plain string, null if it has none
+         */
+        @Nullable
+        private Line line;
+        /**
+         * The widget the line was grouped into and its index in that widget's lines, or {@link #UNGROUPED} or {@link #BEFORE_INFO}
+         */
+        @Nullable
+        private WidgetType widget;
+        private int index = BEFORE_INFO;
+
+        private Tracked(UUID id, PlayerListEntry entry) {
+            this.id = id;
+            this.entry = entry;
+        }
+
+        /**
+         * Wraps a recorded line, which has no entry to read from
+         */
+        private Tracked(Line line) {
+            this.id = null;
+            this.entry = null;
+            this.line = line;
+        }
+
+        private void readLine() {
+            var displayName = entry.getDisplayName();
+            line = displayName == null ? null : new Line(entry.getProfile().getName(), displayName.getString());
+        }
+    }
+
+    /**
+     * Called once the client has applied a player list packet. Latency and chat session updates, which make up most of these packets, are ignored
+     */
+    public static void onPlayerList(PlayerListS2CPacket packet) {
+        var actions = packet.getActions();
+        if (actions.contains(PlayerListS2CPacket.Action.ADD_PLAYER) || actions.contains(PlayerListS2CPacket.Action.UPDATE_LISTED)
+                || actions.contains(PlayerListS2CPacket.Action.UPDATE_LIST_ORDER) || actions.contains(PlayerListS2CPacket.Action.UPDATE_GAME_MODE)) {
+            structureChanged = true;
+        }
+        // Names are only re-read in SkyBlock, so they are not recorded elsewhere and the whole list is read again on joining
+        if (actions.contains(PlayerListS2CPacket.Action.UPDATE_DISPLAY_NAME) && SkyblockData.inSB) {
+            for (var entry : packet.getEntries()) {
+                CHANGED_NAMES.add(entry.profileId());
+            }
+        }
+    }
 
+    /**
+     * Called once the client has removed entries from the player list
+     */
+    public static void onPlayerRemove() {
+        structureChanged = true;
+    }
+
+    /**
+     * Called once the client has applied a team packet, the tab list is ordered by team so this can move entries
+     */
+    public static void onTeam() {
+        structureChanged = true;
+    }
+
+    /**
+     * Makes the next parse read the whole tab list again, such as when a recording starts and needs the tab list as it is
+     */
+    public static void invalidate() {
+        structureChanged = true;
+        for (var tracked : SORTED) {
+            CHANGED_NAMES.add(tracked.id);
+        }
+    }
 
     public static void registerEvents() {
         ClientTickEvents.END_CLIENT_TICK.register(client -> {
-            if (!SkyblockData.inSB) return;
+            if (!SkyblockData.inSB) {
+                outsideSkyblock = true;
+                CHANGED_NAMES.clear();
+                return;
+            }
+            if (outsideSkyblock) {
+                outsideSkyblock = false;
+                invalidate();
+            }
             SkyblockData.update(parseTabList());
         });
+        TabListEvents.ANY_WIDGET.register((widget, oldLines, newLines) -> {
+            if (logWidgetChanges) SkyblockTweaks.LOGGER.info("Tab list widget {} changed from {} to {}", widget, oldLines, newLines);
+        });
     }
 
 
@@ -20,7 +20,6 @@ package wtf.cheeze.sbt.utils.tablist;
 
 import wtf.cheeze.sbt.utils.enums.Location;
 
-import java.util.Arrays;
 import java.util.HashMap;
 
 
@@ -93,8 +92,10 @@ public enum WidgetType {
 
     public boolean isActive(Location location) {
         if (everywhere) return true;
-        //noinspection ConstantConditions
-        return Arrays.stream(locations).anyMatch(loc -> loc == location);
+        for (Location loc : locations) {
+            if (loc == location) return true;
+        }
+        return false;
     }
 
     public static WidgetType byPrefix(String prefix) {
@@ -0,0 +1,215 @@
+/*
+ * Copyright (C) 2024 MisterCheezeCake
+ *
+ * This file is part of SkyblockTweaks.
+ *
+ * SkyblockTweaks is free software: you can redistribute it
+ * and/or modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SkyblockTweaks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SkyblockTweaks. If not, see <https://www.gnu.org/licenses/>.
+ */
+package wtf.cheeze.sbt.utils.text;
+
+/**
+ * Single pass scanners for the text Hypixel sends us, used instead of regex replacements and {@link Float#parseFloat(String)}
+ * in the parsers that run on every action bar, tab list line and chat message.
+ * <p>
+ * The number scanners work directly on a range of a {@link CharSequence}, skip formatting codes and comma grouping,
+ * accept a trailing k or m suffix, and report failure through a sentinel instead of throwing.
+ */
+public class CharScanner {
+
+    public static final char SECTION = '§';
+
+    /**
+     * Returned by {@link #parseInt(CharSequence, int, int)} when the range does not contain a number
+     */
+    public static final long NO_INT = Long.MIN_VALUE;
+
+    private static final double[] POW10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9,
+            1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18
+    };
+    private static final int MAX_DIGITS = 18;
+
+    /**
+     * Whether the character following a {@link #SECTION} is a code stripped by {@link #stripFormatting(String)}, matches [a-f0-9k-oA-FK-O]
+     */
+    public static boolean isFormattingCode(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'k' && c <= 'o') || (c >= 'A' && c <= 'F') || (c >= 'K' && c <= 'O');
+    }
+
+    /**
+     * Removes formatting codes from the text
+     * @return the text itself if it does not contain any formatting codes
+     */
+    public static String stripFormatting(String text) {
+        int first = text.indexOf(SECTION);
+        if (first < 0) return text;
+        int length = text.length();
+        StringBuilder builder = new StringBuilder(length);
+        builder.append(text, 0, first);
+        for (int i = first; i < length; i++) {
+            char c = text.charAt(i);
+            if (c == SECTION && i + 1 < length && isFormattingCode(text.charAt(i + 1))) {
+                i++;
+                continue;
+            }
+            builder.append(c);
+        }
+        return builder.length() == length ? text : builder.toString();
+    }
+
+    /**
+     * Counts the characters in the range which would remain after {@link #stripFormatting(String)}
+     */
+    public static int visibleLength(CharSequence text, int start, int end) {
+        int count = 0;
+        for (int i = start; i < end; i++) {
+            if (text.charAt(i) == SECTION && i + 1 < end && isFormattingCode(text.charAt(i + 1))) {
+                i++;
+                continue;
+            }
+            count++;
+        }
+        return count;
+    }
+
+    public static int visibleLength(CharSequence text) {
+        return visibleLength(text, 0, text.length());
+    }
+
+    public static int indexOf(CharSequence text, char c, int from, int end) {
+        for (int i = from; i < end; i++) {
+            if (text.charAt(i) == c) return i;
+        }
+        return -1;
+    }
+
+    public static int indexOf(CharSequence text, char c) {
+        return indexOf(text, c, 0, text.length());
+    }
+
+    /**
+     * Parses a number such as 1,227, -24, 58.09, 3k or 1.5M from the given range
+     * @return the number, or {@link Double#NaN} if the range is not a number
+     */
+    public static double parseDouble(CharSequence text, int start, int end) {
+        if (start < 0 || end > text.length() || start >= end) return Double.NaN;
+        int i = skipSpaceAndFormatting(text, start, end);
+        boolean negative = false;
+        if (i < end) {
+            char sign = text.charAt(i);
+            if (sign == '-' || sign == '+') {
+                negative = sign == '-';
+                i = skipSpaceAndFormatting(text, i + 1, end);
+            }
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean seenDigit = false;
+        boolean seenPoint = false;
+        double multiplier = 1;
+        for (; i < end; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                seenDigit = true;
+                if (digits < MAX_DIGITS) {
+                    if (mantissa != 0 || c != '0') digits++;
+                    mantissa = mantissa * 10 + (c - '0');
+                    if (seenPoint) exponent--;
+                } else if (!seenPoint) {
+                    exponent++;
+                }
+            } else if (c == ',' && !seenPoint && seenDigit) {
+                // Grouping separator
+            } else if (c == '.' && !seenPoint) {
+                seenPoint = true;
+            } else if (c == SECTION && i + 1 < end && isFormattingCode(text.charAt(i + 1))) {
+                i++;
+            } else {
+                break;
+            }
+        }
+        if (!seenDigit) return Double.NaN;
+        if (i < end) {
+            switch (text.charAt(i)) {
+                case 'k', 'K' -> {
+                    multiplier = 1_000;
+                    i++;
+                }
+                case 'm', 'M' -> {
+                    multiplier = 1_000_000;
+                    i++;
+                }
+                default -> {}
+            }
+        }
+        if (skipSpaceAndFormatting(text, i, end) != end) return Double.NaN;
+        double value;
+        if (exponent < 0) {
+            value = -exponent < POW10.length ? mantissa / POW10[-exponent] : mantissa / Math.pow(10, -exponent);
+        } else if (exponent > 0) {
+            value = mantissa * Math.pow(10, exponent);
+        } else {
+            value = mantissa;
+        }
+        value *= multiplier;
+        return negative ? -value : value;
+    }
+
+    public static double parseDouble(CharSequence text) {
+        return parseDouble(text, 0, text.length());
+    }
+
+    /**
+     * @return the number, or {@link Float#NaN} if the range is not a number
+     * @see #parseDouble(CharSequence, int, int)
+     */
+    public static float parseFloat(CharSequence text, int start, int end) {
+        return (float) parseDouble(text, start, end);
+    }
+
+    public static float parseFloat(CharSequence text) {
+        return parseFloat(text, 0, text.length());
+    }
+
+    /**
+     * Parses a whole number from the given range, a k or m suffix may turn a decimal into a whole number, such as 1.5k
+     * @return the number, or {@link #NO_INT} if the range is not a whole number that fits in an int
+     */
+    public static long parseInt(CharSequence text, int start, int end) {
+        double value = parseDouble(text, start, end);
+        if (Double.isNaN(value) || value != Math.rint(value) || value > Integer.MAX_VALUE || value < Integer.MIN_VALUE) {
+            return NO_INT;
+        }
+        return (long) value;
+    }
+
+    public static long parseInt(CharSequence text) {
+        return parseInt(text, 0, text.length());
+    }
+
+    private static int skipSpaceAndFormatting(CharSequence text, int i, int end) {
+        while (i < end) {
+            char c = text.charAt(i);
+            if (c == ' ') {
+                i++;
+            } else if (c == SECTION && i + 1 < end && isFormattingCode(text.charAt(i + 1))) {
+                i += 2;
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright (C) 2025 MisterCheezeCake
+ *
+ * This file is part of SkyblockTweaks.
+ *
+ * SkyblockTweaks is free software: you can redistribute it
+ * and/or modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SkyblockTweaks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SkyblockTweaks. If not, see <https://www.gnu.org/licenses/>.
+ */
+package wtf.cheeze.sbt.utils.text;
+
+import net.minecraft.text.Text;
+
+import java.util.Arrays;
+
+/**
+ * Formats numbers and durations into a reusable character buffer, producing the same text as {@link wtf.cheeze.sbt.utils.NumberUtils}
+ * and {@link wtf.cheeze.sbt.utils.timing.TimeUtils} did with {@link String#format(String, Object...)}, {@link StringBuilder} and {@link Double#toString(double)},
+ * digit for digit, without allocating while doing so.
+ * <p>
+ * A HUD that formats its text every frame keeps its own buffer, writes into it and calls {@link #string()} or {@link #text()}, which only create
+ * a new String or Text when the characters differ from the last ones they were created for. The static helpers share a buffer per thread from {@link #local()}.
+ */
+public final class FormatBuffer {
+
+    private static final ThreadLocal<FormatBuffer> LOCAL = ThreadLocal.withInitial(FormatBuffer::new);
+
+    private static final double[] POW10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9,
+            1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18
+    };
+
+    /**
+     * The two digits of every number below 100, so most digits are written two at a time
+     */
+    private static final char[] DIGIT_TENS = new char[100];
+    private static final char[] DIGIT_ONES = new char[100];
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            DIGIT_TENS[i] = (char) ('0' + i / 10);
+            DIGIT_ONES[i] = (char) ('0' + i % 10);
+        }
+    }
+
+    /**
+     * {@link Double#toString(double)} switches to scientific notation at 10^7, and below 10^-3 which four or more decimal places could reach
+     */
+    private static final double PLAIN_LIMIT = 1e7;
+    private static final int MAX_PLAIN_DECIMALS = 3;
+
+    private static final int MILLION = 1_000_000;
+    private static final int THOUSAND = 1_000;
+
+    private char[] chars = new char[32];
+    private int length = 0;
+
+    /**
+     * Scratch space for writing the digits of a number backwards
+     */
+    private final char[] digits = new char[20];
+
+    private char[] lastChars = new char[0];
+    private String lastString = null;
+    private Text lastText = null;
+
+    /**
+     * @return a buffer for the current thread, cleared, for formatting helpers that return a new String anyway
+     */
+    public static FormatBuffer local() {
+        return LOCAL.get().clear();
+    }
+
+    public FormatBuffer clear() {
+        length = 0;
+        return this;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public FormatBuffer append(char c) {
+        ensureCapacity(length + 1);
+        chars[length++] = c;
+        return this;
+    }
+
+    public FormatBuffer append(String s) {
+        int n = s.length();
+        ensureCapacity(length + n);
+        s.getChars(0, n, chars, length);
+        length += n;
+        return this;
+    }
+
+    /**
+     * Appends the number as {@link Long#toString(long)} would
+     */
+    public FormatBuffer append(long value) {
+        int n = writeDigits(value);
+        ensureCapacity(length + n);
+        for (int i = n - 1; i >= 0; i--) {
+            chars[length++] = digits[i];
+        }
+        return this;
+    }
+
+    /**
+     * Appends the number zero padded to two digits, as %02d would
+     */
+    public FormatBuffer appendTwoDigits(int value) {
+        if (value >= 0 && value < 100) {
+            ensureCapacity(length + 2);
+            chars[length++] = DIGIT_TENS[value];
+            chars[length++] = DIGIT_ONES[value];
+            return this;
+        }
+        // %02d only pads, so wider and negative numbers are written as they are
+        return append(value);
+    }
+
+    /**
+     * Appends the number with the separator between each group of three characters counted from the right,
+     * as {@link wtf.cheeze.sbt.utils.NumberUtils#formatNumber(long, String)} does, which counts the minus sign of a negative number as a character
+     */
+    public FormatBuffer appendGrouped(long value, String separator) {
+        int n = writeDigits(value);
+        int separatorLength = separator.length();
+        ensureCapacity(length + n + (n - 1) / 3 * separatorLength);
+        for (int i = n - 1; i >= 0; i--) {
+            chars[length++] = digits[i];
+            if (i % 3 == 0 && i != 0) {
+                separator.getChars(0, separatorLength, chars, length);
+                length += separatorLength;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Appends the number in thousands or millions with a K or M suffix once it reaches them, grouped with the separator
+     */
+    public FormatBuffer appendKOrM(int value, String separator) {
+        if (value >= MILLION) {
+            return appendGrouped(value / MILLION, separator).append('M');
+        } else if (value >= THOUSAND) {
+            return appendGrouped(value / THOUSAND, separator).append('K');
+        }
+        return appendGrouped(value, separator);
+    }
+
+    /**
+     * Appends the number rounded to the given decimal places as {@link wtf.cheeze.sbt.utils.NumberUtils#formattedRound(double, int)} does,
+     * printing the rounded double with trailing zeros removed but at least one decimal, or no decimals at all when rounding to a whole number
+     */
+    public FormatBuffer appendRounded(double value, int decimalPlaces) {
+        if (decimalPlaces < 0 || decimalPlaces > MAX_PLAIN_DECIMALS) {
+            return append(legacyRound(value, decimalPlaces));
+        }
+        double scale = POW10[decimalPlaces];
+        long scaled = Math.round(value * scale);
+        double rounded = scaled / scale;
+        if (!(Math.abs(rounded) < PLAIN_LIMIT)) {
+            return append(legacyRound(value, decimalPlaces));
+        }
+        // The rounded value has at most ten significant digits, few enough that Double.toString prints exactly these digits back
+        if (scaled < 0) {
+            append('-');
+            scaled = -scaled;
+        }
+        long whole = scaled / (long) scale;
+        long fraction = scaled % (long) scale;
+        append(whole);
+        if (decimalPlaces == 0) return this;
+        append('.');
+        if (fraction == 0) return append('0');
+        int places = decimalPlaces;
+        while (fraction % 10 == 0) {
+            fraction /= 10;
+            places--;
+        }
+        for (long pad = (long) POW10[places - 1]; pad > fraction; pad /= 10) {
+            append('0');
+        }
+        return append(fraction);
+    }
+
+    /**
+     * @return 10 to the given power, the same value {@link Math#pow(double, double)} gives, which is exact for these powers
+     */
+    public static double pow10(int exponent) {
+        return exponent >= 0 && exponent < POW10.length ? POW10[exponent] : Math.pow(10, exponent);
+    }
+
+    /**
+     * Appends the duration as 5s, 2m5s or 1h2m5s
+     */
+    public FormatBuffer appendDuration(int seconds) {
+        int hours = seconds / 3600;
+        int minutes = (seconds % 3600) / 60;
+        int secs = seconds % 60;
+        if (hours >= 1) {
+            append(hours).append('h');
+        }
+        if (hours >= 1 || minutes >= 1) {
+            append(minutes).append('m');
+        }
+        return append(secs).append('s');
+    }
+
+    /**
+     * Appends the duration as a clock, mm:ss or hh:mm:ss
+     */
+    public FormatBuffer appendClock(int seconds, boolean hours) {
+        if (hours) {
+            appendTwoDigits(seconds / 3600).append(':');
+        }
+        return appendTwoDigits((seconds % 3600) / 60).append(':').appendTwoDigits(seconds % 60);
+    }
+
+    @Override
+    public String toString() {
+        return new String(chars, 0, length);
+    }
+
+    /**
+     * @return the contents as a String, the same instance as last time if the contents have not changed since
+     */
+    public String string() {
+        if (lastString != null && Arrays.equals(chars, 0, length, lastChars, 0, lastChars.length)) {
+            return lastString;
+        }
+        lastChars = Arrays.copyOf(chars, length);
+        lastString = new String(chars, 0, length);
+        lastText = null;
+        return lastString;
+    }
+
+    /**
+     * @return the contents as a literal Text, the same instance as last time if the contents have not changed since
+     */
+    public Text text() {
+        var string = string();
+        if (lastText == null) lastText = Text.literal(string);
+        return lastText;
+    }
+
+    /**
+     * Writes the characters of {@link Long#toString(long)} into {@link #digits} backwards
+     * @return the number of characters
+     */
+    private int writeDigits(long value) {
+        if (value == Long.MIN_VALUE) {
+            var min = Long.toString(value);
+            for (int i = 0; i < min.length(); i++) {
+                digits[i] = min.charAt(min.length() - 1 - i);
+            }
+            return min.length();
+        }
+        boolean negative = value < 0;
+        if (negative) value = -value;
+        int n = 0;
+        while (value >= 100) {
+            int pair = (int) (value % 100);
+            value /= 100;
+            digits[n++] = DIGIT_ONES[pair];
+            digits[n++] = DIGIT_TENS[pair];
+        }
+        int last = (int) value;
+        digits[n++] = DIGIT_ONES[last];
+        if (last >= 10) digits[n++] = DIGIT_TENS[last];
+        if (negative) digits[n++] = '-';
+        return n;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > chars.length) {
+            chars = Arrays.copyOf(chars, Math.max(capacity, chars.length * 2));
+        }
+    }
+
+    /**
+     * The original formatting, for the inputs Double.toString would print in scientific notation
+     */
+    private static String legacyRound(double value, int decimalPlaces) {
+        double rounded = Math.round(value * Math.pow(10, decimalPlaces)) / Math.pow(10, decimalPlaces);
+        return decimalPlaces == 0 ? Double.toString(rounded).split("\\.")[0] : Double.toString(rounded);
+    }
+}
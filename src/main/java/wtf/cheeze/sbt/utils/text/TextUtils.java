@@ -25,8 +25,12 @@ import java.util.Arrays;
 public class TextUtils {
     public static final String SECTION  = "§";
 
+    /**
+     * Removes formatting codes from the text without going through regex
+     * @see CharScanner#stripFormatting(String)
+     */
     public static String removeFormatting(String text) {
-        return text.replaceAll("§[a-f0-9k-oA-FK-O]", "");
+        return CharScanner.stripFormatting(text);
     }
     public static final Text SPACE = Text.literal(" ");
     public static final Text NEW_LINE = Text.literal("\n");
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2024 MisterCheezeCake
+ *
+ * This file is part of SkyblockTweaks.
+ *
+ * SkyblockTweaks is free software: you can redistribute it
+ * and/or modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation, either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SkyblockTweaks is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with SkyblockTweaks. If not, see <https://www.gnu.org/licenses/>.
+ */
+package wtf.cheeze.sbt.utils.timing;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A map whose entries expire a set time after they were put, timed with {@link System#nanoTime()} so changes to the wall clock do not matter.
+ * <p>
+ * Lookups go straight to a hash index and expired entries are swept lazily from a queue ordered by expiry, which holds exactly the live entries.
+ * Lookups are O(1) plus the sweep, which costs O(log n) for each entry that expired since the last call. Putting a new key costs O(log n),
+ * while replacing or removing a key also takes its old entry out of the queue, which is a linear scan of the queue.
+ * The maps this is used for hold a handful of entries, so that is cheaper than tracking each entry's position in the queue.
+ * This class is not thread safe.
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public class ExpiringMap<K, V> {
+
+    private final long defaultTtl;
+    private final HashMap<K, Entry<K, V>> index = new HashMap<>();
+    private final PriorityQueue<Entry<K, V>> expiry = new PriorityQueue<>(Comparator.comparingLong(Entry::deadline));
+
+    /**
+     * @param ttl how long entries live for, unless put with a different time
+     */
+    public ExpiringMap(long ttl, TimeUnit unit) {
+        this.defaultTtl = unit.toNanos(ttl);
+    }
+
+    public void put(K key, V value) {
+        put(key, value, defaultTtl, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Puts the value with its own time to live, replacing the previous value and expiry of the key
+     */
+    public void put(K key, V value, long ttl, TimeUnit unit) {
+        long now = System.nanoTime();
+        sweep(now);
+        var entry = new Entry<>(key, value, now + unit.toNanos(ttl));
+        var old = index.put(key, entry);
+        if (old != null) expiry.remove(old);
+        expiry.add(entry);
+    }
+
+    /**
+     * @return the value, or null if there is none or it expired
+     */
+    public @Nullable V get(K key) {
+        sweep(System.nanoTime());
+        var entry = index.get(key);
+        return entry == null ? null : entry.value();
+    }
+
+    public boolean containsKey(K key) {
+        sweep(System.nanoTime());
+        return index.containsKey(key);
+    }
+
+    /**
+     * @return how long the entry has left in the given unit, or 0 if there is none
+     */
+    public long remaining(K key, TimeUnit unit) {
+        long now = System.nanoTime();
+        sweep(now);
+        var entry = index.get(key);
+        return entry == null ? 0 : unit.convert(entry.deadline() - now, TimeUnit.NANOSECONDS);
+    }
+
+    public @Nullable V remove(K key) {
+        sweep(System.nanoTime());
+        var entry = index.remove(key);
+        if (entry == null) return null;
+        expiry.remove(entry);
+        return entry.value();
+    }
+
+    public int size() {
+        sweep(System.nanoTime());
+        return index.size();
+    }
+
+    public void clear() {
+        index.clear();
+        expiry.clear();
+    }
+
+    private void sweep(long now) {
+        Entry<K, V> head;
+        while ((head = expiry.peek()) != null && head.deadline() - now <= 0) {
+            expiry.poll();
+            index.remove(head.key());
+        }
+    }
+
+    private record Entry<K, V>(K key, V value, long deadline) {}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (C) 2025 MisterCheezeCake
+ * Copyright (C) 2024 MisterCheezeCake
  *
  * This file is part of SkyblockTweaks.
  *
@@ -18,45 +18,39 @@
  */
 package wtf.cheeze.sbt.utils.timing;
 
-import java.util.HashSet;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * A set whose values expire a set time after they were last added, see {@link ExpiringMap} for how expiry works.
+ * Adding a value that is already present restarts its time.
+ * This class is not thread safe.
+ * @param <T> the type of the values
+ */
+public class ExpiringSet<T> {
 
-public class TimedSet<T> {
-
-    private final int expireTime;
-    private final Set<Entry<T>> backingSet = new HashSet<>();
-
+    private final ExpiringMap<T, Boolean> map;
 
-    public TimedSet(int expireTime) {
-        this.expireTime = expireTime;
+    public ExpiringSet(long ttl, TimeUnit unit) {
+        this.map = new ExpiringMap<>(ttl, unit);
     }
 
-    private Set<T> getValues() {
-        expiryCheck();
-        return backingSet.stream().map(Entry::value).collect(Collectors.toSet());
+    public void add(T value) {
+        map.put(value, Boolean.TRUE);
     }
 
     public boolean contains(T value) {
-        return getValues().contains(value);
-    }
-
-    public void add(T value) {
-        backingSet.add(new Entry<>(value, System.currentTimeMillis()));
+        return map.containsKey(value);
     }
 
     public void remove(T value) {
-        backingSet.removeIf(entry -> entry.value().equals(value));
+        map.remove(value);
     }
 
-    private void expiryCheck() {
-        long t = System.currentTimeMillis();
-        backingSet.removeIf(entry ->  t - entry.time() > expireTime);
+    public int size() {
+        return map.size();
     }
 
-
-    private record Entry<T>(T value, long time) {}
-
-
+    public void clear() {
+        map.clear();
+    }
 }
@@ -18,6 +18,8 @@
  */
 package wtf.cheeze.sbt.utils.timing;
 
+import wtf.cheeze.sbt.utils.text.FormatBuffer;
+
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.TimeZone;
@@ -55,30 +57,20 @@ public class TimeUtils {
         return time;
     }
 
+    /**
+     * @return the duration as 5s, 2m5s or 1h2m5s
+     * @see FormatBuffer#appendDuration(int)
+     */
     public static String toDuration(int seconds) {
-        int hours = seconds / SECONDS_PER_HOUR;
-        int minutes = (seconds % SECONDS_PER_HOUR) / MINUTES_PER_HOUR;
-        int secs = seconds % SECONDS_PER_MINUTE;
-        if (hours < 1) {
-            if (minutes < 1) {
-                return String.format("%ds", secs);
-            } else {
-                return String.format("%dm%ds", minutes, secs);
-            }
-        } else {
-            return String.format("%dh%dm%ds", hours, minutes, secs);
-        }
+        return FormatBuffer.local().appendDuration(seconds).toString();
     }
 
+    /**
+     * @return the duration as mm:ss, or hh:mm:ss if hours is set
+     * @see FormatBuffer#appendClock(int, boolean)
+     */
     public static String formatTime(int seconds, boolean hours) {
-        int hoursInt = seconds / SECONDS_PER_HOUR;
-        int minutes = (seconds % SECONDS_PER_HOUR) / MINUTES_PER_HOUR;
-        int secs = seconds % SECONDS_PER_MINUTE;
-        if (hours) {
-            return String.format("%02d:%02d:%02d", hoursInt, minutes, secs);
-        } else {
-            return String.format("%02d:%02d", minutes, secs);
-        }
+        return FormatBuffer.local().appendClock(seconds, hours).toString();
     }
 
     public static String epochToDate(long epoch) {
@@ -89,6 +81,27 @@ public class TimeUtils {
        return Instant.ofEpochMilli(epoch).atZone(US_EAST).getDayOfMonth();
     }
 
+    /**
+     * @return the start of the second after the given time, in milliseconds since the epoch
+     */
+    public static long nextSecond(long epoch) {
+        return Math.floorDiv(epoch, 1000L) * 1000L + 1000L;
+    }
+
+    /**
+     * @return the start of the minute after the given time, in milliseconds since the epoch, assuming the local UTC offset is a whole number of minutes
+     */
+    public static long nextMinute(long epoch) {
+        return Math.floorDiv(epoch, 60_000L) * 60_000L + 60_000L;
+    }
+
+    /**
+     * @return the next midnight in the US-East timezone after the given time, in milliseconds since the epoch
+     */
+    public static long nextMidnightET(long epoch) {
+        return Instant.ofEpochMilli(epoch).atZone(US_EAST).toLocalDate().plusDays(1).atStartOfDay(US_EAST).toInstant().toEpochMilli();
+    }
+
     public static boolean isInSameDayET(long epoch1, long epoch2) {
         return Instant.ofEpochMilli(epoch1).atZone(US_EAST).getYear() == Instant.ofEpochMilli(epoch2).atZone(US_EAST).getYear() &&
                 Instant.ofEpochMilli(epoch1).atZone(US_EAST).getDayOfYear() == Instant.ofEpochMilli(epoch2).atZone(US_EAST).getDayOfYear();